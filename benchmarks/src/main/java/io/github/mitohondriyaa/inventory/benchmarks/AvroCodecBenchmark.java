@@ -0,0 +1,92 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AvroCodecBenchmark {
+    private KafkaAvroSerializer serializer;
+    private KafkaAvroDeserializer deserializer;
+    private OrderPlacedEvent orderPlacedEvent;
+    private OrderCancelledEvent orderCancelledEvent;
+    private InventoryReservedEvent inventoryReservedEvent;
+    private InventoryRejectedEvent inventoryRejectedEvent;
+    private byte[] orderPlacedBytes;
+    private byte[] orderCancelledBytes;
+
+    @Setup
+    public void setUp() {
+        SchemaRegistryClient schemaRegistryClient = new MockSchemaRegistryClient();
+        Map<String, Object> properties = Map.of(
+            "schema.registry.url", "mock://benchmarks",
+            "specific.avro.reader", true
+        );
+        serializer = new KafkaAvroSerializer(schemaRegistryClient, properties);
+        deserializer = new KafkaAvroDeserializer(schemaRegistryClient, properties);
+
+        orderPlacedEvent = BenchmarkEvents.orderPlacedEvent();
+        orderCancelledEvent = BenchmarkEvents.orderCancelledEvent();
+        inventoryReservedEvent = BenchmarkEvents.inventoryReservedEvent();
+        inventoryRejectedEvent = BenchmarkEvents.inventoryRejectedEvent();
+
+        orderPlacedBytes = serializer.serialize("order-placed", orderPlacedEvent);
+        orderCancelledBytes = serializer.serialize("order-cancelled", orderCancelledEvent);
+        serializer.serialize("inventory-reserved", inventoryReservedEvent);
+        serializer.serialize("inventory-rejected", inventoryRejectedEvent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public Object decodeOrderPlaced() {
+        return deserializer.deserialize("order-placed", orderPlacedBytes);
+    }
+
+    @Benchmark
+    public Object decodeOrderCancelled() {
+        return deserializer.deserialize("order-cancelled", orderCancelledBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderPlaced() {
+        return serializer.serialize("order-placed", orderPlacedEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderCancelled() {
+        return serializer.serialize("order-cancelled", orderCancelledEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeInventoryReserved() {
+        return serializer.serialize("inventory-reserved", inventoryReservedEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeInventoryRejected() {
+        return serializer.serialize("inventory-rejected", inventoryRejectedEvent);
+    }
+}
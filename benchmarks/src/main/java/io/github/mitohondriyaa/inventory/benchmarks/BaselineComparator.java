@@ -0,0 +1,146 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BaselineComparator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: BaselineComparator <result.json> <baseline.json> <threshold-percent> <report.md>");
+            System.exit(2);
+        }
+
+        Path resultPath = Path.of(args[0]);
+        Path baselinePath = Path.of(args[1]);
+        double thresholdPercent = Double.parseDouble(args[2]);
+        Path reportPath = Path.of(args[3]);
+
+        Map<String, Score> results = readScores(resultPath);
+        Map<String, Score> baseline = Files.exists(baselinePath)
+            ? readScores(baselinePath)
+            : Map.of();
+        List<Comparison> comparisons = new ArrayList<>();
+
+        results.forEach((key, score) -> comparisons.add(
+            new Comparison(key, baseline.get(key), score, thresholdPercent)
+        ));
+
+        String report = report(comparisons, baselinePath, thresholdPercent);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, report);
+        System.out.println(report);
+
+        if (baseline.isEmpty()) {
+            System.out.println("No baseline at " + baselinePath + ", copy " + resultPath + " there to record one");
+        }
+
+        if (comparisons.stream().anyMatch(Comparison::isRegression)) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> readScores(Path path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+
+        for (JsonNode run : OBJECT_MAPPER.readTree(path.toFile())) {
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").fields()
+                .forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+
+            String key = params.isEmpty()
+                ? run.get("benchmark").asText()
+                : run.get("benchmark").asText() + params;
+            JsonNode primaryMetric = run.get("primaryMetric");
+
+            scores.put(key, new Score(
+                run.get("mode").asText(),
+                primaryMetric.get("score").asDouble(),
+                primaryMetric.path("scoreError").asDouble(Double.NaN),
+                primaryMetric.get("scoreUnit").asText()
+            ));
+        }
+
+        return scores;
+    }
+
+    private static String report(List<Comparison> comparisons, Path baselinePath, double thresholdPercent) {
+        StringBuilder report = new StringBuilder()
+            .append("# JMH comparison against ").append(baselinePath.getFileName()).append('\n')
+            .append('\n')
+            .append("Regression threshold: ").append(thresholdPercent).append("%\n")
+            .append('\n')
+            .append("| Benchmark | Mode | Unit | Baseline | Current | Change | Status |\n")
+            .append("|---|---|---|---|---|---|---|\n");
+
+        for (Comparison comparison : comparisons) {
+            report.append("| ").append(comparison.key())
+                .append(" | ").append(comparison.current().mode())
+                .append(" | ").append(comparison.current().unit())
+                .append(" | ").append(comparison.baseline() == null ? "-" : comparison.baseline().format())
+                .append(" | ").append(comparison.current().format())
+                .append(" | ").append(comparison.baseline() == null
+                    ? "-"
+                    : String.format("%+.1f%%", comparison.changePercent()))
+                .append(" | ").append(comparison.status())
+                .append(" |\n");
+        }
+
+        long regressions = comparisons.stream().filter(Comparison::isRegression).count();
+        report.append('\n')
+            .append(regressions == 0 ? "No regressions" : regressions + " regression(s)")
+            .append('\n');
+
+        return report.toString();
+    }
+
+    private record Score(String mode, double value, double error, String unit) {
+        boolean isHigherBetter() {
+            return mode.equals("thrpt");
+        }
+
+        String format() {
+            return Double.isNaN(error)
+                ? String.format("%.3f", value)
+                : String.format("%.3f ± %.3f", value, error);
+        }
+    }
+
+    private record Comparison(String key, Score baseline, Score current, double thresholdPercent) {
+        double changePercent() {
+            return (current.value() - baseline.value()) / baseline.value() * 100;
+        }
+
+        boolean isRegression() {
+            if (baseline == null || !baseline.unit().equals(current.unit())) {
+                return false;
+            }
+
+            double worsePercent = current.isHigherBetter() ? -changePercent() : changePercent();
+
+            return worsePercent > thresholdPercent;
+        }
+
+        String status() {
+            if (baseline == null) {
+                return "NEW";
+            }
+
+            if (!baseline.unit().equals(current.unit())) {
+                return "UNIT CHANGED";
+            }
+
+            return isRegression() ? "REGRESSION" : "OK";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+
+final class BenchmarkEvents {
+    static final String ORDER_NUMBER = "748f7f87ff78893983k";
+    static final String PRODUCT_ID = "4f8e3c2a-9b1d-4c7e-8a5f-2d6b0e9c1a73";
+    static final String EMAIL = "test@example.com";
+    static final String FIRST_NAME = "Alexander";
+    static final String LAST_NAME = "Sidorov";
+
+    private BenchmarkEvents() {
+    }
+
+    static OrderPlacedEvent orderPlacedEvent() {
+        OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+        orderPlacedEvent.setOrderNumber(ORDER_NUMBER);
+        orderPlacedEvent.setProductId(PRODUCT_ID);
+        orderPlacedEvent.setQuantity(10);
+        orderPlacedEvent.setEmail(EMAIL);
+        orderPlacedEvent.setFirstName(FIRST_NAME);
+        orderPlacedEvent.setLastName(LAST_NAME);
+
+        return orderPlacedEvent;
+    }
+
+    static OrderCancelledEvent orderCancelledEvent() {
+        OrderCancelledEvent orderCancelledEvent = new OrderCancelledEvent();
+        orderCancelledEvent.setOrderNumber(ORDER_NUMBER);
+        orderCancelledEvent.setProductId(PRODUCT_ID);
+        orderCancelledEvent.setQuantity(10);
+        orderCancelledEvent.setEmail(EMAIL);
+        orderCancelledEvent.setFirstName(FIRST_NAME);
+        orderCancelledEvent.setLastName(LAST_NAME);
+
+        return orderCancelledEvent;
+    }
+
+    static InventoryReservedEvent inventoryReservedEvent() {
+        InventoryReservedEvent inventoryReservedEvent = new InventoryReservedEvent();
+        inventoryReservedEvent.setOrderNumber(ORDER_NUMBER);
+        inventoryReservedEvent.setEmail(EMAIL);
+        inventoryReservedEvent.setFirstName(FIRST_NAME);
+        inventoryReservedEvent.setLastName(LAST_NAME);
+
+        return inventoryReservedEvent;
+    }
+
+    static InventoryRejectedEvent inventoryRejectedEvent() {
+        InventoryRejectedEvent inventoryRejectedEvent = new InventoryRejectedEvent();
+        inventoryRejectedEvent.setOrderNumber(ORDER_NUMBER);
+        inventoryRejectedEvent.setEmail(EMAIL);
+        inventoryRejectedEvent.setFirstName(FIRST_NAME);
+        inventoryRejectedEvent.setLastName(LAST_NAME);
+
+        return inventoryRejectedEvent;
+    }
+}
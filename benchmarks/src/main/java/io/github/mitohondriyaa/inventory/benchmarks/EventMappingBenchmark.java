@@ -0,0 +1,50 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import io.github.mitohondriyaa.inventory.service.InventoryEventMapper;
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventMappingBenchmark {
+    private final InventoryEventMapper inventoryEventMapper = new InventoryEventMapper();
+    private OrderPlacedEvent orderPlacedEvent;
+    private OrderCancelledEvent orderCancelledEvent;
+
+    @Setup
+    public void setUp() {
+        orderPlacedEvent = BenchmarkEvents.orderPlacedEvent();
+        orderCancelledEvent = BenchmarkEvents.orderCancelledEvent();
+    }
+
+    @Benchmark
+    public ProducerRecord<String, Object> orderPlacedToInventoryReserved() {
+        return inventoryEventMapper.inventoryReserved(orderPlacedEvent);
+    }
+
+    @Benchmark
+    public ProducerRecord<String, Object> orderPlacedToInventoryRejected() {
+        return inventoryEventMapper.inventoryRejected(orderPlacedEvent);
+    }
+
+    @Benchmark
+    public ProducerRecord<String, Object> orderCancelledToInventoryRejected() {
+        return inventoryEventMapper.inventoryRejected(orderCancelledEvent);
+    }
+
+    @Benchmark
+    public byte[] messageId() {
+        return inventoryEventMapper.newMessageId();
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+    private final KeycloakRealmRoleConverter converter = new KeycloakRealmRoleConverter();
+    private JwtDecoder verifyingDecoder;
+    private JwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("order-service")
+            .issueTime(new Date())
+            .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+            .claim("realm_access", Map.of("roles", List.of("INVENTORY_MANAGER", "offline_access")))
+            .build();
+        SignedJWT signedJwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        signedJwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = signedJwt.serialize();
+
+        verifyingDecoder = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        cachingDecoder = new CachingJwtDecoder(
+            verifyingDecoder,
+            10_000,
+            Duration.ofMinutes(5),
+            Clock.systemUTC(),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @Benchmark
+    public JwtAuthenticationToken verifyEveryRequest() {
+        return converter.convert(verifyingDecoder.decode(token));
+    }
+
+    @Benchmark
+    public JwtAuthenticationToken cachedVerification() {
+        return converter.convert(cachingDecoder.decode(token));
+    }
+}
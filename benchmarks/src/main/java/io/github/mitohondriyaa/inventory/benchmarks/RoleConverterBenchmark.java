@@ -0,0 +1,52 @@
+package io.github.mitohondriyaa.inventory.benchmarks;
+
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoleConverterBenchmark {
+    @Param({"0", "2", "20"})
+    private int roleCount;
+    private final KeycloakRealmRoleConverter converter = new KeycloakRealmRoleConverter();
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("benchmark-user")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(3600));
+
+        if (roleCount > 0) {
+            List<String> roles = IntStream.range(0, roleCount)
+                .mapToObj(index -> index == 0 ? "INVENTORY_ADMIN" : "role-" + index)
+                .toList();
+            builder.claim("realm_access", Map.of("roles", roles));
+        }
+
+        jwt = builder.build();
+    }
+
+    @Benchmark
+    public JwtAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+}
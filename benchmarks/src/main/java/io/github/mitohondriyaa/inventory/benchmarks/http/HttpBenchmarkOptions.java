@@ -0,0 +1,72 @@
+package io.github.mitohondriyaa.inventory.benchmarks.http;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public record HttpBenchmarkOptions(
+    List<Integer> tableSizes,
+    List<Integer> concurrencyLevels,
+    List<Endpoint> endpoints,
+    int warmupSeconds,
+    int measureSeconds,
+    int tokenCount,
+    int rpcBatchSize,
+    Path serviceJar,
+    List<String> serviceJvmArguments,
+    List<String> serviceArguments,
+    Path reportDirectory
+) {
+    private static final String DEFAULT_ENDPOINTS
+        = "CHECK,PRODUCT,LIST,RPC_CHECK,RPC_BATCH_CHECK,REACTIVE_CHECK,REACTIVE_PRODUCT,REACTIVE_LIST";
+
+    public static HttpBenchmarkOptions fromSystemProperties() {
+        return new HttpBenchmarkOptions(
+            integers(System.getProperty("bench.http.table-sizes", "1000,100000")),
+            integers(System.getProperty("bench.http.concurrency", "1,16,64,256")),
+            words(System.getProperty("bench.http.endpoints", DEFAULT_ENDPOINTS), ",").stream()
+                .map(Endpoint::valueOf)
+                .toList(),
+            Integer.getInteger("bench.http.warmup-seconds", 10),
+            Integer.getInteger("bench.http.measure-seconds", 30),
+            Integer.getInteger("bench.http.token-count", 100),
+            Integer.getInteger("bench.http.rpc-batch-size", 50),
+            Path.of(System.getProperty("bench.http.service-jar", "../target/inventory-service-0.0.1-SNAPSHOT-exec.jar")),
+            words(System.getProperty("bench.http.service-jvm-args", "-Xms1g -Xmx1g"), " "),
+            words(System.getProperty("bench.http.service-args", ""), " "),
+            Path.of(System.getProperty("bench.http.report-dir", "target/http-benchmark"))
+        );
+    }
+
+    private static List<Integer> integers(String value) {
+        return words(value, ",").stream()
+            .map(Integer::valueOf)
+            .toList();
+    }
+
+    private static List<String> words(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+            .map(String::trim)
+            .filter(word -> !word.isEmpty())
+            .toList();
+    }
+
+    public enum Endpoint {
+        CHECK,
+        PRODUCT,
+        LIST,
+        RPC_CHECK,
+        RPC_BATCH_CHECK,
+        REACTIVE_CHECK,
+        REACTIVE_PRODUCT,
+        REACTIVE_LIST;
+
+        public boolean isRpc() {
+            return this == RPC_CHECK || this == RPC_BATCH_CHECK;
+        }
+
+        public boolean isReactive() {
+            return this == REACTIVE_CHECK || this == REACTIVE_PRODUCT || this == REACTIVE_LIST;
+        }
+    }
+}
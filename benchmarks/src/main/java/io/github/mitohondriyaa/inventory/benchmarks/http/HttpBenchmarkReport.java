@@ -0,0 +1,101 @@
+package io.github.mitohondriyaa.inventory.benchmarks.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.mitohondriyaa.inventory.benchmarks.load.LoadReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+public record HttpBenchmarkReport(
+    Instant finishedAt,
+    HttpBenchmarkOptions options,
+    List<ScenarioResult> scenarios,
+    long jwksRequests
+) {
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder()
+            .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n")
+            .append("<title>Inventory HTTP benchmark ").append(finishedAt).append("</title>\n")
+            .append("<style>body{font-family:sans-serif}td,th{padding:4px 10px;text-align:right}")
+            .append("th:first-child,td:first-child{text-align:left}</style>\n")
+            .append("</head>\n<body>\n")
+            .append("<h1>Inventory HTTP benchmark</h1>\n")
+            .append("<p>Service JVM arguments: ").append(String.join(" ", options.serviceJvmArguments()))
+            .append("<br>Service arguments: ").append(String.join(" ", options.serviceArguments()))
+            .append("<br>Warm-up ").append(options.warmupSeconds()).append(" s, measurement ")
+            .append(options.measureSeconds()).append(" s, ").append(options.tokenCount()).append(" distinct tokens")
+            .append("<br>REACTIVE_* scenarios report the R2DBC pool in the DB columns")
+            .append("<br>RPC_BATCH_CHECK requests carry ").append(options.rpcBatchSize()).append(" checks each")
+            .append("<br>JWKS requests: ").append(jwksRequests).append("</p>\n")
+            .append("<table>\n<tr><th>Endpoint</th><th>Rows</th><th>Concurrency</th><th>Requests/s</th>")
+            .append("<th>Errors</th><th>p50 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>Max ms</th>")
+            .append("<th>Response bytes</th><th>Alloc MB/s</th><th>Alloc bytes/req</th><th>CPU</th>")
+            .append("<th>DB active (max/pool)</th><th>DB pending max</th><th>Tomcat busy (max/pool)</th><th>JVM threads max</th></tr>\n");
+
+        for (ScenarioResult scenario : scenarios) {
+            html.append("<tr><td>").append(scenario.endpoint())
+                .append("</td><td>").append(scenario.tableSize())
+                .append("</td><td>").append(scenario.concurrency())
+                .append("</td><td>").append("%.0f".formatted(scenario.throughput()))
+                .append("</td><td>").append(scenario.errors())
+                .append("</td><td>").append("%.2f".formatted(scenario.latency().p50Millis()))
+                .append("</td><td>").append("%.2f".formatted(scenario.latency().p99Millis()))
+                .append("</td><td>").append("%.2f".formatted(scenario.latency().p999Millis()))
+                .append("</td><td>").append("%.2f".formatted(scenario.latency().maxMillis()))
+                .append("</td><td>").append("%.0f".formatted(scenario.averageResponseBytes()))
+                .append("</td><td>").append("%.1f".formatted(scenario.allocationMegabytesPerSecond()))
+                .append("</td><td>").append("%.0f".formatted(scenario.allocatedBytesPerRequest()))
+                .append("</td><td>").append("%.0f%%".formatted(scenario.saturation().averageProcessCpu() * 100))
+                .append("</td><td>").append("%.0f/%.0f".formatted(
+                    scenario.saturation().maxDatabaseActive(),
+                    scenario.saturation().databasePoolSize()))
+                .append("</td><td>").append("%.0f".formatted(scenario.saturation().maxDatabasePending()))
+                .append("</td><td>").append("%.0f/%.0f".formatted(
+                    scenario.saturation().maxTomcatBusy(),
+                    scenario.saturation().tomcatMaxThreads()))
+                .append("</td><td>").append("%.0f".formatted(scenario.saturation().maxLiveThreads()))
+                .append("</td></tr>\n");
+        }
+
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    public record ScenarioResult(
+        HttpBenchmarkOptions.Endpoint endpoint,
+        int tableSize,
+        int concurrency,
+        long requests,
+        long errors,
+        double throughput,
+        LoadReport.Latency latency,
+        double averageResponseBytes,
+        double allocationMegabytesPerSecond,
+        double allocatedBytesPerRequest,
+        Saturation saturation
+    ) {}
+
+    public record Saturation(
+        double maxDatabaseActive,
+        double databasePoolSize,
+        double maxDatabasePending,
+        double maxTomcatBusy,
+        double tomcatMaxThreads,
+        double maxLiveThreads,
+        double averageProcessCpu
+    ) {}
+}
@@ -0,0 +1,423 @@
+package io.github.mitohondriyaa.inventory.benchmarks.http;
+
+import com.nimbusds.jose.JOSEException;
+import io.github.mitohondriyaa.inventory.benchmarks.load.LoadEnvironment;
+import io.github.mitohondriyaa.inventory.benchmarks.load.LoadReport;
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.rpc.StockRpcClient;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class HttpBenchmarkRunner {
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final Duration CACHE_CATCH_UP = Duration.ofSeconds(3);
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500);
+    private static final int RPC_FRAME_OVERHEAD_BYTES = 4 + 1 + 4;
+
+    public static void main(String[] args) throws Exception {
+        HttpBenchmarkOptions options = HttpBenchmarkOptions.fromSystemProperties();
+        Path workDirectory = Files.createTempDirectory("inventory-http-benchmark");
+        int port = freePort();
+        int rpcPort = freePort();
+        int reactivePort = freePort();
+        List<HttpBenchmarkReport.ScenarioResult> results = new ArrayList<>();
+        HttpBenchmarkReport report;
+
+        try (LoadEnvironment environment = new LoadEnvironment(); StandInIssuer issuer = new StandInIssuer()) {
+            environment.start();
+
+            List<String> applicationArguments = new ArrayList<>(environment.applicationArguments(workDirectory, port));
+            applicationArguments.add("--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer.getIssuer());
+            applicationArguments.add("--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.getJwkSetUri());
+            applicationArguments.add("--server.tomcat.mbeanregistry.enabled=true");
+            applicationArguments.add("--inventory.rpc.enabled=true");
+            applicationArguments.add("--inventory.rpc.port=" + rpcPort);
+            applicationArguments.add("--inventory.reactive.enabled=true");
+            applicationArguments.add("--inventory.reactive.port=" + reactivePort);
+            applicationArguments.add("--inventory.reactive.r2dbc.url=" + r2dbcUrl(environment.jdbcUrl()));
+            applicationArguments.add("--inventory.reactive.r2dbc.username=" + environment.databaseUsername());
+            applicationArguments.add("--inventory.reactive.r2dbc.password=" + environment.databasePassword());
+            applicationArguments.addAll(options.serviceArguments());
+
+            try (ServiceProcess service = ServiceProcess.start(
+                options.serviceJar(),
+                options.serviceJvmArguments(),
+                applicationArguments,
+                port,
+                workDirectory.resolve("service.log")
+            )) {
+                service.awaitLive(Duration.ofMinutes(3));
+                log.info("Service is up, log at {}", workDirectory.resolve("service.log"));
+
+                List<String> tokens = mintTokens(issuer, options.tokenCount());
+                HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+                for (int tableSize : options.tableSizes()) {
+                    seedInventory(environment, tableSize);
+                    Thread.sleep(CACHE_CATCH_UP.toMillis());
+
+                    for (HttpBenchmarkOptions.Endpoint endpoint : options.endpoints()) {
+                        for (int concurrency : options.concurrencyLevels()) {
+                            Scenario scenario = new Scenario(
+                                httpClient,
+                                service,
+                                new InetSocketAddress("127.0.0.1", rpcPort),
+                                URI.create("http://localhost:" + reactivePort),
+                                tokens,
+                                endpoint,
+                                tableSize,
+                                concurrency,
+                                options.rpcBatchSize()
+                            );
+                            HttpBenchmarkReport.ScenarioResult result = scenario.run(options);
+                            results.add(result);
+
+                            log.info("{} rows={} concurrency={}: {} req/s, p50={} ms, p99={} ms, errors={}",
+                                endpoint,
+                                tableSize,
+                                concurrency,
+                                "%.0f".formatted(result.throughput()),
+                                "%.2f".formatted(result.latency().p50Millis()),
+                                "%.2f".formatted(result.latency().p99Millis()),
+                                result.errors()
+                            );
+                        }
+                    }
+                }
+            }
+
+            report = new HttpBenchmarkReport(Instant.now(), options, results, issuer.getJwksRequests().get());
+        }
+
+        report.write(options.reportDirectory());
+        log.info("Report written to {}", options.reportDirectory().toAbsolutePath());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private static String r2dbcUrl(String jdbcUrl) {
+        String url = jdbcUrl.replaceFirst("^jdbc:", "r2dbc:");
+        int parameters = url.indexOf('?');
+
+        return parameters >= 0 ? url.substring(0, parameters) : url;
+    }
+
+    private static List<String> mintTokens(StandInIssuer issuer, int count) throws JOSEException {
+        List<String> tokens = new ArrayList<>();
+
+        for (int index = 0; index < count; index++) {
+            tokens.add(issuer.mint("benchmark-user-" + index, Duration.ofHours(12)));
+        }
+
+        return tokens;
+    }
+
+    private static String productId(int product) {
+        return "bench-product-%07d".formatted(product);
+    }
+
+    private static void seedInventory(LoadEnvironment environment, int tableSize) throws SQLException {
+        String jdbcUrl = environment.jdbcUrl()
+            + (environment.jdbcUrl().contains("?") ? "&" : "?")
+            + "rewriteBatchedStatements=true";
+
+        try (Connection connection = DriverManager.getConnection(
+            jdbcUrl,
+            environment.databaseUsername(),
+            environment.databasePassword()
+        )) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM t_inventory");
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO t_inventory (product_id, quantity) VALUES (?, ?)"
+            )) {
+                for (int product = 0; product < tableSize; product++) {
+                    statement.setString(1, productId(product));
+                    statement.setInt(2, 1 + product % 1000);
+                    statement.addBatch();
+
+                    if ((product + 1) % SEED_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private record Scenario(
+        HttpClient httpClient,
+        ServiceProcess service,
+        InetSocketAddress rpcAddress,
+        URI reactiveBaseUri,
+        List<String> tokens,
+        HttpBenchmarkOptions.Endpoint endpoint,
+        int tableSize,
+        int concurrency,
+        int rpcBatchSize
+    ) {
+        HttpBenchmarkReport.ScenarioResult run(HttpBenchmarkOptions options) throws Exception {
+            verifyFirstRequest();
+            drive(Duration.ofSeconds(options.warmupSeconds()));
+
+            Map<String, Double> before = service.scrapeMetrics();
+            SaturationSampler sampler = new SaturationSampler(service, endpoint.isReactive());
+            Thread samplerThread = Thread.ofPlatform().name("http-benchmark-sampler").start(sampler);
+            long startedAt = System.nanoTime();
+            DriveResult driveResult = drive(Duration.ofSeconds(options.measureSeconds()));
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+            samplerThread.interrupt();
+            samplerThread.join();
+            Map<String, Double> after = service.scrapeMetrics();
+
+            double allocatedBytes = after.getOrDefault("jvm_gc_memory_allocated_bytes_total", 0.0)
+                - before.getOrDefault("jvm_gc_memory_allocated_bytes_total", 0.0);
+            long requests = driveResult.latencyMicros().getTotalCount();
+
+            return new HttpBenchmarkReport.ScenarioResult(
+                endpoint,
+                tableSize,
+                concurrency,
+                requests,
+                driveResult.errors(),
+                requests / elapsedSeconds,
+                LoadReport.Latency.from(driveResult.latencyMicros()),
+                requests == 0 ? 0 : (double) driveResult.responseBytes() / requests,
+                allocatedBytes / elapsedSeconds / (1024 * 1024),
+                requests == 0 ? 0 : allocatedBytes / requests,
+                sampler.saturation()
+            );
+        }
+
+        // Every later failure is only counted, so a misconfigured run (e.g. a 401 from a
+        // JWKS mismatch) would otherwise report error latencies as if they were real.
+        private void verifyFirstRequest() throws IOException, InterruptedException {
+            if (endpoint.isRpc()) {
+                try (StockRpcClient client = StockRpcClient.connect(rpcAddress, tokens.getFirst())) {
+                    client.check(productId(0), 1);
+                }
+
+                return;
+            }
+
+            HttpRequest request = HttpRequest.newBuilder(uri(0))
+                .header("Authorization", "Bearer " + tokens.getFirst())
+                .timeout(Duration.ofSeconds(30))
+                .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(
+                    "First " + endpoint + " request failed with " + response.statusCode() + ": " + response.body()
+                );
+            }
+        }
+
+        private DriveResult drive(Duration duration) throws Exception {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<DriveResult>> workers = new ArrayList<>();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int worker = 0; worker < concurrency; worker++) {
+                    int workerIndex = worker;
+                    workers.add(executor.submit(() -> endpoint.isRpc()
+                        ? workRpc(workerIndex, deadline)
+                        : work(workerIndex, deadline)));
+                }
+            }
+
+            Histogram latencyMicros = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+            long errors = 0;
+            long responseBytes = 0;
+
+            for (Future<DriveResult> worker : workers) {
+                DriveResult result = worker.get();
+                latencyMicros.add(result.latencyMicros());
+                errors += result.errors();
+                responseBytes += result.responseBytes();
+            }
+
+            return new DriveResult(latencyMicros, errors, responseBytes);
+        }
+
+        private DriveResult work(int workerIndex, long deadline) throws InterruptedException {
+            Histogram latencyMicros = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long errors = 0;
+            long responseBytes = 0;
+            int requestIndex = workerIndex;
+
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = HttpRequest.newBuilder(uri(random.nextInt(tableSize)))
+                    .header("Authorization", "Bearer " + tokens.get(requestIndex++ % tokens.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+                long startedAt = System.nanoTime();
+
+                try {
+                    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    latencyMicros.recordValue(Math.min(
+                        latencyMicros.getHighestTrackableValue(),
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt)
+                    ));
+                    responseBytes += response.body().length;
+
+                    if (response.statusCode() != 200) {
+                        errors++;
+                    }
+                } catch (IOException exception) {
+                    errors++;
+                }
+            }
+
+            return new DriveResult(latencyMicros, errors, responseBytes);
+        }
+
+        private DriveResult workRpc(int workerIndex, long deadline) {
+            Histogram latencyMicros = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long errors = 0;
+            long responseBytes = 0;
+
+            try (StockRpcClient client = StockRpcClient.connect(rpcAddress, tokens.get(workerIndex % tokens.size()))) {
+                while (System.nanoTime() < deadline) {
+                    long startedAt = System.nanoTime();
+
+                    try {
+                        if (endpoint == HttpBenchmarkOptions.Endpoint.RPC_CHECK) {
+                            client.check(productId(random.nextInt(tableSize)), 1);
+                            responseBytes += RPC_FRAME_OVERHEAD_BYTES + 1;
+                        } else {
+                            List<InventoryRequest> checks = new ArrayList<>(rpcBatchSize);
+
+                            for (int check = 0; check < rpcBatchSize; check++) {
+                                checks.add(new InventoryRequest(productId(random.nextInt(tableSize)), 1));
+                            }
+
+                            client.batchCheck(checks);
+                            responseBytes += RPC_FRAME_OVERHEAD_BYTES + 4 + rpcBatchSize;
+                        }
+
+                        latencyMicros.recordValue(Math.min(
+                            latencyMicros.getHighestTrackableValue(),
+                            TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt)
+                        ));
+                    } catch (RuntimeException exception) {
+                        errors++;
+                    }
+                }
+            }
+
+            return new DriveResult(latencyMicros, errors, responseBytes);
+        }
+
+        private URI uri(int product) {
+            String path = switch (endpoint) {
+                case CHECK, REACTIVE_CHECK -> "/api/inventory/check?productId=" + productId(product) + "&quantity=1";
+                case PRODUCT, REACTIVE_PRODUCT -> "/api/inventory/" + productId(product);
+                case LIST, REACTIVE_LIST -> "/api/inventory";
+                case RPC_CHECK, RPC_BATCH_CHECK -> throw new IllegalStateException(endpoint + " is not an HTTP endpoint");
+            };
+
+            return (endpoint.isReactive() ? reactiveBaseUri : service.baseUri()).resolve(path);
+        }
+    }
+
+    private record DriveResult(Histogram latencyMicros, long errors, long responseBytes) {}
+
+    private static class SaturationSampler implements Runnable {
+        private final ServiceProcess service;
+        private final boolean reactive;
+        private double maxDatabaseActive;
+        private double databasePoolSize;
+        private double maxDatabasePending;
+        private double maxTomcatBusy;
+        private double tomcatMaxThreads;
+        private double maxLiveThreads;
+        private double processCpuTotal;
+        private int samples;
+
+        SaturationSampler(ServiceProcess service, boolean reactive) {
+            this.service = service;
+            this.reactive = reactive;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Map<String, Double> metrics = service.scrapeMetrics();
+                    if (reactive) {
+                        maxDatabaseActive = Math.max(maxDatabaseActive, metrics.getOrDefault("r2dbc_pool_acquired_connections", 0.0));
+                        maxDatabasePending = Math.max(maxDatabasePending, metrics.getOrDefault("r2dbc_pool_pending_connections", 0.0));
+                        databasePoolSize = metrics.getOrDefault("r2dbc_pool_max_allocated_size", databasePoolSize);
+                    } else {
+                        maxDatabaseActive = Math.max(maxDatabaseActive, metrics.getOrDefault("hikaricp_connections_active", 0.0));
+                        maxDatabasePending = Math.max(maxDatabasePending, metrics.getOrDefault("hikaricp_connections_pending", 0.0));
+                        databasePoolSize = metrics.getOrDefault("hikaricp_connections_max", databasePoolSize);
+                    }
+
+                    maxTomcatBusy = Math.max(maxTomcatBusy, metrics.getOrDefault("tomcat_threads_busy_threads", 0.0));
+                    tomcatMaxThreads = metrics.getOrDefault("tomcat_threads_config_max_threads", tomcatMaxThreads);
+                    maxLiveThreads = Math.max(maxLiveThreads, metrics.getOrDefault("jvm_threads_live_threads", 0.0));
+                    processCpuTotal += metrics.getOrDefault("process_cpu_usage", 0.0);
+                    samples++;
+
+                    Thread.sleep(SAMPLE_INTERVAL.toMillis());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (IOException exception) {
+                log.warn("Failed to sample service metrics", exception);
+            }
+        }
+
+        HttpBenchmarkReport.Saturation saturation() {
+            return new HttpBenchmarkReport.Saturation(
+                maxDatabaseActive,
+                databasePoolSize,
+                maxDatabasePending,
+                maxTomcatBusy,
+                tomcatMaxThreads,
+                maxLiveThreads,
+                samples == 0 ? 0 : processCpuTotal / samples
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.mitohondriyaa.inventory.benchmarks.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ServiceProcess implements AutoCloseable {
+    private final Process process;
+    private final URI baseUri;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(2))
+        .build();
+
+    private ServiceProcess(Process process, int port) {
+        this.process = process;
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    public static ServiceProcess start(
+        Path serviceJar,
+        List<String> jvmArguments,
+        List<String> applicationArguments,
+        int port,
+        Path logFile
+    ) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.add("-jar");
+        command.add(serviceJar.toAbsolutePath().toString());
+        command.addAll(applicationArguments);
+
+        return start(command, port, logFile);
+    }
+
+    public static ServiceProcess start(List<String> command, int port, Path logFile) throws IOException {
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(logFile.toFile())
+            .start();
+
+        return new ServiceProcess(process, port);
+    }
+
+    public long pid() {
+        return process.pid();
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public void awaitLive(Duration timeout) throws InterruptedException {
+        awaitLive(timeout, Duration.ofMillis(500));
+    }
+
+    public void awaitLive(Duration timeout, Duration pollInterval) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/actuator/health/liveness")).build();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Service exited with code " + process.exitValue());
+            }
+
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException exception) {
+                // not listening yet
+            }
+
+            Thread.sleep(pollInterval.toMillis());
+        }
+
+        throw new IllegalStateException("Service did not become live within " + timeout);
+    }
+
+    public int awaitExit(Duration timeout) throws InterruptedException {
+        if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("Service did not exit within " + timeout);
+        }
+
+        return process.exitValue();
+    }
+
+    public Map<String, Double> scrapeMetrics() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/actuator/prometheus")).build();
+        String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Map<String, Double> metrics = new HashMap<>();
+
+        for (String line : body.split("\n")) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            int nameEnd = line.indexOf('{') >= 0 ? line.indexOf('{') : line.indexOf(' ');
+            int valueStart = line.lastIndexOf(' ');
+
+            try {
+                double value = Double.parseDouble(line.substring(valueStart + 1));
+
+                if (!Double.isNaN(value)) {
+                    metrics.merge(line.substring(0, nameEnd), value, Double::sum);
+                }
+            } catch (NumberFormatException exception) {
+                // +Inf bucket bounds are not useful here
+            }
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
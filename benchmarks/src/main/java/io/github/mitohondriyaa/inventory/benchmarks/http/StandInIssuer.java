@@ -0,0 +1,99 @@
+package io.github.mitohondriyaa.inventory.benchmarks.http;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StandInIssuer implements AutoCloseable {
+    private static final String REALM_PATH = "/realms/benchmarks";
+
+    private final HttpServer server;
+    private final RSAKey signingKey;
+    @Getter
+    private final String issuer;
+    @Getter
+    private final String jwkSetUri;
+    @Getter
+    private final AtomicLong jwksRequests = new AtomicLong();
+
+    public StandInIssuer() throws IOException, JOSEException {
+        signingKey = new RSAKeyGenerator(2048)
+            .keyID("benchmarks")
+            .generate();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        issuer = "http://localhost:" + server.getAddress().getPort() + REALM_PATH;
+        jwkSetUri = issuer + "/protocol/openid-connect/certs";
+
+        server.createContext(REALM_PATH + "/.well-known/openid-configuration", exchange -> respond(exchange, """
+            {
+                "issuer": "%s",
+                "jwks_uri": "%s",
+                "subject_types_supported": ["public"],
+                "id_token_signing_alg_values_supported": ["RS256"]
+            }
+            """.formatted(issuer, jwkSetUri)));
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            respond(exchange, new JWKSet(signingKey.toPublicJWK()).toString());
+        });
+        server.start();
+    }
+
+    public String mint(String subject, Duration lifetime) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer(issuer)
+            .subject(subject)
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(lifetime)))
+            .claim("email", subject + "@example.com")
+            .claim("realm_access", Map.of("roles", List.of("INVENTORY_MANAGER")))
+            .build();
+        SignedJWT jwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .keyID(signingKey.getKeyID())
+                .type(JOSEObjectType.JWT)
+                .build(),
+            claims
+        );
+        jwt.sign(new RSASSASigner(signingKey));
+
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import com.redis.testcontainers.RedisContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.kafka.ConfluentKafkaContainer;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class LoadEnvironment implements AutoCloseable {
+    private final Network network = Network.newNetwork();
+    @SuppressWarnings("resource")
+    private final MySQLContainer<?> mySQLContainer = new MySQLContainer<>("mysql:8")
+        .withDatabaseName("inventory_service")
+        .withNetwork(network)
+        .withNetworkAliases("mysql");
+    private final ConfluentKafkaContainer kafkaContainer = new ConfluentKafkaContainer("confluentinc/cp-kafka:7.4.0")
+        .withListener("kafka:19092")
+        .withNetwork(network)
+        .withNetworkAliases("kafka");
+    @SuppressWarnings("resource")
+    private final GenericContainer<?> schemaRegistryContainer = new GenericContainer<>("confluentinc/cp-schema-registry:7.4.0")
+        .withEnv("SCHEMA_REGISTRY_KAFKASTORE_BOOTSTRAP_SERVERS", "PLAINTEXT://kafka:19092")
+        .withEnv("SCHEMA_REGISTRY_LISTENERS", "http://0.0.0.0:8081")
+        .withEnv("SCHEMA_REGISTRY_HOST_NAME", "schema-registry")
+        .withExposedPorts(8081)
+        .withNetwork(network)
+        .withNetworkAliases("schema-registry")
+        .waitingFor(Wait.forHttp("/subjects"));
+    private final RedisContainer redisContainer = new RedisContainer("redis:8.0")
+        .withNetwork(network)
+        .withNetworkAliases("redis");
+
+    public void start() {
+        mySQLContainer.start();
+        kafkaContainer.start();
+        schemaRegistryContainer.start();
+        redisContainer.start();
+    }
+
+    public String bootstrapServers() {
+        return kafkaContainer.getBootstrapServers();
+    }
+
+    public String schemaRegistryUrl() {
+        return "http://localhost:" + schemaRegistryContainer.getMappedPort(8081);
+    }
+
+    public String jdbcUrl() {
+        return mySQLContainer.getJdbcUrl();
+    }
+
+    public String databaseUsername() {
+        return mySQLContainer.getUsername();
+    }
+
+    public String databasePassword() {
+        return mySQLContainer.getPassword();
+    }
+
+    public List<String> applicationArguments(Path workDirectory, int serverPort) {
+        return List.of(
+            "--server.port=" + serverPort,
+            "--spring.datasource.url=" + mySQLContainer.getJdbcUrl(),
+            "--spring.datasource.username=" + mySQLContainer.getUsername(),
+            "--spring.datasource.password=" + mySQLContainer.getPassword(),
+            "--spring.kafka.bootstrap-servers=" + bootstrapServers(),
+            "--spring.kafka.consumer.auto-offset-reset=earliest",
+            "--spring.kafka.consumer.properties.schema.registry.url=" + schemaRegistryUrl(),
+            "--spring.kafka.producer.properties.schema.registry.url=" + schemaRegistryUrl(),
+            "--redis.idempotency.host=" + redisContainer.getHost(),
+            "--redis.idempotency.port=" + redisContainer.getMappedPort(6379),
+            "--inventory.idempotency.redis.journal-path=" + workDirectory.resolve("idempotency.journal"),
+            "--inventory.snapshot.path=" + workDirectory.resolve("inventory-snapshot.avro"),
+            "--inventory.tracing.file-path=" + workDirectory.resolve("spans.jsonl")
+        );
+    }
+
+    @Override
+    public void close() {
+        redisContainer.stop();
+        schemaRegistryContainer.stop();
+        kafkaContainer.stop();
+        mySQLContainer.stop();
+        network.close();
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Getter
+public class LoadGenerator {
+    private final LoadTestOptions options;
+    private final Map<String, Object> producerProperties;
+    private final ZipfianDistribution productDistribution;
+    private final SplittableRandom random;
+    private final Map<String, SentOrder> orders = new ConcurrentHashMap<>();
+    private final Map<String, SentCancellation> cancellations = new ConcurrentHashMap<>();
+    private final AtomicLong duplicateCancellations = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+    private long startedAtNanos;
+    private long finishedAtNanos;
+
+    public LoadGenerator(LoadTestOptions options, String bootstrapServers, String schemaRegistryUrl) {
+        this.options = options;
+        this.producerProperties = Map.of(
+            ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "io.confluent.kafka.serializers.KafkaAvroSerializer",
+            ProducerConfig.LINGER_MS_CONFIG, 5,
+            "schema.registry.url", schemaRegistryUrl
+        );
+        this.productDistribution = new ZipfianDistribution(options.productCount(), options.zipfExponent());
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static String productId(int product) {
+        return "load-product-%07d".formatted(product);
+    }
+
+    public void run() {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.targetRate();
+        List<SentCancellation> cancellationHistory = new ArrayList<>();
+
+        try (KafkaProducer<String, Object> producer = new KafkaProducer<>(producerProperties)) {
+            startedAtNanos = System.nanoTime();
+
+            for (long sequence = 0; sequence < options.totalMessages(); sequence++) {
+                long scheduledAtNanos = startedAtNanos + sequence * intervalNanos;
+                long delayNanos = scheduledAtNanos - System.nanoTime();
+
+                if (delayNanos > 0) {
+                    LockSupport.parkNanos(delayNanos);
+                }
+
+                if (random.nextDouble() >= options.cancelRatio()) {
+                    sendOrder(producer, sequence, scheduledAtNanos);
+                } else if (!cancellationHistory.isEmpty() && random.nextDouble() < options.duplicateRate()) {
+                    SentCancellation original = cancellationHistory.get(random.nextInt(cancellationHistory.size()));
+                    send(producer, "order-cancelled", original.event(), original.messageId());
+                    duplicateCancellations.incrementAndGet();
+                } else {
+                    cancellationHistory.add(sendCancellation(producer, sequence));
+                }
+            }
+
+            producer.flush();
+            finishedAtNanos = System.nanoTime();
+        }
+    }
+
+    private void sendOrder(KafkaProducer<String, Object> producer, long sequence, long scheduledAtNanos) {
+        int product = productDistribution.sample(random);
+        int quantity = 1 + random.nextInt(options.maxQuantity());
+        String orderNumber = "load-order-" + sequence;
+
+        OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+        orderPlacedEvent.setOrderNumber(orderNumber);
+        orderPlacedEvent.setProductId(productId(product));
+        orderPlacedEvent.setQuantity(quantity);
+        orderPlacedEvent.setEmail("load@example.com");
+        orderPlacedEvent.setFirstName("Load");
+        orderPlacedEvent.setLastName("Test");
+
+        orders.put(orderNumber, new SentOrder(product, quantity, scheduledAtNanos));
+        send(producer, "order-placed", orderPlacedEvent, UUID.randomUUID().toString());
+    }
+
+    private SentCancellation sendCancellation(KafkaProducer<String, Object> producer, long sequence) {
+        int product = productDistribution.sample(random);
+        int quantity = 1 + random.nextInt(options.maxQuantity());
+        String orderNumber = "load-cancel-" + sequence;
+
+        OrderCancelledEvent orderCancelledEvent = new OrderCancelledEvent();
+        orderCancelledEvent.setOrderNumber(orderNumber);
+        orderCancelledEvent.setProductId(productId(product));
+        orderCancelledEvent.setQuantity(quantity);
+        orderCancelledEvent.setEmail("load@example.com");
+        orderCancelledEvent.setFirstName("Load");
+        orderCancelledEvent.setLastName("Test");
+
+        SentCancellation sentCancellation = new SentCancellation(
+            product,
+            quantity,
+            UUID.randomUUID().toString(),
+            orderCancelledEvent
+        );
+        cancellations.put(orderNumber, sentCancellation);
+        send(producer, "order-cancelled", orderCancelledEvent, sentCancellation.messageId());
+
+        return sentCancellation;
+    }
+
+    private void send(KafkaProducer<String, Object> producer, String topic, Object event, String messageId) {
+        ProducerRecord<String, Object> producerRecord = new ProducerRecord<>(topic, event);
+        producerRecord.headers().add("messageId", messageId.getBytes(StandardCharsets.UTF_8));
+
+        producer.send(producerRecord, (metadata, exception) -> {
+            if (exception != null && sendErrors.getAndIncrement() == 0) {
+                log.error("Failed to send load test record to {}", topic, exception);
+            }
+        });
+    }
+
+    public record SentOrder(int product, int quantity, long scheduledAtNanos) {}
+
+    public record SentCancellation(int product, int quantity, String messageId, OrderCancelledEvent event) {}
+}
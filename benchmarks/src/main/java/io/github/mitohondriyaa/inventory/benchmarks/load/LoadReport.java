@@ -0,0 +1,267 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadReport(
+    Instant finishedAt,
+    LoadTestOptions options,
+    Throughput throughput,
+    Latency latency,
+    Outcomes outcomes,
+    List<String> invariantViolations
+) {
+    private static final int MAX_REPORTED_VIOLATIONS = 100;
+
+    public static LoadReport create(
+        LoadTestOptions options,
+        LoadGenerator generator,
+        ResponseCollector collector,
+        Map<String, Integer> finalStock
+    ) {
+        Map<String, ResponseCollector.Outcome> orderOutcomes = collector.getOutcomes();
+        long reserved = orderOutcomes.values().stream()
+            .filter(outcome -> outcome == ResponseCollector.Outcome.RESERVED)
+            .count();
+        long missingOutcomes = generator.getOrders().keySet().stream()
+            .filter(orderNumber -> !orderOutcomes.containsKey(orderNumber))
+            .count();
+        long unconfirmedCancellations = generator.getCancellations().keySet().stream()
+            .filter(orderNumber -> !collector.getConfirmedCancellations().contains(orderNumber))
+            .count();
+
+        Outcomes outcomes = new Outcomes(
+            generator.getOrders().size(),
+            generator.getCancellations().size(),
+            generator.getDuplicateCancellations().get(),
+            generator.getSendErrors().get(),
+            reserved,
+            orderOutcomes.size() - reserved,
+            missingOutcomes,
+            collector.getDuplicateOutcomes().get(),
+            unconfirmedCancellations,
+            collector.getDuplicateConfirmations().get()
+        );
+
+        return new LoadReport(
+            Instant.now(),
+            options,
+            throughput(generator, collector),
+            Latency.from(collector.getLatencyMicros()),
+            outcomes,
+            invariantViolations(options, generator, collector, outcomes, finalStock)
+        );
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    public String summary() {
+        return "sent=%d cancellations=%d duplicates=%d achieved=%.0f/s completed=%.0f/s p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms violations=%d"
+            .formatted(
+                outcomes.sentOrders(),
+                outcomes.sentCancellations(),
+                outcomes.duplicateCancellations(),
+                throughput.achievedSendRate(),
+                throughput.completedRate(),
+                latency.p50Millis(),
+                latency.p99Millis(),
+                latency.p999Millis(),
+                latency.maxMillis(),
+                invariantViolations.size()
+            );
+    }
+
+    private static Throughput throughput(LoadGenerator generator, ResponseCollector collector) {
+        double sendSeconds = Math.max(1, generator.getFinishedAtNanos() - generator.getStartedAtNanos()) / 1e9;
+        double completionSeconds = Math.max(1, collector.getLastOutcomeAtNanos() - generator.getStartedAtNanos()) / 1e9;
+        long sent = generator.getOrders().size()
+            + generator.getCancellations().size()
+            + generator.getDuplicateCancellations().get();
+        long completed = collector.getOutcomes().size() + collector.getConfirmedCancellations().size();
+
+        return new Throughput(sent / sendSeconds, completed / completionSeconds, sendSeconds, completionSeconds);
+    }
+
+    private static List<String> invariantViolations(
+        LoadTestOptions options,
+        LoadGenerator generator,
+        ResponseCollector collector,
+        Outcomes outcomes,
+        Map<String, Integer> finalStock
+    ) {
+        List<String> violations = new ArrayList<>();
+
+        if (outcomes.missingOutcomes() > 0) {
+            violations.add(outcomes.missingOutcomes() + " orders got neither inventory-reserved nor inventory-rejected");
+        }
+
+        if (outcomes.duplicateOutcomes() > 0) {
+            violations.add(outcomes.duplicateOutcomes() + " orders got more than one outcome");
+        }
+
+        if (outcomes.unconfirmedCancellations() > 0) {
+            violations.add(outcomes.unconfirmedCancellations() + " cancellations were never confirmed");
+        }
+
+        if (outcomes.duplicateConfirmations() > 0) {
+            violations.add(outcomes.duplicateConfirmations() + " duplicate cancellations were applied again");
+        }
+
+        Map<String, Long> expectedStock = new LinkedHashMap<>();
+
+        for (int product = 0; product < options.productCount(); product++) {
+            expectedStock.put(LoadGenerator.productId(product), (long) options.initialStock());
+        }
+
+        generator.getOrders().forEach((orderNumber, sentOrder) -> {
+            if (collector.getOutcomes().get(orderNumber) == ResponseCollector.Outcome.RESERVED) {
+                expectedStock.merge(LoadGenerator.productId(sentOrder.product()), (long) -sentOrder.quantity(), Long::sum);
+            }
+        });
+        generator.getCancellations().values().forEach(sentCancellation -> expectedStock.merge(
+            LoadGenerator.productId(sentCancellation.product()),
+            (long) sentCancellation.quantity(),
+            Long::sum
+        ));
+
+        expectedStock.forEach((productId, expected) -> {
+            Integer actual = finalStock.get(productId);
+
+            if (actual == null) {
+                violations.add(productId + " is missing from t_inventory");
+            } else if (actual < 0) {
+                violations.add(productId + " has negative stock " + actual);
+            } else if (actual != expected.longValue()) {
+                violations.add(productId + " has stock " + actual + ", expected " + expected);
+            }
+        });
+
+        return violations.size() > MAX_REPORTED_VIOLATIONS
+            ? List.copyOf(violations.subList(0, MAX_REPORTED_VIOLATIONS))
+            : List.copyOf(violations);
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder()
+            .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n")
+            .append("<title>Inventory load test ").append(finishedAt).append("</title>\n")
+            .append("<style>body{font-family:sans-serif}td,th{padding:4px 12px;text-align:left}")
+            .append(".fail{color:#b00020}.pass{color:#1b5e20}</style>\n")
+            .append("</head>\n<body>\n")
+            .append("<h1>Inventory load test</h1>\n")
+            .append("<p class=\"").append(invariantViolations.isEmpty() ? "pass\">All invariants hold" : "fail\">Invariants violated")
+            .append("</p>\n");
+
+        table(html, "Options",
+            "Duration (s)", options.durationSeconds(),
+            "Target rate (records/s)", options.targetRate(),
+            "Products", options.productCount(),
+            "Initial stock", options.initialStock(),
+            "Zipf exponent", options.zipfExponent(),
+            "Cancel ratio", options.cancelRatio(),
+            "Duplicate rate", options.duplicateRate(),
+            "Seed", options.seed()
+        );
+        table(html, "Throughput",
+            "Achieved send rate (records/s)", "%.1f".formatted(throughput.achievedSendRate()),
+            "Completed rate (records/s)", "%.1f".formatted(throughput.completedRate()),
+            "Send window (s)", "%.1f".formatted(throughput.sendSeconds()),
+            "Completion window (s)", "%.1f".formatted(throughput.completionSeconds())
+        );
+        table(html, "End-to-end latency (ms)",
+            "Samples", latency.count(),
+            "Mean", "%.2f".formatted(latency.meanMillis()),
+            "p50", "%.2f".formatted(latency.p50Millis()),
+            "p90", "%.2f".formatted(latency.p90Millis()),
+            "p99", "%.2f".formatted(latency.p99Millis()),
+            "p99.9", "%.2f".formatted(latency.p999Millis()),
+            "Max", "%.2f".formatted(latency.maxMillis())
+        );
+        table(html, "Outcomes",
+            "Orders sent", outcomes.sentOrders(),
+            "Reserved", outcomes.reserved(),
+            "Rejected", outcomes.rejected(),
+            "Cancellations sent", outcomes.sentCancellations(),
+            "Duplicate cancellations sent", outcomes.duplicateCancellations(),
+            "Send errors", outcomes.sendErrors()
+        );
+
+        if (!invariantViolations.isEmpty()) {
+            html.append("<h2>Invariant violations</h2>\n<ul class=\"fail\">\n");
+            invariantViolations.forEach(violation -> html.append("<li>").append(violation).append("</li>\n"));
+            html.append("</ul>\n");
+        }
+
+        return html.append("</body>\n</html>\n").toString();
+    }
+
+    private static void table(StringBuilder html, String title, Object... namesAndValues) {
+        html.append("<h2>").append(title).append("</h2>\n<table>\n");
+
+        for (int index = 0; index < namesAndValues.length; index += 2) {
+            html.append("<tr><th>")
+                .append(namesAndValues[index])
+                .append("</th><td>")
+                .append(namesAndValues[index + 1])
+                .append("</td></tr>\n");
+        }
+
+        html.append("</table>\n");
+    }
+
+    public record Throughput(double achievedSendRate, double completedRate, double sendSeconds, double completionSeconds) {}
+
+    public record Latency(
+        long count,
+        double meanMillis,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+    ) {
+        public static Latency from(Histogram histogramMicros) {
+            return new Latency(
+                histogramMicros.getTotalCount(),
+                histogramMicros.getMean() / 1000,
+                histogramMicros.getValueAtPercentile(50) / 1000.0,
+                histogramMicros.getValueAtPercentile(90) / 1000.0,
+                histogramMicros.getValueAtPercentile(99) / 1000.0,
+                histogramMicros.getValueAtPercentile(99.9) / 1000.0,
+                histogramMicros.getMaxValue() / 1000.0
+            );
+        }
+    }
+
+    public record Outcomes(
+        long sentOrders,
+        long sentCancellations,
+        long duplicateCancellations,
+        long sendErrors,
+        long reserved,
+        long rejected,
+        long missingOutcomes,
+        long duplicateOutcomes,
+        long unconfirmedCancellations,
+        long duplicateConfirmations
+    ) {}
+}
@@ -0,0 +1,54 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import java.nio.file.Path;
+
+public record LoadTestOptions(
+    int durationSeconds,
+    int targetRate,
+    int productCount,
+    int initialStock,
+    int maxQuantity,
+    double zipfExponent,
+    double cancelRatio,
+    double duplicateRate,
+    int drainTimeoutSeconds,
+    long seed,
+    Path reportDirectory
+) {
+    public static LoadTestOptions fromSystemProperties() {
+        LoadTestOptions options = new LoadTestOptions(
+            Integer.getInteger("load.duration-seconds", 60),
+            Integer.getInteger("load.target-rate", 1000),
+            Integer.getInteger("load.product-count", 10000),
+            Integer.getInteger("load.initial-stock", 1000),
+            Integer.getInteger("load.max-quantity", 5),
+            Double.parseDouble(System.getProperty("load.zipf-exponent", "0.99")),
+            Double.parseDouble(System.getProperty("load.cancel-ratio", "0.1")),
+            Double.parseDouble(System.getProperty("load.duplicate-rate", "0.05")),
+            Integer.getInteger("load.drain-timeout-seconds", 120),
+            Long.getLong("load.seed", 42L),
+            Path.of(System.getProperty("load.report-dir", "target/load-report"))
+        );
+        options.validate();
+
+        return options;
+    }
+
+    public long totalMessages() {
+        return (long) durationSeconds * targetRate;
+    }
+
+    private void validate() {
+        if (durationSeconds <= 0 || targetRate <= 0 || productCount <= 0 || maxQuantity <= 0) {
+            throw new IllegalArgumentException("Duration, rate, product count and max quantity must be positive");
+        }
+
+        if (cancelRatio < 0 || cancelRatio > 1 || duplicateRate < 0 || duplicateRate > 1) {
+            throw new IllegalArgumentException("Cancel ratio and duplicate rate must be between 0 and 1");
+        }
+
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent must not be negative");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import io.github.mitohondriyaa.inventory.InventoryServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@Slf4j
+public class LoadTestRunner {
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        Path workDirectory = Files.createTempDirectory("inventory-load-test");
+        LoadReport report;
+
+        try (LoadEnvironment environment = new LoadEnvironment()) {
+            environment.start();
+
+            try (ConfigurableApplicationContext context = SpringApplication.run(
+                InventoryServiceApplication.class,
+                environment.applicationArguments(workDirectory, 0).toArray(String[]::new)
+            )) {
+                JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                seedInventory(jdbcTemplate, options);
+
+                LoadGenerator generator = new LoadGenerator(
+                    options,
+                    environment.bootstrapServers(),
+                    environment.schemaRegistryUrl()
+                );
+                ResponseCollector collector = new ResponseCollector(
+                    environment.bootstrapServers(),
+                    environment.schemaRegistryUrl(),
+                    generator.getOrders()
+                );
+                Thread collectorThread = Thread.ofPlatform().name("load-test-collector").start(collector);
+
+                log.info("Sending {} records at {} records/s", options.totalMessages(), options.targetRate());
+                generator.run();
+                awaitResponses(options, generator, collector);
+
+                collector.stop();
+                collectorThread.join();
+
+                report = LoadReport.create(options, generator, collector, readStock(jdbcTemplate));
+            }
+        }
+
+        report.write(options.reportDirectory());
+        log.info("Load test finished: {}", report.summary());
+        log.info("Report written to {}", options.reportDirectory().toAbsolutePath());
+
+        System.exit(report.invariantViolations().isEmpty() ? 0 : 1);
+    }
+
+    private static void seedInventory(JdbcTemplate jdbcTemplate, LoadTestOptions options) {
+        List<String> productIds = IntStream.range(0, options.productCount())
+            .mapToObj(LoadGenerator::productId)
+            .toList();
+
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO t_inventory (product_id, quantity) VALUES (?, ?)",
+            productIds,
+            SEED_BATCH_SIZE,
+            (preparedStatement, productId) -> {
+                preparedStatement.setString(1, productId);
+                preparedStatement.setInt(2, options.initialStock());
+            }
+        );
+    }
+
+    private static void awaitResponses(
+        LoadTestOptions options,
+        LoadGenerator generator,
+        ResponseCollector collector
+    ) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(options.drainTimeoutSeconds()).toNanos();
+
+        while (!collector.hasCollected(generator.getOrders().size(), generator.getCancellations().size())
+            && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private static Map<String, Integer> readStock(JdbcTemplate jdbcTemplate) {
+        Map<String, Integer> stock = new HashMap<>();
+
+        jdbcTemplate.query(
+            "SELECT product_id, quantity FROM t_inventory WHERE deleted_at IS NULL",
+            (RowCallbackHandler) resultSet -> stock.put(resultSet.getString("product_id"), resultSet.getInt("quantity"))
+        );
+
+        return stock;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class ResponseCollector implements Runnable {
+    private final KafkaConsumer<String, Object> consumer;
+    private final Map<String, LoadGenerator.SentOrder> orders;
+    private final Histogram latencyMicros = new Histogram(TimeUnit.MINUTES.toMicros(10), 3);
+    private final Map<String, Outcome> outcomes = new ConcurrentHashMap<>();
+    private final Set<String> confirmedCancellations = ConcurrentHashMap.newKeySet();
+    private final AtomicLong duplicateOutcomes = new AtomicLong();
+    private final AtomicLong duplicateConfirmations = new AtomicLong();
+    private volatile long lastOutcomeAtNanos;
+
+    public ResponseCollector(String bootstrapServers, String schemaRegistryUrl, Map<String, LoadGenerator.SentOrder> orders) {
+        this.consumer = new KafkaConsumer<>(Map.of(
+            ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ConsumerConfig.GROUP_ID_CONFIG, "inventory-load-test-" + UUID.randomUUID(),
+            ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+            ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+            ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, "io.confluent.kafka.serializers.KafkaAvroDeserializer",
+            "schema.registry.url", schemaRegistryUrl,
+            "specific.avro.reader", true
+        ));
+        this.orders = orders;
+    }
+
+    @Override
+    public void run() {
+        try {
+            consumer.subscribe(List.of("inventory-reserved", "inventory-rejected"));
+
+            while (true) {
+                for (ConsumerRecord<String, Object> record : consumer.poll(Duration.ofMillis(200))) {
+                    handle(record.value());
+                }
+            }
+        } catch (WakeupException exception) {
+            // stop() was called
+        } finally {
+            consumer.close();
+        }
+    }
+
+    public void stop() {
+        consumer.wakeup();
+    }
+
+    public boolean hasCollected(int expectedOrders, int expectedCancellations) {
+        return outcomes.size() >= expectedOrders && confirmedCancellations.size() >= expectedCancellations;
+    }
+
+    private void handle(Object event) {
+        long receivedAtNanos = System.nanoTime();
+        String orderNumber;
+        Outcome outcome;
+
+        if (event instanceof InventoryReservedEvent inventoryReservedEvent) {
+            orderNumber = inventoryReservedEvent.getOrderNumber().toString();
+            outcome = Outcome.RESERVED;
+        } else if (event instanceof InventoryRejectedEvent inventoryRejectedEvent) {
+            orderNumber = inventoryRejectedEvent.getOrderNumber().toString();
+            outcome = Outcome.REJECTED;
+        } else {
+            return;
+        }
+
+        LoadGenerator.SentOrder sentOrder = orders.get(orderNumber);
+
+        if (sentOrder == null) {
+            if (!confirmedCancellations.add(orderNumber)) {
+                duplicateConfirmations.incrementAndGet();
+            }
+        } else if (outcomes.putIfAbsent(orderNumber, outcome) == null) {
+            latencyMicros.recordValue(Math.min(
+                latencyMicros.getHighestTrackableValue(),
+                TimeUnit.NANOSECONDS.toMicros(receivedAtNanos - sentOrder.scheduledAtNanos())
+            ));
+        } else {
+            duplicateOutcomes.incrementAndGet();
+        }
+
+        lastOutcomeAtNanos = receivedAtNanos;
+    }
+
+    public enum Outcome {
+        RESERVED,
+        REJECTED
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.mitohondriyaa.inventory.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+public class ZipfianDistribution {
+    private final double[] cumulativeProbabilities;
+
+    public ZipfianDistribution(int size, double exponent) {
+        cumulativeProbabilities = new double[size];
+        double total = 0;
+
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulativeProbabilities[rank - 1] = total;
+        }
+
+        for (int index = 0; index < size; index++) {
+            cumulativeProbabilities[index] /= total;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+
+        return Math.min(index >= 0 ? index : -index - 1, cumulativeProbabilities.length - 1);
+    }
+}
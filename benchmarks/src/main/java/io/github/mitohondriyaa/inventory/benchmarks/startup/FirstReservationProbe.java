@@ -0,0 +1,122 @@
+package io.github.mitohondriyaa.inventory.benchmarks.startup;
+
+import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+public class FirstReservationProbe implements AutoCloseable {
+    private static final List<String> OUTCOME_TOPICS = List.of("inventory-reserved", "inventory-rejected");
+
+    private final KafkaProducer<String, Object> producer;
+    private final KafkaConsumer<String, Object> consumer;
+
+    public FirstReservationProbe(String bootstrapServers, String schemaRegistryUrl)
+        throws InterruptedException, ExecutionException {
+        createOutcomeTopics(bootstrapServers);
+
+        this.producer = new KafkaProducer<>(Map.of(
+            ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+            ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "io.confluent.kafka.serializers.KafkaAvroSerializer",
+            "schema.registry.url", schemaRegistryUrl
+        ));
+        this.consumer = new KafkaConsumer<>(Map.of(
+            ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+            ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+            ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+            ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, "io.confluent.kafka.serializers.KafkaAvroDeserializer",
+            "schema.registry.url", schemaRegistryUrl,
+            "specific.avro.reader", true
+        ));
+        consumer.assign(OUTCOME_TOPICS.stream()
+            .flatMap(topic -> consumer.partitionsFor(topic).stream())
+            .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+            .toList());
+    }
+
+    public void placeOrder(String orderNumber, String productId) throws InterruptedException, ExecutionException {
+        consumer.seekToEnd(consumer.assignment());
+        consumer.assignment().forEach(consumer::position);
+
+        OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+        orderPlacedEvent.setOrderNumber(orderNumber);
+        orderPlacedEvent.setProductId(productId);
+        orderPlacedEvent.setQuantity(1);
+        orderPlacedEvent.setEmail("startup@example.com");
+        orderPlacedEvent.setFirstName("Startup");
+        orderPlacedEvent.setLastName("Benchmark");
+
+        ProducerRecord<String, Object> record = new ProducerRecord<>("order-placed", productId, orderPlacedEvent);
+        record.headers().add("messageId", UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+        producer.send(record).get();
+    }
+
+    public long awaitOutcomeNanos(String orderNumber, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, Object> record : consumer.poll(Duration.ofMillis(20))) {
+                if (orderNumber.equals(orderNumber(record.value()))) {
+                    return System.nanoTime();
+                }
+            }
+        }
+
+        throw new IllegalStateException("No outcome for " + orderNumber + " within " + timeout);
+    }
+
+    @Override
+    public void close() {
+        consumer.close();
+        producer.close();
+    }
+
+    private static String orderNumber(Object event) {
+        if (event instanceof InventoryReservedEvent inventoryReservedEvent) {
+            return inventoryReservedEvent.getOrderNumber().toString();
+        }
+
+        if (event instanceof InventoryRejectedEvent inventoryRejectedEvent) {
+            return inventoryRejectedEvent.getOrderNumber().toString();
+        }
+
+        return null;
+    }
+
+    private static void createOutcomeTopics(String bootstrapServers) throws InterruptedException, ExecutionException {
+        try (Admin admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers))) {
+            for (String topic : OUTCOME_TOPICS) {
+                try {
+                    admin.createTopics(List.of(new NewTopic(topic, Optional.empty(), Optional.empty())))
+                        .all()
+                        .get();
+                } catch (ExecutionException exception) {
+                    if (!(exception.getCause() instanceof TopicExistsException)) {
+                        throw exception;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.mitohondriyaa.inventory.benchmarks.startup;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public record StartupBenchmarkOptions(
+    List<Mode> modes,
+    int runs,
+    Path serviceJar,
+    Path nativeExecutable,
+    Path cracJava,
+    int warmupIterations,
+    List<String> serviceJvmArguments,
+    List<String> serviceArguments,
+    Path reportDirectory
+) {
+    public static StartupBenchmarkOptions fromSystemProperties() {
+        return new StartupBenchmarkOptions(
+            words(System.getProperty("bench.startup.modes", "JVM,CDS,NATIVE"), ",").stream()
+                .map(Mode::valueOf)
+                .toList(),
+            Integer.getInteger("bench.startup.runs", 5),
+            Path.of(System.getProperty("bench.startup.service-jar", "../target/inventory-service-0.0.1-SNAPSHOT-exec.jar")),
+            Path.of(System.getProperty("bench.startup.native-executable", "../target/inventory-service")),
+            Path.of(System.getProperty(
+                "bench.startup.crac-java",
+                Path.of(System.getProperty("java.home"), "bin", "java").toString()
+            )),
+            Integer.getInteger("bench.startup.warmup-iterations", 10000),
+            words(System.getProperty("bench.startup.service-jvm-args", "-Xms1g -Xmx1g"), " "),
+            words(System.getProperty("bench.startup.service-args", ""), " "),
+            Path.of(System.getProperty("bench.startup.report-dir", "target/startup-benchmark"))
+        );
+    }
+
+    private static List<String> words(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+            .map(String::trim)
+            .filter(word -> !word.isEmpty())
+            .toList();
+    }
+
+    public enum Mode {
+        JVM,
+        CDS,
+        CRAC,
+        NATIVE
+    }
+}
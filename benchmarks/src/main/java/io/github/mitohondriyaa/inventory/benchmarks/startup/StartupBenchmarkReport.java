@@ -0,0 +1,93 @@
+package io.github.mitohondriyaa.inventory.benchmarks.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+public record StartupBenchmarkReport(
+    Instant finishedAt,
+    StartupBenchmarkOptions options,
+    List<RunResult> runs
+) {
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), this);
+        Files.writeString(directory.resolve("report.html"), html());
+    }
+
+    private String html() {
+        StringBuilder html = new StringBuilder()
+            .append("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n")
+            .append("<title>Inventory startup benchmark ").append(finishedAt).append("</title>\n")
+            .append("<style>body{font-family:sans-serif}td,th{padding:4px 10px;text-align:right}")
+            .append("th:first-child,td:first-child{text-align:left}</style>\n")
+            .append("</head>\n<body>\n")
+            .append("<h1>Inventory startup benchmark</h1>\n")
+            .append("<p>JVM mode arguments: ").append(String.join(" ", options.serviceJvmArguments()))
+            .append("<br>Service arguments: ").append(String.join(" ", options.serviceArguments()))
+            .append("<br>").append(options.runs()).append(" measured runs per mode after one discarded start")
+            .append("<br>CDS and CRAC images come from a training run of ").append(options.warmupIterations())
+            .append(" reservations and checks; a CRaC restore keeps the arguments of its training run")
+            .append("<br>First reservation is measured from launch to the outcome of an order queued before launch")
+            .append("<br>Cells show median (min - max); RSS is sampled right after the first request</p>\n")
+            .append("<table>\n<tr><th>Mode</th><th>Started in ms</th><th>Live after ms</th>")
+            .append("<th>First request ms</th><th>First reservation ms</th><th>RSS MB</th><th>Peak RSS MB</th></tr>\n");
+
+        for (StartupBenchmarkOptions.Mode mode : options.modes()) {
+            List<RunResult> modeRuns = runs.stream()
+                .filter(run -> run.mode() == mode)
+                .toList();
+
+            html.append("<tr><td>").append(mode)
+                .append("</td><td>").append(summary(modeRuns, RunResult::startedMillis, "%.0f"))
+                .append("</td><td>").append(summary(modeRuns, RunResult::liveMillis, "%.0f"))
+                .append("</td><td>").append(summary(modeRuns, RunResult::firstRequestMillis, "%.1f"))
+                .append("</td><td>").append(summary(modeRuns, RunResult::firstReservationMillis, "%.0f"))
+                .append("</td><td>").append(summary(modeRuns, RunResult::rssMegabytes, "%.0f"))
+                .append("</td><td>").append(summary(modeRuns, RunResult::peakRssMegabytes, "%.0f"))
+                .append("</td></tr>\n");
+        }
+
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String summary(List<RunResult> runs, ToDoubleFunction<RunResult> metric, String format) {
+        double[] values = runs.stream()
+            .mapToDouble(metric)
+            .filter(value -> !Double.isNaN(value))
+            .sorted()
+            .toArray();
+
+        if (values.length == 0) {
+            return "-";
+        }
+
+        return (format + " (" + format + " - " + format + ")").formatted(
+            values[values.length / 2],
+            values[0],
+            values[values.length - 1]
+        );
+    }
+
+    public record RunResult(
+        StartupBenchmarkOptions.Mode mode,
+        int run,
+        double startedMillis,
+        double liveMillis,
+        double firstRequestMillis,
+        double firstReservationMillis,
+        double rssMegabytes,
+        double peakRssMegabytes
+    ) {}
+}
@@ -0,0 +1,353 @@
+package io.github.mitohondriyaa.inventory.benchmarks.startup;
+
+import io.github.mitohondriyaa.inventory.benchmarks.http.ServiceProcess;
+import io.github.mitohondriyaa.inventory.benchmarks.http.StandInIssuer;
+import io.github.mitohondriyaa.inventory.benchmarks.load.LoadEnvironment;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+public class StartupBenchmarkRunner {
+    private static final Pattern STARTED_IN
+        = Pattern.compile("Started InventoryServiceApplication in ([0-9.]+) seconds");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration TRAINING_TIMEOUT = Duration.ofMinutes(15);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final String PRODUCT_ID = "startup-product";
+    private static final int PRODUCT_QUANTITY = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmarkOptions options = StartupBenchmarkOptions.fromSystemProperties();
+        Path workDirectory = Files.createTempDirectory("inventory-startup-benchmark");
+        List<StartupBenchmarkReport.RunResult> results = new ArrayList<>();
+        StartupBenchmarkReport report;
+
+        try (LoadEnvironment environment = new LoadEnvironment(); StandInIssuer issuer = new StandInIssuer()) {
+            environment.start();
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+            String token = issuer.mint("startup-benchmark", Duration.ofHours(12));
+            Context context = new Context(options, environment, issuer, httpClient, token, workDirectory);
+
+            // Flyway migrates the schema on the very first start only; keep that out of the numbers
+            Launch priming = jvmLaunch(context, "priming");
+
+            try (ServiceProcess service = ServiceProcess.start(priming.command(), priming.port(), priming.logFile(0))) {
+                service.awaitLive(STARTUP_TIMEOUT);
+            }
+
+            seedProduct(environment);
+
+            try (FirstReservationProbe probe = new FirstReservationProbe(
+                environment.bootstrapServers(),
+                environment.schemaRegistryUrl()
+            )) {
+                for (StartupBenchmarkOptions.Mode mode : options.modes()) {
+                    Launch launch = prepare(context, mode);
+
+                    for (int run = 1; run <= options.runs(); run++) {
+                        StartupBenchmarkReport.RunResult result = measure(context, probe, mode, launch, run);
+                        results.add(result);
+
+                        log.info("{} run {}: started in {} ms, live after {} ms, first request {} ms, "
+                                + "first reservation after {} ms, RSS {} MB (peak {} MB)",
+                            mode,
+                            run,
+                            "%.0f".formatted(result.startedMillis()),
+                            "%.0f".formatted(result.liveMillis()),
+                            "%.1f".formatted(result.firstRequestMillis()),
+                            "%.0f".formatted(result.firstReservationMillis()),
+                            "%.0f".formatted(result.rssMegabytes()),
+                            "%.0f".formatted(result.peakRssMegabytes())
+                        );
+                    }
+                }
+            }
+
+            report = new StartupBenchmarkReport(Instant.now(), options, results);
+        }
+
+        report.write(options.reportDirectory());
+        log.info("Report written to {}", options.reportDirectory().toAbsolutePath());
+    }
+
+    private static Launch prepare(Context context, StartupBenchmarkOptions.Mode mode) throws Exception {
+        return switch (mode) {
+            case JVM -> jvmLaunch(context, "jvm");
+            case NATIVE -> nativeLaunch(context);
+            case CDS -> cdsLaunch(context);
+            case CRAC -> cracLaunch(context);
+        };
+    }
+
+    private static Launch jvmLaunch(Context context, String name) throws IOException {
+        int port = freePort();
+        Path directory = Files.createDirectories(context.workDirectory().resolve(name));
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(context.options().serviceJvmArguments());
+        command.add("-jar");
+        command.add(context.options().serviceJar().toAbsolutePath().toString());
+        command.addAll(context.applicationArguments(directory, port));
+
+        return new Launch(command, port, directory);
+    }
+
+    private static Launch nativeLaunch(Context context) throws IOException {
+        int port = freePort();
+        Path directory = Files.createDirectories(context.workDirectory().resolve("native"));
+        List<String> command = new ArrayList<>();
+        command.add(context.options().nativeExecutable().toAbsolutePath().toString());
+        command.addAll(context.applicationArguments(directory, port));
+
+        return new Launch(command, port, directory);
+    }
+
+    private static Launch cdsLaunch(Context context) throws Exception {
+        int port = freePort();
+        Path directory = Files.createDirectories(context.workDirectory().resolve("cds"));
+        Path archive = directory.resolve("inventory-service.jsa");
+        Path jar = extract(context, javaExecutable());
+
+        List<String> training = new ArrayList<>();
+        training.add(javaExecutable());
+        training.addAll(context.options().serviceJvmArguments());
+        training.add("-XX:ArchiveClassesAtExit=" + archive);
+        training.add("-jar");
+        training.add(jar.toString());
+        training.addAll(context.applicationArguments(directory, port));
+        training.addAll(context.trainingArguments("EXIT"));
+        train(training, port, directory);
+
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("The CDS training run did not write " + archive);
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(context.options().serviceJvmArguments());
+        command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(context.applicationArguments(directory, port));
+
+        return new Launch(command, port, directory);
+    }
+
+    private static Launch cracLaunch(Context context) throws Exception {
+        int port = freePort();
+        Path directory = Files.createDirectories(context.workDirectory().resolve("crac"));
+        Path checkpoint = directory.resolve("checkpoint");
+        String cracJava = context.options().cracJava().toAbsolutePath().toString();
+        Path jar = extract(context, cracJava);
+
+        List<String> training = new ArrayList<>();
+        training.add(cracJava);
+        training.addAll(context.options().serviceJvmArguments());
+        training.add("-XX:CRaCCheckpointTo=" + checkpoint);
+        training.add("-jar");
+        training.add(jar.toString());
+        training.addAll(context.applicationArguments(directory, port));
+        training.addAll(context.trainingArguments("CHECKPOINT"));
+        training.add("--spring.datasource.hikari.allow-pool-suspension=true");
+        train(training, port, directory);
+
+        try (Stream<Path> images = Files.list(checkpoint)) {
+            if (images.noneMatch(image -> image.getFileName().toString().endsWith(".img"))) {
+                throw new IllegalStateException("The CRaC training run did not write a checkpoint to " + checkpoint);
+            }
+        }
+
+        // a restored process keeps the port and arguments of its training run
+        return new Launch(List.of(cracJava, "-XX:CRaCRestoreFrom=" + checkpoint), port, directory);
+    }
+
+    private static void train(List<String> command, int port, Path directory) throws Exception {
+        Path logFile = directory.resolve("training.log");
+        log.info("Training run, log at {}", logFile);
+
+        try (ServiceProcess service = ServiceProcess.start(command, port, logFile)) {
+            service.awaitExit(TRAINING_TIMEOUT);
+        }
+    }
+
+    private static Path extract(Context context, String java) throws IOException, InterruptedException {
+        Path destination = context.workDirectory().resolve("extracted");
+
+        if (!Files.exists(destination)) {
+            Process process = new ProcessBuilder(
+                java,
+                "-Djarmode=tools",
+                "-jar",
+                context.options().serviceJar().toAbsolutePath().toString(),
+                "extract",
+                "--destination",
+                destination.toString()
+            )
+                .inheritIO()
+                .start();
+
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("Could not extract " + context.options().serviceJar());
+            }
+        }
+
+        return destination.resolve(context.options().serviceJar().getFileName());
+    }
+
+    private static StartupBenchmarkReport.RunResult measure(
+        Context context,
+        FirstReservationProbe probe,
+        StartupBenchmarkOptions.Mode mode,
+        Launch launch,
+        int run
+    ) throws Exception {
+        Path logFile = launch.logFile(run);
+        String orderNumber = "startup-order-%s-%d".formatted(mode.name().toLowerCase(), run);
+        probe.placeOrder(orderNumber, PRODUCT_ID);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            long launchedAt = System.nanoTime();
+
+            try (ServiceProcess service = ServiceProcess.start(launch.command(), launch.port(), logFile)) {
+                Future<Long> reservedAt = executor.submit(() -> probe.awaitOutcomeNanos(orderNumber, STARTUP_TIMEOUT));
+                service.awaitLive(STARTUP_TIMEOUT, POLL_INTERVAL);
+                double liveMillis = (System.nanoTime() - launchedAt) / 1e6;
+
+                HttpRequest request = HttpRequest.newBuilder(
+                        service.baseUri().resolve("/api/inventory/check?productId=" + PRODUCT_ID + "&quantity=1"))
+                    .header("Authorization", "Bearer " + context.token())
+                    .build();
+                long requestedAt = System.nanoTime();
+                int status = context.httpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                double firstRequestMillis = (System.nanoTime() - requestedAt) / 1e6;
+
+                if (status / 100 != 2) {
+                    throw new IllegalStateException(
+                        "First request of " + mode + " run " + run + " failed with " + status + ", see " + logFile
+                    );
+                }
+
+                double firstReservationMillis
+                    = (reservedAt.get(STARTUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS) - launchedAt) / 1e6;
+
+                return new StartupBenchmarkReport.RunResult(
+                    mode,
+                    run,
+                    startedMillis(logFile).orElse(Double.NaN),
+                    liveMillis,
+                    firstRequestMillis,
+                    firstReservationMillis,
+                    procStatusMegabytes(service.pid(), "VmRSS"),
+                    procStatusMegabytes(service.pid(), "VmHWM")
+                );
+            }
+        }
+    }
+
+    private static void seedProduct(LoadEnvironment environment) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+            environment.jdbcUrl(),
+            environment.databaseUsername(),
+            environment.databasePassword()
+        ); PreparedStatement statement = connection.prepareStatement("""
+            INSERT INTO t_inventory (product_id, quantity) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), deleted_at = NULL
+            """)) {
+            statement.setString(1, PRODUCT_ID);
+            statement.setInt(2, PRODUCT_QUANTITY);
+            statement.executeUpdate();
+        }
+    }
+
+    private static OptionalDouble startedMillis(Path logFile) throws IOException {
+        Matcher matcher = STARTED_IN.matcher(Files.readString(logFile));
+
+        return matcher.find()
+            ? OptionalDouble.of(Double.parseDouble(matcher.group(1)) * 1000)
+            : OptionalDouble.empty();
+    }
+
+    private static double procStatusMegabytes(long pid, String field) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+
+        if (!Files.exists(status)) {
+            return Double.NaN;
+        }
+
+        return Files.readAllLines(status).stream()
+            .filter(line -> line.startsWith(field + ":"))
+            .map(line -> line.substring(field.length() + 1).trim().split("\\s+")[0])
+            .mapToDouble(kilobytes -> Double.parseDouble(kilobytes) / 1024)
+            .findFirst()
+            .orElse(Double.NaN);
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private record Context(
+        StartupBenchmarkOptions options,
+        LoadEnvironment environment,
+        StandInIssuer issuer,
+        HttpClient httpClient,
+        String token,
+        Path workDirectory
+    ) {
+        List<String> applicationArguments(Path directory, int port) {
+            List<String> arguments = new ArrayList<>(environment.applicationArguments(directory, port));
+            arguments.add("--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + issuer.getIssuer());
+            arguments.add("--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + issuer.getJwkSetUri());
+            arguments.addAll(options.serviceArguments());
+
+            return arguments;
+        }
+
+        List<String> trainingArguments(String completion) {
+            return List.of(
+                "--inventory.warmup.enabled=true",
+                "--inventory.warmup.completion=" + completion,
+                "--inventory.warmup.iterations=" + options.warmupIterations(),
+                "--inventory.warmup.token=" + token
+            );
+        }
+    }
+
+    private record Launch(List<String> command, int port, Path directory) {
+        Path logFile(int run) {
+            return directory.resolve("service-%d.log".formatted(run));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+#!/bin/bash
+set -e
+
+mysql -uroot -p"${MYSQL_ROOT_PASSWORD}" <<SQL
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST='mysql',
+    SOURCE_PORT=3306,
+    SOURCE_USER='root',
+    SOURCE_PASSWORD='${MYSQL_ROOT_PASSWORD}',
+    SOURCE_AUTO_POSITION=1,
+    SOURCE_DELAY=${REPLICA_DELAY_SECONDS:-0},
+    GET_SOURCE_PUBLIC_KEY=1;
+START REPLICA;
+SQL
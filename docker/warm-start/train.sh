@@ -0,0 +1,42 @@
+#!/bin/bash
+set -e
+
+# Usage: docker/warm-start/train.sh cds|crac <env-file> [docker-network]
+# The env file points the training run at MySQL, Kafka, the schema registry and Redis
+# (DB_HOST, KAFKA_BOOTSTRAP_SERVERS, ...) and may set WARMUP_TOKEN so /check is exercised
+# behind authentication. A CRaC image keeps the configuration of its training run.
+
+MODE=$1
+ENV_FILE=$2
+NETWORK=${3:-host}
+OUTPUT=target/warm-start
+
+if [[ "$MODE" != "cds" && "$MODE" != "crac" ]] || [[ ! -f "$ENV_FILE" ]]; then
+    echo "Usage: $0 cds|crac <env-file> [docker-network]" >&2
+    exit 1
+fi
+
+mkdir -p "$OUTPUT"
+docker build --target "$MODE-training" -t "inventory-service:$MODE-training" .
+
+if [[ "$MODE" == "cds" ]]; then
+    rm -f "$OUTPUT/inventory-service.jsa"
+    docker run --rm --network "$NETWORK" --env-file "$ENV_FILE" \
+        -v "$PWD/$OUTPUT:/warm-start" \
+        "inventory-service:cds-training"
+    test -f "$OUTPUT/inventory-service.jsa"
+else
+    rm -rf "$OUTPUT/crac"
+    # the JVM is killed once the checkpoint is written, so its exit code is not meaningful
+    docker run --rm --network "$NETWORK" --env-file "$ENV_FILE" \
+        --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE \
+        -v "$PWD/$OUTPUT:/warm-start" \
+        "inventory-service:crac-training" || true
+    ls "$OUTPUT"/crac/*.img > /dev/null
+fi
+
+docker build --target "$MODE" -t "inventory-service:$MODE" .
+
+if [[ "$MODE" == "crac" ]]; then
+    echo "Run inventory-service:crac with --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE"
+fi
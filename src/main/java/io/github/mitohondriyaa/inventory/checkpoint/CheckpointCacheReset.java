@@ -0,0 +1,46 @@
+package io.github.mitohondriyaa.inventory.checkpoint;
+
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.security.ResettableJwkSource;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import io.github.mitohondriyaa.inventory.service.ProductKeyDictionary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckpointCacheReset implements Resource {
+    private final ProductKeyDictionary productKeyDictionary;
+    private final InventoryStockCache inventoryStockCache;
+    private final JwtDecoder jwtDecoder;
+    private final ResettableJwkSource jwkSource;
+
+    @PostConstruct
+    public void register() {
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws Exception {
+        productKeyDictionary.clear();
+        inventoryStockCache.clear();
+
+        if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+            cachingJwtDecoder.clear();
+        }
+
+        jwkSource.reset();
+        log.info("Cleared product keys, cached stock, verified tokens and signing keys before the checkpoint");
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+    }
+}
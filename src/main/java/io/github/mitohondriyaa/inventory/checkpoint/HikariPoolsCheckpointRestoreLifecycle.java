@@ -0,0 +1,39 @@
+package io.github.mitohondriyaa.inventory.checkpoint;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+
+import java.util.Collection;
+import java.util.List;
+
+public class HikariPoolsCheckpointRestoreLifecycle implements Lifecycle {
+    private final List<HikariCheckpointRestoreLifecycle> pools;
+
+    public HikariPoolsCheckpointRestoreLifecycle(
+        Collection<HikariDataSource> dataSources,
+        ConfigurableApplicationContext applicationContext
+    ) {
+        this.pools = dataSources.stream()
+            .map(dataSource -> new HikariCheckpointRestoreLifecycle(dataSource, applicationContext))
+            .toList();
+    }
+
+    @Override
+    public void start() {
+        pools.forEach(HikariCheckpointRestoreLifecycle::start);
+    }
+
+    @Override
+    public void stop() {
+        pools.stream()
+            .filter(HikariCheckpointRestoreLifecycle::isRunning)
+            .forEach(HikariCheckpointRestoreLifecycle::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pools.stream().anyMatch(HikariCheckpointRestoreLifecycle::isRunning);
+    }
+}
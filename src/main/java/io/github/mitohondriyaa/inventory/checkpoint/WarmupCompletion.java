@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.checkpoint;
+
+public enum WarmupCompletion {
+    CONTINUE,
+    EXIT,
+    CHECKPOINT
+}
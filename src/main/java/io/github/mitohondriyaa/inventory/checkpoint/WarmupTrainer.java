@@ -0,0 +1,169 @@
+package io.github.mitohondriyaa.inventory.checkpoint;
+
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.service.InventoryEventMapper;
+import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import io.github.mitohondriyaa.product.event.ProductCreatedEvent;
+import io.github.mitohondriyaa.product.event.ProductDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.warmup.enabled", havingValue = "true")
+public class WarmupTrainer implements ApplicationRunner {
+    private static final int TRAINING_QUANTITY = 1;
+
+    private final InventoryService inventoryService;
+    private final InventoryEventMapper inventoryEventMapper;
+    private final InventoryRepository inventoryRepository;
+    private final ShardRouter shardRouter;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ConfigurableApplicationContext applicationContext;
+    @Value("${inventory.warmup.iterations}")
+    private Integer iterations;
+    @Value("${inventory.warmup.topic}")
+    private String topic;
+    @Value("${inventory.warmup.token}")
+    private String token;
+    @Value("${inventory.warmup.completion}")
+    private WarmupCompletion completion;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        String productId = "warmup-" + UUID.randomUUID();
+        RestClient restClient = RestClient.create("http://localhost:" + applicationContext.getEnvironment()
+            .getRequiredProperty("local.server.port"));
+        int rejectedReservations = 0;
+        int rejectedChecks = 0;
+        Long inventoryId = seed(productId);
+
+        // The training row is never sold from, so every reservation is released straight away and the
+        // resulting events go to a topic nobody consumes; the row is removed again before traffic or a checkpoint.
+        try {
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                OrderPlacedEvent orderPlacedEvent = orderPlaced(productId, iteration);
+                boolean reserved = inventoryService.reserveStock(productId, orderPlacedEvent.getQuantity());
+
+                if (reserved) {
+                    inventoryService.releaseStock(productId, orderPlacedEvent.getQuantity());
+                    send(inventoryEventMapper.inventoryReserved(orderPlacedEvent));
+                } else {
+                    rejectedReservations++;
+                    send(inventoryEventMapper.inventoryRejected(orderPlacedEvent));
+                }
+
+                // The first check loads the stock the reservation evicted, the second one is served from the cache
+                if (!check(restClient, productId) || !check(restClient, productId)) {
+                    rejectedChecks++;
+                }
+            }
+
+            kafkaTemplate.flush();
+        } finally {
+            clear(productId, inventoryId);
+        }
+
+        log.info("Warm-up finished {} reservations and {} checks in {} ms ({} reservations rejected, {} checks failed)",
+            iterations,
+            iterations * 2,
+            (System.nanoTime() - startedAt) / 1_000_000,
+            rejectedReservations,
+            rejectedChecks
+        );
+
+        switch (completion) {
+            case CONTINUE -> log.info("Serving traffic after warm-up");
+            case EXIT -> System.exit(SpringApplication.exit(applicationContext));
+            case CHECKPOINT -> checkpoint();
+        }
+    }
+
+    private Long seed(String productId) {
+        ProductCreatedEvent productCreatedEvent = new ProductCreatedEvent();
+        productCreatedEvent.setProductId(productId);
+        inventoryService.createInventories(List.of(productCreatedEvent));
+
+        return inventoryService.updateInventoryByProductId(new InventoryRequest(productId, TRAINING_QUANTITY)).id();
+    }
+
+    private void clear(String productId, Long inventoryId) {
+        ProductDeletedEvent productDeletedEvent = new ProductDeletedEvent();
+        productDeletedEvent.setProductId(productId);
+        inventoryService.deleteInventoriesByProductID(List.of(productDeletedEvent));
+        shardRouter.runOnShardOf(productId, () -> inventoryRepository.purgeDeletedByIds(List.of(inventoryId)));
+    }
+
+    private void send(ProducerRecord<String, Object> producerRecord) {
+        ProducerRecord<String, Object> trainingRecord = new ProducerRecord<>(
+            topic,
+            null,
+            producerRecord.key(),
+            producerRecord.value(),
+            producerRecord.headers()
+        );
+
+        kafkaTemplate.send(trainingRecord);
+    }
+
+    private static OrderPlacedEvent orderPlaced(String productId, int iteration) {
+        OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+        orderPlacedEvent.setOrderNumber("warmup-order-" + iteration);
+        orderPlacedEvent.setProductId(productId);
+        orderPlacedEvent.setQuantity(TRAINING_QUANTITY);
+        orderPlacedEvent.setEmail("warmup@example.com");
+        orderPlacedEvent.setFirstName("Warm");
+        orderPlacedEvent.setLastName("Up");
+
+        return orderPlacedEvent;
+    }
+
+    private boolean check(RestClient restClient, String productId) {
+        return restClient.get()
+            .uri("/api/inventory/check?productId={productId}&quantity=1", productId)
+            .headers(headers -> {
+                if (!token.isBlank()) {
+                    headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+                }
+            })
+            .exchange((request, response) -> response.getStatusCode().is2xxSuccessful());
+    }
+
+    private void checkpoint() {
+        log.info("Requesting a CRaC checkpoint");
+
+        try {
+            Core.checkpointRestore();
+            log.info("Restored from a CRaC checkpoint");
+        } catch (CheckpointException | RestoreException exception) {
+            log.warn("CRaC checkpoint was not taken, continuing without it", exception);
+        } catch (UnsupportedOperationException exception) {
+            log.warn("This JVM does not support CRaC, continuing without a checkpoint");
+        }
+    }
+}
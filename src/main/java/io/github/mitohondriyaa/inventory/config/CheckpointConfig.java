@@ -0,0 +1,45 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.mitohondriyaa.inventory.checkpoint.HikariPoolsCheckpointRestoreLifecycle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Configuration
+@ConditionalOnCheckpointRestore
+public class CheckpointConfig {
+    @Bean
+    public HikariPoolsCheckpointRestoreLifecycle hikariPoolsCheckpointRestoreLifecycle(
+        DataSource dataSource,
+        Map<String, DataSource> dataSources,
+        ConfigurableApplicationContext applicationContext
+    ) {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (DataSource candidate : dataSources.values()) {
+            if (candidate instanceof HikariDataSource hikariDataSource) {
+                pools.add(hikariDataSource);
+            } else if (candidate instanceof AbstractRoutingDataSource routingDataSource) {
+                routingDataSource.getResolvedDataSources().values().stream()
+                    .filter(HikariDataSource.class::isInstance)
+                    .map(HikariDataSource.class::cast)
+                    .forEach(pools::add);
+            }
+        }
+
+        pools.remove(DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class));
+
+        return new HikariPoolsCheckpointRestoreLifecycle(pools, applicationContext);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import io.github.mitohondriyaa.inventory.lag.ConsumerLagProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConsumerLagProperties.class)
+public class ConsumerLagConfig {
+}
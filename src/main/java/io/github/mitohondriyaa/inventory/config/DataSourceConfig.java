@@ -0,0 +1,84 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.mitohondriyaa.inventory.datasource.ConsistencyTokenFilter;
+import io.github.mitohondriyaa.inventory.datasource.DataSourceRole;
+import io.github.mitohondriyaa.inventory.datasource.ReadWriteRoutingDataSource;
+import io.github.mitohondriyaa.inventory.datasource.ReplicaMonitor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "inventory.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+        @Value("${inventory.datasource.replica.url}") String url,
+        @Value("${inventory.datasource.replica.username}") String username,
+        @Value("${inventory.datasource.replica.password}") String password
+    ) {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    }
+
+    @Bean
+    public ReplicaMonitor replicaMonitor(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${inventory.datasource.replica.catch-up-timeout-seconds}") Double catchUpTimeoutSeconds
+    ) {
+        return new ReplicaMonitor(
+            new JdbcTemplate(primaryDataSource),
+            new JdbcTemplate(replicaDataSource),
+            catchUpTimeoutSeconds
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ReplicaMonitor replicaMonitor
+    ) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaMonitor);
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceRole.PRIMARY, primaryDataSource,
+            DataSourceRole.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ConsistencyTokenFilter consistencyTokenFilter() {
+        return new ConsistencyTokenFilter();
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.xml.bind.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.hibernate.type.SerializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -52,6 +54,21 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
         factory.setCommonErrorHandler(errorHandler);
+        factory.getContainerProperties().setObservationEnabled(true);
+
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+        ConsumerFactory<String, Object> consumerFactory,
+        DefaultErrorHandler errorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setCommonErrorHandler(errorHandler);
+        factory.getContainerProperties().setObservationEnabled(true);
+        factory.setBatchListener(true);
 
         return factory;
     }
@@ -67,4 +84,11 @@ public class KafkaConfig {
     public NewTopic inventoryRejectedTopic() {
         return new NewTopic("inventory-rejected", 3, (short) 2);
     }
+
+    @Bean
+    @Profile("!test")
+    @ConditionalOnProperty(name = "inventory.warmup.enabled", havingValue = "true")
+    public NewTopic inventoryWarmupTopic(@Value("${inventory.warmup.topic}") String topic) {
+        return new NewTopic(topic, 1, (short) 2);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import io.github.mitohondriyaa.inventory.dto.InventoryPage;
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.github.mitohondriyaa.inventory.exception.Info;
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.model.InventoryImport;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.InventoryRuntimeHints.class)
+@RegisterReflectionForBinding({InventoryRequest.class, InventoryResponse.class, InventoryPage.class, Info.class})
+public class NativeHintsConfig {
+    static class InventoryRuntimeHints implements RuntimeHintsRegistrar {
+        private static final String AVRO_BASE_PACKAGE = "io.github.mitohondriyaa";
+        private static final String CONFLUENT_REST_PACKAGE = "io.confluent.kafka.schemaregistry.client.rest.entities";
+        private static final List<String> CONFLUENT_INSTANTIATED_TYPES = List.of(
+            "io.confluent.kafka.serializers.KafkaAvroSerializer",
+            "io.confluent.kafka.serializers.KafkaAvroDeserializer",
+            "io.confluent.kafka.serializers.subject.TopicNameStrategy",
+            "io.confluent.kafka.serializers.subject.RecordNameStrategy",
+            "io.confluent.kafka.serializers.subject.TopicRecordNameStrategy",
+            "io.confluent.kafka.serializers.context.NullContextNameStrategy",
+            "io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider",
+            "io.confluent.kafka.schemaregistry.client.rest.RestService"
+        );
+        private static final String DATASOURCE_PROXY_MARKER = "net.ttddyy.dsproxy.proxy.ProxyJdbcObject";
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerAvroRecords(hints, classLoader);
+            registerConfluentSerializers(hints, classLoader);
+            registerHibernateEntities(hints);
+            registerDataSourceProxies(hints, classLoader);
+
+            hints.resources().registerPattern("scripts/*.lua");
+        }
+
+        private void registerAvroRecords(RuntimeHints hints, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter(new AssignableTypeFilter(SpecificRecordBase.class));
+
+            for (String className : candidateClassNames(scanner, AVRO_BASE_PACKAGE)) {
+                hints.reflection().registerType(
+                    TypeReference.of(className),
+                    MemberCategory.PUBLIC_FIELDS,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS
+                );
+            }
+        }
+
+        private void registerConfluentSerializers(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : CONFLUENT_INSTANTIATED_TYPES) {
+                hints.reflection().registerType(
+                    TypeReference.of(className),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS
+                );
+            }
+
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+            for (String className : candidateClassNames(scanner, CONFLUENT_REST_PACKAGE)) {
+                bindingRegistrar.registerReflectionHints(
+                    hints.reflection(),
+                    ClassUtils.resolveClassName(className, classLoader)
+                );
+            }
+        }
+
+        private void registerHibernateEntities(RuntimeHints hints) {
+            for (Class<?> entity : List.of(Inventory.class, InventoryImport.class)) {
+                hints.reflection().registerType(
+                    entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS
+                );
+            }
+        }
+
+        private void registerDataSourceProxies(RuntimeHints hints, ClassLoader classLoader) {
+            if (!ClassUtils.isPresent(DATASOURCE_PROXY_MARKER, classLoader)) {
+                return;
+            }
+
+            for (Class<?> jdbcType : List.of(
+                DataSource.class,
+                Connection.class,
+                Statement.class,
+                PreparedStatement.class,
+                CallableStatement.class,
+                ResultSet.class
+            )) {
+                hints.proxies().registerJdkProxy(TypeReference.of(DATASOURCE_PROXY_MARKER), TypeReference.of(jdbcType));
+            }
+        }
+
+        private static List<String> candidateClassNames(
+            ClassPathScanningCandidateComponentProvider scanner,
+            String basePackage
+        ) {
+            Set<BeanDefinition> candidates = scanner.findCandidateComponents(basePackage);
+
+            return candidates.stream()
+                .map(BeanDefinition::getBeanClassName)
+                .sorted()
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import io.github.mitohondriyaa.inventory.reactive.ReactiveConnectionPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.ValidationDepth;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "inventory.reactive.enabled", havingValue = "true")
+public class ReactiveConfig {
+    @Bean
+    public ReactiveConnectionPool reactiveConnectionFactory(
+        @Value("${inventory.reactive.r2dbc.url}") String url,
+        @Value("${inventory.reactive.r2dbc.username}") String username,
+        @Value("${inventory.reactive.r2dbc.password}") String password,
+        @Value("${inventory.reactive.r2dbc.pool.initial-size}") Integer initialSize,
+        @Value("${inventory.reactive.r2dbc.pool.max-size}") Integer maxSize,
+        @Value("${inventory.reactive.r2dbc.pool.max-acquire-time-ms}") Long maxAcquireTimeMs,
+        @Value("${inventory.reactive.r2dbc.pool.max-idle-time-ms}") Long maxIdleTimeMs,
+        MeterRegistry meterRegistry
+    ) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url)
+            .mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build());
+
+        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder(connectionFactory)
+            .name("inventory-reactive")
+            .initialSize(initialSize)
+            .maxSize(maxSize)
+            .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+            .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+            .backgroundEvictionInterval(Duration.ofMillis(maxIdleTimeMs / 2))
+            .validationDepth(ValidationDepth.LOCAL)
+            .build();
+
+        return new ReactiveConnectionPool(
+            () -> new ConnectionPool(poolConfiguration),
+            "inventory-reactive",
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveConnectionPool reactiveConnectionFactory) {
+        return DatabaseClient.create(reactiveConnectionFactory);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class RedisCircuitBreakerConfig {
+    @Value("${inventory.idempotency.redis.circuit-breaker.failure-rate-threshold}")
+    private Float failureRateThreshold;
+    @Value("${inventory.idempotency.redis.circuit-breaker.slow-call-duration-ms}")
+    private Long slowCallDurationMs;
+    @Value("${inventory.idempotency.redis.circuit-breaker.sliding-window-size}")
+    private Integer slidingWindowSize;
+    @Value("${inventory.idempotency.redis.circuit-breaker.minimum-number-of-calls}")
+    private Integer minimumNumberOfCalls;
+    @Value("${inventory.idempotency.redis.circuit-breaker.wait-duration-in-open-state-ms}")
+    private Long waitDurationInOpenStateMs;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+            .bindTo(meterRegistry);
+
+        return circuitBreakerRegistry;
+    }
+
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(
+            "redis-idempotency",
+            CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .build()
+        );
+    }
+}
@@ -1,13 +1,20 @@
 package io.github.mitohondriyaa.inventory.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.Duration;
+
 @Configuration
 @Profile("!test")
 public class RedisConfig {
@@ -15,10 +22,27 @@ public class RedisConfig {
     private String redisIdempotencyHost;
     @Value("${redis.idempotency.port}")
     private Integer redisIdempotencyPort;
+    @Value("${redis.idempotency.command-timeout-ms}")
+    private Long redisIdempotencyCommandTimeoutMs;
+    @Value("${redis.idempotency.connect-timeout-ms}")
+    private Long redisIdempotencyConnectTimeoutMs;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisIdempotencyHost, redisIdempotencyPort);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .clientResources(clientResources)
+            .commandTimeout(Duration.ofMillis(redisIdempotencyCommandTimeoutMs))
+            .clientOptions(ClientOptions.builder()
+                .socketOptions(SocketOptions.builder()
+                    .connectTimeout(Duration.ofMillis(redisIdempotencyConnectTimeoutMs))
+                    .build())
+                .build())
+            .build();
+
+        return new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redisIdempotencyHost, redisIdempotencyPort),
+            clientConfiguration
+        );
     }
 
     @Bean
@@ -27,4 +51,4 @@ public class RedisConfig {
     ) {
         return new StringRedisTemplate(redisCounterConnectionFactory);
     }
-}
\ No newline at end of file
+}
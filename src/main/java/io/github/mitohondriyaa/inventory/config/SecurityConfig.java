@@ -1,16 +1,50 @@
 package io.github.mitohondriyaa.inventory.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.security.ResettableJwkSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.web.client.RestClient;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class SecurityConfig {
+    @Value("${inventory.security.token-cache.max-entries}")
+    private Integer tokenCacheMaxEntries;
+    @Value("${inventory.security.token-cache.max-ttl-seconds}")
+    private Long tokenCacheMaxTtlSeconds;
+    @Value("${inventory.security.jwks.ttl-ms}")
+    private Long jwksTtlMs;
+    @Value("${inventory.security.jwks.refresh-timeout-ms}")
+    private Long jwksRefreshTimeoutMs;
+    @Value("${inventory.security.jwks.refresh-ahead-ms}")
+    private Long jwksRefreshAheadMs;
+
     @Bean
     public AuthenticationEntryPoint authenticationEntryPoint() {
         return (request, response, authException) -> {
@@ -41,6 +75,70 @@ public class SecurityConfig {
         };
     }
 
+    @Bean(destroyMethod = "close")
+    public ResettableJwkSource jwkSource(
+        OAuth2ResourceServerProperties resourceServerProperties
+    ) throws MalformedURLException {
+        URL jwkSetUrl = jwkSetUrl(resourceServerProperties.getJwt());
+
+        return new ResettableJwkSource(() -> JWKSourceBuilder
+            .create(jwkSetUrl)
+            .cache(jwksTtlMs, jwksRefreshTimeoutMs)
+            .refreshAheadCache(jwksRefreshAheadMs, true)
+            .build());
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+        OAuth2ResourceServerProperties resourceServerProperties,
+        JWKSource<SecurityContext> jwkSource,
+        MeterRegistry meterRegistry
+    ) {
+        OAuth2ResourceServerProperties.Jwt jwtProperties = resourceServerProperties.getJwt();
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        nimbusJwtDecoder.setJwtValidator(jwtProperties.getIssuerUri() == null
+            ? JwtValidators.createDefault()
+            : JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri()));
+
+        return new CachingJwtDecoder(
+            nimbusJwtDecoder,
+            tokenCacheMaxEntries,
+            Duration.ofSeconds(tokenCacheMaxTtlSeconds),
+            Clock.systemUTC(),
+            meterRegistry
+        );
+    }
+
+    private static URL jwkSetUrl(OAuth2ResourceServerProperties.Jwt jwtProperties) throws MalformedURLException {
+        if (jwtProperties.getJwkSetUri() != null) {
+            return URI.create(jwtProperties.getJwkSetUri()).toURL();
+        }
+
+        if (jwtProperties.getIssuerUri() == null) {
+            throw new IllegalStateException(
+                "Set spring.security.oauth2.resourceserver.jwt.jwk-set-uri or issuer-uri to verify bearer tokens"
+            );
+        }
+
+        String configurationUri = jwtProperties.getIssuerUri().replaceFirst("/$", "")
+            + "/.well-known/openid-configuration";
+        Map<String, Object> configuration = RestClient.create()
+            .get()
+            .uri(configurationUri)
+            .retrieve()
+            .body(new ParameterizedTypeReference<>() {});
+
+        if (configuration == null || !(configuration.get("jwks_uri") instanceof String jwksUri)) {
+            throw new IllegalStateException("No jwks_uri in the discovery document at " + configurationUri);
+        }
+
+        return URI.create(jwksUri).toURL();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(
         HttpSecurity http,
@@ -51,9 +149,13 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/swagger-ui/**",
                     "/swagger-api/**",
-                    "/swagger-ui.html"
+                    "/swagger-ui.html",
+                    "/actuator/health/**",
+                    "/actuator/prometheus"
                 )
                 .permitAll()
+                .requestMatchers("/api/admin/**")
+                .hasRole("INVENTORY_ADMIN")
                 .anyRequest()
                 .hasRole("INVENTORY_MANAGER"))
             .oauth2ResourceServer(oauth2 -> oauth2
@@ -0,0 +1,102 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.github.mitohondriyaa.inventory.sharding.ShardRoutingDataSource;
+import io.github.mitohondriyaa.inventory.sharding.ShardingProperties;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+    @Bean(destroyMethod = "close")
+    public ShardRouter shardRouter(ShardingProperties shardingProperties) {
+        if (!shardingProperties.enabled()) {
+            return ShardRouter.single();
+        }
+
+        return ShardRouter.sharded(
+            shardingProperties.shards().stream()
+                .map(ShardingProperties.Shard::name)
+                .toList(),
+            shardingProperties.previousShards(),
+            shardingProperties.virtualNodes()
+        );
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "inventory.sharding.enabled", havingValue = "true")
+    static class ShardDataSourceConfig {
+        @Bean
+        public ShardRoutingDataSource shardRoutingDataSource(
+            ShardingProperties shardingProperties,
+            Environment environment,
+            @Value("${inventory.datasource.replica.enabled}") Boolean replicaEnabled
+        ) {
+            if (replicaEnabled) {
+                throw new IllegalStateException("Sharding cannot be combined with replica routing");
+            }
+
+            if (shardingProperties.shards().isEmpty()) {
+                throw new IllegalStateException("Sharding is enabled but no shards are configured");
+            }
+
+            Map<Object, Object> shardDataSources = new LinkedHashMap<>();
+
+            for (ShardingProperties.Shard shard : shardingProperties.shards()) {
+                HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+                Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+                dataSource.setPoolName("inventory-" + shard.name());
+
+                shardDataSources.put(shard.name(), dataSource);
+            }
+
+            ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+            routingDataSource.setTargetDataSources(shardDataSources);
+            routingDataSource.setDefaultTargetDataSource(shardDataSources.values().iterator().next());
+            routingDataSource.afterPropertiesSet();
+
+            return routingDataSource;
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+        }
+
+        @Bean
+        public FlywayMigrationStrategy shardedFlywayMigrationStrategy(
+            ShardRoutingDataSource shardRoutingDataSource
+        ) {
+            return flyway -> shardRoutingDataSource.getResolvedDataSources()
+                .values()
+                .forEach(shardDataSource -> Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(shardDataSource)
+                    .load()
+                    .migrate());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import io.github.mitohondriyaa.inventory.tracing.SpanLogFile;
+import io.github.mitohondriyaa.inventory.tracing.TracingDeserializer;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+@Configuration
+public class TracingConfig {
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(ObservationRegistry observationRegistry) {
+        return clientResourcesBuilder -> clientResourcesBuilder.tracing(
+            new MicrometerTracing(observationRegistry, applicationName + "-redis")
+        );
+    }
+
+    @Bean
+    public DefaultKafkaConsumerFactoryCustomizer tracingDeserializerCustomizer(Propagator propagator, Tracer tracer) {
+        return consumerFactory -> {
+            @SuppressWarnings("unchecked")
+            DefaultKafkaConsumerFactory<Object, Object> tracedConsumerFactory
+                = (DefaultKafkaConsumerFactory<Object, Object>) consumerFactory;
+            Object valueDeserializer = consumerFactory.getConfigurationProperties()
+                .get(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG);
+
+            tracedConsumerFactory.setValueDeserializerSupplier(
+                () -> new TracingDeserializer(instantiateDeserializer(valueDeserializer), propagator, tracer)
+            );
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "inventory.tracing.exporter", havingValue = "file")
+    public SpanLogFile spanLogFile(@Value("${inventory.tracing.file-path}") Path filePath) {
+        return new SpanLogFile(filePath, Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "inventory.tracing.exporter", havingValue = "file")
+    public SpanExporter fileSpanExporter(SpanLogFile spanLogFile) {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Deserializer<Object> instantiateDeserializer(Object deserializer) {
+        try {
+            Class<?> deserializerClass = deserializer instanceof Class<?> type
+                ? type
+                : ClassUtils.forName(deserializer.toString(), TracingConfig.class.getClassLoader());
+
+            return (Deserializer<Object>) BeanUtils.instantiateClass(deserializerClass);
+        } catch (ClassNotFoundException exception) {
+            throw new IllegalStateException("Value deserializer " + deserializer + " not found", exception);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.mitohondriyaa.inventory.controller;
+
+import io.github.mitohondriyaa.inventory.diagnostics.JfrRecordingService;
+import io.github.mitohondriyaa.inventory.dto.JfrProfile;
+import io.github.mitohondriyaa.inventory.dto.JfrRecordingResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+    private final JfrRecordingService jfrRecordingService;
+
+    @PostMapping("/jfr")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JfrRecordingResponse startJfr(
+        @RequestParam(defaultValue = "PROFILE") JfrProfile profile,
+        @RequestParam(defaultValue = "30") Long durationSeconds
+    ) throws IOException, ParseException {
+        return jfrRecordingService.start(profile, durationSeconds);
+    }
+
+    @GetMapping("/jfr/{id}")
+    public ResponseEntity<StreamingResponseBody> downloadJfr(@PathVariable Long id) throws IOException {
+        Path recording = jfrRecordingService.take(id);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .contentLength(Files.size(recording))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(recording.getFileName().toString())
+                .build()
+                .toString())
+            .body(outputStream -> {
+                try {
+                    Files.copy(recording, outputStream);
+                } finally {
+                    Files.deleteIfExists(recording);
+                }
+            });
+    }
+}
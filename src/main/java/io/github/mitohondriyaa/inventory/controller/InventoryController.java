@@ -1,13 +1,21 @@
 package io.github.mitohondriyaa.inventory.controller;
 
+import io.github.mitohondriyaa.inventory.dto.InventoryFileFormat;
+import io.github.mitohondriyaa.inventory.dto.InventoryImportResponse;
 import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
 import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
-import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.service.InventoryExportService;
+import io.github.mitohondriyaa.inventory.service.InventoryImportService;
 import io.github.mitohondriyaa.inventory.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,6 +23,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InventoryController {
     private final InventoryService inventoryService;
+    private final InventoryImportService inventoryImportService;
+    private final InventoryExportService inventoryExportService;
 
     @GetMapping("/check")
     @ResponseStatus(HttpStatus.OK)
@@ -36,7 +46,40 @@ public class InventoryController {
 
     @PutMapping
     @ResponseStatus(HttpStatus.OK)
-    public InventoryResponse updateInventoryById(@RequestBody InventoryRequest inventoryRequest) {
-        return inventoryService.updateInventoryByProductId(inventoryRequest);
+    public InventoryResponse updateInventoryById(
+        @RequestBody InventoryRequest inventoryRequest,
+        @RequestHeader(name = "X-Expected-Quantity", required = false) Integer expectedQuantity
+    ) {
+        return inventoryService.updateInventoryByProductId(inventoryRequest, expectedQuantity);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInventories(
+        @RequestParam(defaultValue = "CSV") InventoryFileFormat format
+    ) {
+        MediaType mediaType = switch (format) {
+            case CSV -> MediaType.parseMediaType("text/csv");
+            case NDJSON -> MediaType.APPLICATION_NDJSON;
+        };
+
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .body(outputStream -> inventoryExportService.exportInventories(format, outputStream));
+    }
+
+    @PostMapping("/import")
+    @ResponseStatus(HttpStatus.OK)
+    public InventoryImportResponse importInventories(
+        @RequestParam(defaultValue = "CSV") InventoryFileFormat format,
+        @RequestParam(required = false) String jobId,
+        InputStream inputStream
+    ) throws IOException {
+        return inventoryImportService.importInventories(format, jobId, inputStream);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @ResponseStatus(HttpStatus.OK)
+    public InventoryImportResponse getImport(@PathVariable String jobId) {
+        return inventoryImportService.getImport(jobId);
     }
 }
\ No newline at end of file
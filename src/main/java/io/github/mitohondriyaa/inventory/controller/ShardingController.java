@@ -0,0 +1,20 @@
+package io.github.mitohondriyaa.inventory.controller;
+
+import io.github.mitohondriyaa.inventory.dto.ReshardResponse;
+import io.github.mitohondriyaa.inventory.service.ReshardingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/sharding")
+@RequiredArgsConstructor
+public class ShardingController {
+    private final ReshardingService reshardingService;
+
+    @PostMapping("/reshard")
+    @ResponseStatus(HttpStatus.OK)
+    public ReshardResponse reshard() {
+        return reshardingService.reshard();
+    }
+}
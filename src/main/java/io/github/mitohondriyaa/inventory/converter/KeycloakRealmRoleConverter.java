@@ -9,9 +9,13 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class KeycloakRealmRoleConverter implements Converter<Jwt, JwtAuthenticationToken> {
+    private static final int MAX_ROLE_COMBINATIONS = 1024;
+
+    private final Map<List<String>, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
     @Override
     public JwtAuthenticationToken convert(Jwt jwt) {
         Map<String, List<String>> realmAccess = jwt.getClaim("realm_access");
@@ -20,12 +24,26 @@ public class KeycloakRealmRoleConverter implements Converter<Jwt, JwtAuthenticat
             return new JwtAuthenticationToken(jwt, Collections.emptyList());
         }
 
-        List<GrantedAuthority> authorities = realmAccess.get("roles")
-            .stream()
+        return new JwtAuthenticationToken(jwt, authorities(realmAccess.get("roles")));
+    }
+
+    private List<GrantedAuthority> authorities(List<String> roles) {
+        List<GrantedAuthority> authorities = authoritiesByRoles.get(roles);
+
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = roles.stream()
             .map(role -> "ROLE_" + role)
             .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+            .map(GrantedAuthority.class::cast)
+            .toList();
+
+        if (authoritiesByRoles.size() < MAX_ROLE_COMBINATIONS) {
+            authoritiesByRoles.putIfAbsent(List.copyOf(roles), authorities);
+        }
 
-        return new JwtAuthenticationToken(jwt, authorities);
+        return authorities;
     }
-}
\ No newline at end of file
+}
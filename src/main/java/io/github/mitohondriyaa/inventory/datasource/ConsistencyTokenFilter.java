@@ -0,0 +1,35 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        String consistencyToken = request.getHeader(CONSISTENCY_TOKEN_HEADER);
+
+        if (consistencyToken == null || consistencyToken.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadConsistencyContext.setConsistencyToken(consistencyToken);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+}
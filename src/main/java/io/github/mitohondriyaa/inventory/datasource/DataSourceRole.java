@@ -0,0 +1,6 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,20 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+public final class ReadConsistencyContext {
+    private static final ThreadLocal<String> CONSISTENCY_TOKEN = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {
+    }
+
+    public static String getConsistencyToken() {
+        return CONSISTENCY_TOKEN.get();
+    }
+
+    public static void setConsistencyToken(String consistencyToken) {
+        CONSISTENCY_TOKEN.set(consistencyToken);
+    }
+
+    public static void clear() {
+        CONSISTENCY_TOKEN.remove();
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaMonitor replicaMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        String consistencyToken = ReadConsistencyContext.getConsistencyToken();
+
+        if (consistencyToken == null || replicaMonitor.hasApplied(consistencyToken)) {
+            return DataSourceRole.REPLICA;
+        }
+
+        return DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class ReplicaMonitor {
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Double catchUpTimeoutSeconds;
+    private volatile String lastAppliedToken;
+
+    public ReplicaMonitor(
+        JdbcTemplate primaryJdbcTemplate,
+        JdbcTemplate replicaJdbcTemplate,
+        Double catchUpTimeoutSeconds
+    ) {
+        this.primaryJdbcTemplate = primaryJdbcTemplate;
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.catchUpTimeoutSeconds = catchUpTimeoutSeconds;
+    }
+
+    public String currentConsistencyToken() {
+        return primaryJdbcTemplate.queryForObject("SELECT @@GLOBAL.gtid_executed", String.class);
+    }
+
+    public boolean hasApplied(String consistencyToken) {
+        if (consistencyToken.equals(lastAppliedToken)) {
+            return true;
+        }
+
+        try {
+            Integer timedOut = replicaJdbcTemplate.queryForObject(
+                "SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)",
+                Integer.class,
+                consistencyToken,
+                catchUpTimeoutSeconds
+            );
+
+            if (timedOut != null && timedOut == 0) {
+                lastAppliedToken = consistencyToken;
+                return true;
+            }
+        } catch (DataAccessException exception) {
+            log.warn("Could not check replica for consistency token: {}", exception.getMessage());
+        }
+
+        return false;
+    }
+
+    public Long replicationLagSeconds() {
+        List<Map<String, Object>> status = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+
+        if (status.isEmpty()) {
+            return 0L;
+        }
+
+        Object secondsBehindSource = status.getFirst().get("Seconds_Behind_Source");
+
+        return secondsBehindSource != null
+            ? Long.parseLong(secondsBehindSource.toString())
+            : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.mitohondriyaa.inventory.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.mitohondriyaa.inventory.EventPublish")
+@Label("Inventory Event Publish")
+@Category({"Inventory", "Kafka"})
+@Description("Hand-off of an outbound inventory event to the Kafka producer")
+public class EventPublishEvent extends Event {
+    @Label("Topic")
+    public String topic;
+}
@@ -0,0 +1,124 @@
+package io.github.mitohondriyaa.inventory.diagnostics;
+
+import io.github.mitohondriyaa.inventory.dto.JfrProfile;
+import io.github.mitohondriyaa.inventory.dto.JfrRecordingResponse;
+import io.github.mitohondriyaa.inventory.exception.NotFoundException;
+import io.github.mitohondriyaa.inventory.exception.RecordingInProgressException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JfrRecordingService {
+    private final TaskScheduler taskScheduler;
+    private final AtomicReference<Recording> running = new AtomicReference<>();
+    private final Map<Long, Path> finishedRecordings = new ConcurrentHashMap<>();
+    @Value("${inventory.diagnostics.jfr.max-duration-seconds}")
+    private Long maxDurationSeconds;
+
+    public JfrRecordingResponse start(JfrProfile profile, long durationSeconds) throws IOException, ParseException {
+        Duration duration = Duration.ofSeconds(Math.clamp(durationSeconds, 1, maxDurationSeconds));
+        Recording jfrRecording = new Recording(Configuration.getConfiguration(profile.getConfigurationName()));
+
+        if (!running.compareAndSet(null, jfrRecording)) {
+            jfrRecording.close();
+            throw new RecordingInProgressException("A JFR recording is already running");
+        }
+
+        try {
+            jfrRecording.setName("inventory-diagnostics");
+            jfrRecording.setToDisk(true);
+            jfrRecording.start();
+            taskScheduler.schedule(() -> finish(jfrRecording), Instant.now().plus(duration));
+        } catch (RuntimeException exception) {
+            running.set(null);
+            jfrRecording.close();
+            throw exception;
+        }
+
+        log.info("Started {} JFR recording {} for {}", profile.getConfigurationName(), jfrRecording.getId(), duration);
+
+        return new JfrRecordingResponse(jfrRecording.getId(), duration.toSeconds());
+    }
+
+    public Path take(long id) {
+        Recording jfrRecording = running.get();
+
+        if (jfrRecording != null && jfrRecording.getId() == id) {
+            throw new RecordingInProgressException("JFR recording " + id + " is still running");
+        }
+
+        Path destination = finishedRecordings.remove(id);
+
+        if (destination == null) {
+            throw new NotFoundException("JFR recording not found");
+        }
+
+        return destination;
+    }
+
+    @PreDestroy
+    public void close() {
+        Recording jfrRecording = running.getAndSet(null);
+
+        if (jfrRecording != null) {
+            jfrRecording.close();
+        }
+
+        finishedRecordings.keySet().forEach(this::discard);
+    }
+
+    private void finish(Recording jfrRecording) {
+        Path destination = null;
+
+        try {
+            destination = Files.createTempFile("inventory-service-", ".jfr");
+            jfrRecording.stop();
+            jfrRecording.dump(destination);
+
+            // Only the latest recording is kept for download, so abandoned ones don't pile up in tmp.
+            finishedRecordings.keySet().forEach(this::discard);
+            finishedRecordings.put(jfrRecording.getId(), destination);
+            log.info("Finished JFR recording {} at {}", jfrRecording.getId(), destination);
+        } catch (IOException | RuntimeException exception) {
+            log.warn("Failed to dump JFR recording {}", jfrRecording.getId(), exception);
+            deleteQuietly(destination);
+        } finally {
+            jfrRecording.close();
+            running.compareAndSet(jfrRecording, null);
+        }
+    }
+
+    private void discard(Long id) {
+        deleteQuietly(finishedRecordings.remove(id));
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            log.warn("Failed to delete JFR recording {}", path, exception);
+        }
+    }
+}
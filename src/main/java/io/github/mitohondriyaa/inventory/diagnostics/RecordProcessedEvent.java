@@ -0,0 +1,28 @@
+package io.github.mitohondriyaa.inventory.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.mitohondriyaa.inventory.RecordProcessed")
+@Label("Inventory Record Processed")
+@Category({"Inventory", "Kafka"})
+@Description("Handling of consumed records by an inventory listener")
+public class RecordProcessedEvent extends Event {
+    @Label("Topic")
+    public String topic;
+    @Label("Partition")
+    public int partition;
+    @Label("Offset")
+    public long offset;
+    @Label("Last Offset")
+    public long lastOffset;
+    @Label("Records")
+    public int records;
+    @Label("Product Id")
+    public String productId;
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,22 @@
+package io.github.mitohondriyaa.inventory.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.github.mitohondriyaa.inventory.StockUpdate")
+@Label("Inventory Stock Update")
+@Category({"Inventory", "Database"})
+@Description("Conditional stock update statement for one product")
+public class StockUpdateEvent extends Event {
+    @Label("Product Id")
+    public String productId;
+    @Label("Operation")
+    public String operation;
+    @Label("Quantity")
+    public int quantity;
+    @Label("Applied")
+    public boolean applied;
+}
@@ -0,0 +1,13 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+public enum InventoryFileFormat {
+    CSV,
+    NDJSON;
+
+    public static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumn("productId")
+        .addNumberColumn("quantity")
+        .build();
+}
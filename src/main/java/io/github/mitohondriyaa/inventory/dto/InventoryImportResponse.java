@@ -0,0 +1,16 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+import io.github.mitohondriyaa.inventory.model.InventoryImportStatus;
+
+import java.util.List;
+
+public record InventoryImportResponse(
+    String jobId,
+    InventoryImportStatus status,
+    Long committedOffset,
+    Long processedLines,
+    Long importedRows,
+    Long rejectedLines,
+    Long rowsPerSecond,
+    List<String> rejections
+) {}
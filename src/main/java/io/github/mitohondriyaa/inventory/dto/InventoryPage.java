@@ -0,0 +1,5 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+import java.util.List;
+
+public record InventoryPage(List<InventoryResponse> items, Long nextCursor) {}
@@ -0,0 +1,13 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JfrProfile {
+    DEFAULT("default"),
+    PROFILE("profile");
+
+    private final String configurationName;
+}
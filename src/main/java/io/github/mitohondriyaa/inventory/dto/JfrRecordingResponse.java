@@ -0,0 +1,3 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+public record JfrRecordingResponse(Long id, Long durationSeconds) {}
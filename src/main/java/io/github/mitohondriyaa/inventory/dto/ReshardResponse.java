@@ -0,0 +1,3 @@
+package io.github.mitohondriyaa.inventory.dto;
+
+public record ReshardResponse(Long scannedRows, Long movedRows, Long changedDuringMoveRows) {}
@@ -7,6 +7,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.stream.Collectors;
 
@@ -21,6 +22,42 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(info, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Info> handleImportInProgressException(
+        ImportInProgressException exception
+    ) {
+        Info info = new Info(exception.getMessage());
+
+        return new ResponseEntity<>(info, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Info> handleStaleInventoryException(
+        StaleInventoryException exception
+    ) {
+        Info info = new Info(exception.getMessage());
+
+        return new ResponseEntity<>(info, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Info> handleShardingNotEnabledException(
+        ShardingNotEnabledException exception
+    ) {
+        Info info = new Info(exception.getMessage());
+
+        return new ResponseEntity<>(info, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Info> handleRecordingInProgressException(
+        RecordingInProgressException exception
+    ) {
+        Info info = new Info(exception.getMessage());
+
+        return new ResponseEntity<>(info, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Info> handleNotFoundException(
         NotFoundException exception
@@ -47,6 +84,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(multipleInfo, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Info> handleTypeMismatchException(
+        MethodArgumentTypeMismatchException exception
+    ) {
+        Info info = new Info("Invalid value for " + exception.getName());
+
+        return new ResponseEntity<>(info, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Info> handleOtherExceptions(
         Exception exception
@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.exception;
+
+public class ImportInProgressException extends RuntimeException {
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
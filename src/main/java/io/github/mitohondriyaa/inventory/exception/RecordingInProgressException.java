@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.exception;
+
+public class RecordingInProgressException extends RuntimeException {
+    public RecordingInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.mitohondriyaa.inventory.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RpcException extends RuntimeException {
+    private final int status;
+
+    public RpcException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.exception;
+
+public class ShardingNotEnabledException extends RuntimeException {
+    public ShardingNotEnabledException(String message) {
+        super(message);
+    }
+}
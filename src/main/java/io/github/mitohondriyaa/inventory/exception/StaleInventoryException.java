@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.exception;
+
+public class StaleInventoryException extends RuntimeException {
+    public StaleInventoryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.Lifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class IdempotencyJournal implements ApplicationRunner, Lifecycle {
+    private final Map<String, Boolean> window = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > windowSize;
+        }
+    };
+    private FileChannel channel;
+    private long backlog;
+    @Value("${inventory.idempotency.redis.journal-path}")
+    private Path journalPath;
+    @Value("${inventory.idempotency.redis.fallback-window-size}")
+    private Integer windowSize;
+
+    @Override
+    public synchronized void run(ApplicationArguments args) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> journaledIds = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        journaledIds.forEach(messageId -> window.put(messageId, Boolean.TRUE));
+        backlog = journaledIds.size();
+
+        if (backlog > 0) {
+            log.info("Loaded {} message ids from the idempotency journal awaiting reconciliation", backlog);
+        }
+    }
+
+    public synchronized Set<String> claim(Collection<String> messageIds) {
+        Set<String> claimed = new LinkedHashSet<>();
+        StringBuilder lines = new StringBuilder();
+
+        for (String messageId : messageIds) {
+            if (window.putIfAbsent(messageId, Boolean.TRUE) == null) {
+                claimed.add(messageId);
+                lines.append(messageId).append('\n');
+            }
+        }
+
+        if (!claimed.isEmpty()) {
+            try {
+                FileChannel journal = openChannel();
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+                while (buffer.hasRemaining()) {
+                    journal.write(buffer);
+                }
+
+                journal.force(false);
+            } catch (IOException exception) {
+                claimed.forEach(window::remove);
+                throw new UncheckedIOException(exception);
+            }
+
+            backlog += claimed.size();
+        }
+
+        return claimed;
+    }
+
+    public synchronized void release(Collection<String> messageIds) {
+        if (!window.keySet().removeAll(messageIds) || !Files.exists(journalPath)) {
+            return;
+        }
+
+        try {
+            List<String> journaledIds = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            journaledIds.removeAll(messageIds);
+            StringBuilder lines = new StringBuilder();
+            journaledIds.forEach(messageId -> lines.append(messageId).append('\n'));
+
+            FileChannel journal = openChannel();
+            journal.truncate(0);
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+
+            journal.force(false);
+            backlog = journaledIds.size();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    public synchronized void retainUnseen(Set<String> messageIds) {
+        messageIds.removeIf(window::containsKey);
+    }
+
+    public synchronized void drain(Consumer<List<String>> reconciler) throws IOException {
+        if (backlog == 0) {
+            return;
+        }
+
+        List<String> journaledIds = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        reconciler.accept(journaledIds);
+        openChannel().truncate(0);
+        backlog = 0;
+    }
+
+    public synchronized long getBacklog() {
+        return backlog;
+    }
+
+    @Override
+    public void start() {
+        // the channel is reopened lazily by the next claim or drain
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            log.warn("Failed to close the idempotency journal", exception);
+        }
+
+        channel = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return channel != null;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(journalPath.toAbsolutePath().getParent());
+            channel = FileChannel.open(
+                journalPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+            );
+        }
+
+        return channel;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public interface IdempotencyStore {
+    IdempotencyStoreType getType();
+
+    default <T> Set<String> processNew(Map<String, T> messages, Function<T, String> productIdOf, Consumer<T> handler) {
+        return processNew(messages, productIdOf, handler, (messageId, message) -> {});
+    }
+
+    // onApplied runs once a message's change is durable; a message whose onApplied did not run is redelivered
+    <T> Set<String> processNew(
+        Map<String, T> messages,
+        Function<T, String> productIdOf,
+        Consumer<T> handler,
+        BiConsumer<String, T> onApplied
+    );
+}
@@ -0,0 +1,6 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+public enum IdempotencyStoreType {
+    REDIS,
+    JDBC
+}
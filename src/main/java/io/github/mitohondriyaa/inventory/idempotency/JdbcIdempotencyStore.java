@@ -0,0 +1,84 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public IdempotencyStoreType getType() {
+        return IdempotencyStoreType.JDBC;
+    }
+
+    @Override
+    public <T> Set<String> processNew(
+        Map<String, T> messages,
+        Function<T, String> productIdOf,
+        Consumer<T> handler,
+        BiConsumer<String, T> onApplied
+    ) {
+        Set<String> newMessageIds = ConcurrentHashMap.newKeySet();
+
+        shardRouter.forEachShardPartition(
+            messages.keySet(),
+            messageId -> productIdOf.apply(messages.get(messageId)),
+            (shard, messageIds) -> {
+                List<String> shardNewMessageIds = transactionTemplate.execute(status -> {
+                    Set<String> processedMessageIds = new HashSet<>(namedParameterJdbcTemplate.queryForList("""
+                        SELECT message_id
+                        FROM t_processed_message
+                        WHERE message_id IN (:messageIds)
+                        """,
+                        Map.of("messageIds", messageIds),
+                        String.class
+                    ));
+                    List<String> appliedMessageIds = new ArrayList<>();
+
+                    for (String messageId : messageIds) {
+                        if (processedMessageIds.contains(messageId)) {
+                            continue;
+                        }
+
+                        int inserted = jdbcTemplate.update(
+                            "INSERT IGNORE INTO t_processed_message (message_id, processed_on) VALUES (?, UTC_DATE())",
+                            messageId
+                        );
+
+                        if (inserted == 1) {
+                            handler.accept(messages.get(messageId));
+                            appliedMessageIds.add(messageId);
+                        }
+                    }
+
+                    return appliedMessageIds;
+                });
+
+                // published per shard right after its commit, so a later shard failing cannot strand them
+                newMessageIds.addAll(shardNewMessageIds);
+                shardNewMessageIds.forEach(messageId -> onApplied.accept(messageId, messages.get(messageId)));
+            }
+        );
+
+        return newMessageIds;
+    }
+}
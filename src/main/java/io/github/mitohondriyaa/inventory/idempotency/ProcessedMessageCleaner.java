@@ -0,0 +1,77 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessedMessageCleaner {
+    private static final String LOCK_NAME = "inventory.processed-message-cleanup";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    @Value("${inventory.idempotency.jdbc.retention-days}")
+    private Integer retentionDays;
+    @Value("${inventory.idempotency.jdbc.cleanup-batch-size}")
+    private Integer batchSize;
+
+    @Scheduled(fixedDelayString = "${inventory.idempotency.jdbc.cleanup-interval-ms}")
+    public void deleteExpired() {
+        shardRouter.runOnAllShards(shard -> {
+            Long deleted = jdbcTemplate.execute((ConnectionCallback<Long>) this::deleteExpired);
+
+            if (deleted != null && deleted > 0) {
+                log.info("Deleted {} expired processed message ids on shard {}", deleted, shard);
+            }
+        });
+    }
+
+    // Every instance runs this schedule; the named lock lets only one of them clean a shard at a time.
+    private long deleteExpired(Connection connection) throws SQLException {
+        if (!namedLock(connection, "SELECT GET_LOCK(?, 0)")) {
+            return 0;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement("""
+            DELETE FROM t_processed_message
+            WHERE processed_on < UTC_DATE() - INTERVAL ? DAY
+            LIMIT ?
+            """)) {
+            statement.setInt(1, retentionDays);
+            statement.setInt(2, batchSize);
+            long deleted = 0;
+            int batch;
+
+            do {
+                batch = statement.executeUpdate();
+                deleted += batch;
+            } while (batch == batchSize);
+
+            return deleted;
+        } finally {
+            namedLock(connection, "SELECT RELEASE_LOCK(?)");
+        }
+    }
+
+    private static boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+}
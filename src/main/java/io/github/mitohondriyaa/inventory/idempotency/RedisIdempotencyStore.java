@@ -0,0 +1,133 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.service.RedisService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class RedisIdempotencyStore implements IdempotencyStore {
+    private final RedisService redisService;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final IdempotencyJournal idempotencyJournal;
+    private final Counter fallbackCounter;
+    private final Counter fallbackDuplicateCounter;
+
+    public RedisIdempotencyStore(
+        RedisService redisService,
+        CircuitBreaker redisCircuitBreaker,
+        IdempotencyJournal idempotencyJournal,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisService = redisService;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.idempotencyJournal = idempotencyJournal;
+        this.fallbackCounter = Counter.builder("inventory.idempotency.redis.fallback")
+            .description("Idempotency checks answered by the local journal instead of Redis")
+            .register(meterRegistry);
+        this.fallbackDuplicateCounter = Counter.builder("inventory.idempotency.redis.fallback.duplicates")
+            .description("Duplicate message ids caught by the local journal while Redis was unavailable")
+            .register(meterRegistry);
+        Gauge.builder("inventory.idempotency.redis.reconcile.backlog", idempotencyJournal, IdempotencyJournal::getBacklog)
+            .description("Journaled message ids waiting to be written back to Redis")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public IdempotencyStoreType getType() {
+        return IdempotencyStoreType.REDIS;
+    }
+
+    @Override
+    public <T> Set<String> processNew(
+        Map<String, T> messages,
+        Function<T, String> productIdOf,
+        Consumer<T> handler,
+        BiConsumer<String, T> onApplied
+    ) {
+        Claim claim = claim(messages.keySet());
+        Set<String> newMessageIds = claim.messageIds();
+        Set<String> unappliedMessageIds = new HashSet<>(newMessageIds);
+
+        try {
+            messages.forEach((messageId, message) -> {
+                if (newMessageIds.contains(messageId)) {
+                    handler.accept(message);
+                    onApplied.accept(messageId, message);
+                    unappliedMessageIds.remove(messageId);
+                }
+            });
+        } catch (RuntimeException exception) {
+            release(unappliedMessageIds, claim.journaled());
+            throw exception;
+        }
+
+        return newMessageIds;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.idempotency.redis.reconcile-interval-ms}")
+    public void reconcile() throws IOException {
+        if (redisCircuitBreaker.getState() != CircuitBreaker.State.CLOSED || idempotencyJournal.getBacklog() == 0) {
+            return;
+        }
+
+        try {
+            idempotencyJournal.drain(messageIds -> {
+                redisCircuitBreaker.executeSupplier(() -> redisService.setValues(messageIds));
+                log.info("Reconciled {} journaled message ids into Redis", messageIds.size());
+            });
+        } catch (CallNotPermittedException | DataAccessException exception) {
+            log.warn("Reconciling the idempotency journal failed: {}", exception.getMessage());
+        }
+    }
+
+    private void release(Set<String> messageIds, boolean journaled) {
+        if (journaled) {
+            idempotencyJournal.release(messageIds);
+            return;
+        }
+
+        try {
+            redisCircuitBreaker.executeRunnable(() -> redisService.removeValues(messageIds));
+        } catch (CallNotPermittedException | DataAccessException exception) {
+            log.warn("Failed to release {} unapplied message ids, their redeliveries will be skipped: {}",
+                messageIds.size(),
+                exception.getMessage()
+            );
+        }
+    }
+
+    private Claim claim(Set<String> messageIds) {
+        try {
+            Set<String> claimed = new HashSet<>(
+                redisCircuitBreaker.executeSupplier(() -> redisService.setValues(messageIds))
+            );
+            idempotencyJournal.retainUnseen(claimed);
+
+            return new Claim(claimed, false);
+        } catch (CallNotPermittedException | DataAccessException exception) {
+            fallbackCounter.increment();
+            Set<String> claimed = idempotencyJournal.claim(messageIds);
+            fallbackDuplicateCounter.increment(messageIds.size() - claimed.size());
+
+            return new Claim(claimed, true);
+        }
+    }
+
+    private record Claim(Set<String> messageIds, boolean journaled) {}
+}
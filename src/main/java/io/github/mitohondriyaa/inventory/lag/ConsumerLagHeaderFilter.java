@@ -0,0 +1,44 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class ConsumerLagHeaderFilter extends OncePerRequestFilter {
+    public static final String CONSUMER_LAG_HEADER = "X-Consumer-Lag";
+    public static final String STALE_HEADER = "X-Inventory-Stale";
+    private static final String STOCK_TOPIC = "order-placed";
+
+    private final ConsumerLagMonitor consumerLagMonitor;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+            || !request.getRequestURI().startsWith("/api/inventory");
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        // A lag from a failed refresh is out of date, so it is left out rather than reported as current
+        if (!consumerLagMonitor.isStale()) {
+            response.setHeader(CONSUMER_LAG_HEADER, Long.toString(consumerLagMonitor.getTopicLag(STOCK_TOPIC)));
+        }
+
+        response.setHeader(STALE_HEADER, Boolean.toString(consumerLagMonitor.isTopicStale(STOCK_TOPIC)));
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class ConsumerLagHealthIndicator implements HealthIndicator {
+    public static final Status DEGRADED = new Status("DEGRADED", "Consumer lag is above the configured threshold");
+
+    private final ConsumerLagMonitor consumerLagMonitor;
+    private final ConsumerLagProperties consumerLagProperties;
+
+    @Override
+    public Health health() {
+        Map<String, Long> topicLags = consumerLagMonitor.getTopicLags();
+
+        if (consumerLagMonitor.isStale()) {
+            return Health.unknown()
+                .withDetail("stale", true)
+                .withDetail("topicLags", topicLags)
+                .build();
+        }
+
+        boolean degraded = topicLags.entrySet()
+            .stream()
+            .anyMatch(topicLag -> topicLag.getValue() > consumerLagProperties.thresholdFor(topicLag.getKey()));
+
+        return Health.status(degraded ? DEGRADED : Status.UP)
+            .withDetail("totalLag", consumerLagMonitor.getTotalLag())
+            .withDetail("topicLags", topicLags)
+            .build();
+    }
+}
@@ -0,0 +1,199 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ConsumerLagMonitor implements SmartLifecycle {
+    private final KafkaAdmin kafkaAdmin;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final ConsumerLagProperties consumerLagProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<TopicPartition, PartitionLag> partitionLags = new ConcurrentHashMap<>();
+    private final AtomicLong totalLag = new AtomicLong();
+    private volatile Map<String, Long> topicLags = Map.of();
+    private volatile boolean stale = true;
+    private volatile Admin consumerLagAdmin;
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    public ConsumerLagMonitor(
+        KafkaAdmin kafkaAdmin,
+        KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+        ConsumerLagProperties consumerLagProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.consumerLagProperties = consumerLagProperties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("inventory.consumer.lag.total", totalLag, AtomicLong::get)
+            .description("Records not yet consumed across the partitions assigned to this instance")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.consumer-lag.refresh-interval-ms}")
+    public void refresh() {
+        Admin admin = consumerLagAdmin;
+
+        if (admin == null) {
+            return;
+        }
+
+        Set<TopicPartition> assignedPartitions = kafkaListenerEndpointRegistry.getListenerContainers()
+            .stream()
+            .map(MessageListenerContainer::getAssignedPartitions)
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toSet());
+
+        try {
+            Map<TopicPartition, Long> lags = assignedPartitions.isEmpty()
+                ? Map.of()
+                : fetchLags(admin, assignedPartitions);
+            Map<String, Long> lagsByTopic = new HashMap<>();
+            long total = 0;
+
+            // Revoked partitions are reported by their new owner, so their gauges must not linger here
+            partitionLags.entrySet().removeIf(entry -> {
+                if (assignedPartitions.contains(entry.getKey())) {
+                    if (!lags.containsKey(entry.getKey())) {
+                        entry.getValue().lag().set(0);
+                    }
+
+                    return false;
+                }
+
+                meterRegistry.remove(entry.getValue().gauge());
+
+                return true;
+            });
+
+            for (Map.Entry<TopicPartition, Long> entry : lags.entrySet()) {
+                partitionLagGauge(entry.getKey()).set(entry.getValue());
+                lagsByTopic.merge(entry.getKey().topic(), entry.getValue(), Long::sum);
+                total += entry.getValue();
+            }
+
+            topicLags = Map.copyOf(lagsByTopic);
+            totalLag.set(total);
+            stale = false;
+        } catch (InterruptedException exception) {
+            stale = true;
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException exception) {
+            stale = true;
+            log.warn("Could not refresh consumer lag for group {}: {}", groupId, exception.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (consumerLagAdmin == null) {
+            consumerLagAdmin = Admin.create(kafkaAdmin.getConfigurationProperties());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Admin admin = consumerLagAdmin;
+        consumerLagAdmin = null;
+
+        if (admin != null) {
+            admin.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return consumerLagAdmin != null;
+    }
+
+    public Map<String, Long> getTopicLags() {
+        return topicLags;
+    }
+
+    public long getTopicLag(String topic) {
+        return topicLags.getOrDefault(topic, 0L);
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public boolean isTopicStale(String topic) {
+        return stale || getTopicLag(topic) > consumerLagProperties.thresholdFor(topic);
+    }
+
+    public long getTotalLag() {
+        return totalLag.get();
+    }
+
+    private Map<TopicPartition, Long> fetchLags(Admin admin, Set<TopicPartition> assignedPartitions)
+        throws InterruptedException, ExecutionException, TimeoutException {
+        long timeoutMs = consumerLagProperties.requestTimeoutMs();
+        Map<TopicPartition, OffsetAndMetadata> committedOffsets = admin
+            .listConsumerGroupOffsets(groupId)
+            .partitionsToOffsetAndMetadata()
+            .get(timeoutMs, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = admin
+            .listOffsets(assignedPartitions.stream()
+                .collect(Collectors.toMap(topicPartition -> topicPartition, topicPartition -> OffsetSpec.latest())))
+            .all()
+            .get(timeoutMs, TimeUnit.MILLISECONDS);
+        Map<TopicPartition, Long> lags = new HashMap<>();
+
+        for (TopicPartition topicPartition : assignedPartitions) {
+            OffsetAndMetadata committedOffset = committedOffsets.get(topicPartition);
+            ListOffsetsResult.ListOffsetsResultInfo endOffset = endOffsets.get(topicPartition);
+
+            if (committedOffset != null && endOffset != null) {
+                lags.put(topicPartition, Math.max(0, endOffset.offset() - committedOffset.offset()));
+            }
+        }
+
+        return lags;
+    }
+
+    private AtomicLong partitionLagGauge(TopicPartition topicPartition) {
+        return partitionLags.computeIfAbsent(topicPartition, key -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge gauge = Gauge.builder("inventory.consumer.lag", lag, AtomicLong::get)
+                .description("Records not yet consumed on an assigned partition")
+                .tag("topic", key.topic())
+                .tag("partition", Integer.toString(key.partition()))
+                .register(meterRegistry);
+
+            return new PartitionLag(lag, gauge);
+        }).lag();
+    }
+
+    private record PartitionLag(AtomicLong lag, Gauge gauge) {
+    }
+}
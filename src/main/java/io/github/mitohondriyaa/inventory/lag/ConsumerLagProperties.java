@@ -0,0 +1,20 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+@ConfigurationProperties("inventory.consumer-lag")
+public record ConsumerLagProperties(
+    long degradedThreshold,
+    long requestTimeoutMs,
+    Map<String, Long> topicThresholds
+) {
+    public ConsumerLagProperties {
+        topicThresholds = topicThresholds != null ? topicThresholds : Map.of();
+    }
+
+    public long thresholdFor(String topic) {
+        return topicThresholds.getOrDefault(topic, degradedThreshold);
+    }
+}
@@ -2,9 +2,13 @@ package io.github.mitohondriyaa.inventory.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "t_inventory")
+@SQLRestriction("deleted_at IS NULL")
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -16,4 +20,7 @@ public class Inventory {
     private Long id;
     private String productId;
     private Integer quantity;
-}
\ No newline at end of file
+    private Instant deletedAt;
+    @Column(insertable = false, updatable = false)
+    private Instant updatedAt;
+}
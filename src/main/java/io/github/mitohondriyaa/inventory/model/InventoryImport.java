@@ -0,0 +1,21 @@
+package io.github.mitohondriyaa.inventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "t_inventory_import")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class InventoryImport {
+    @Id
+    private String jobId;
+    @Enumerated(EnumType.STRING)
+    private InventoryImportStatus status;
+    private Long committedOffset;
+    private Long importedRows;
+    private Long rejectedLines;
+}
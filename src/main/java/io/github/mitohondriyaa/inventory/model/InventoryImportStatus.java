@@ -0,0 +1,7 @@
+package io.github.mitohondriyaa.inventory.model;
+
+public enum InventoryImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,95 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.reactivestreams.Publisher;
+import org.springframework.context.Lifecycle;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+public class ReactiveConnectionPool implements ConnectionFactory, Lifecycle, AutoCloseable {
+    private final Supplier<ConnectionPool> poolFactory;
+    private final ConnectionFactoryMetadata metadata;
+    private volatile ConnectionPool pool;
+
+    public ReactiveConnectionPool(Supplier<ConnectionPool> poolFactory, String name, MeterRegistry meterRegistry) {
+        this.poolFactory = poolFactory;
+        this.pool = poolFactory.get();
+        this.metadata = pool.getMetadata();
+
+        registerGauge(meterRegistry, name, "acquired", PoolMetrics::acquiredSize);
+        registerGauge(meterRegistry, name, "allocated", PoolMetrics::allocatedSize);
+        registerGauge(meterRegistry, name, "idle", PoolMetrics::idleSize);
+        registerGauge(meterRegistry, name, "pending", PoolMetrics::pendingAcquireSize);
+        registerGauge(meterRegistry, name, "max.allocated", PoolMetrics::getMaxAllocatedSize);
+        registerGauge(meterRegistry, name, "max.pending", PoolMetrics::getMaxPendingAcquireSize);
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        ConnectionPool current = pool;
+
+        if (current == null) {
+            return Mono.error(new IllegalStateException("The reactive connection pool is stopped"));
+        }
+
+        return current.create();
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (pool == null) {
+            pool = poolFactory.get();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        ConnectionPool current = pool;
+        pool = null;
+
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pool != null;
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void registerGauge(
+        MeterRegistry meterRegistry,
+        String name,
+        String metric,
+        ToIntFunction<PoolMetrics> value
+    ) {
+        Gauge.builder("r2dbc.pool." + metric, this, reactiveConnectionPool -> {
+                ConnectionPool current = reactiveConnectionPool.pool;
+
+                return current == null
+                    ? 0
+                    : current.getMetrics().map(value::applyAsInt).orElse(0);
+            })
+            .tag("name", name)
+            .baseUnit("connections")
+            .register(meterRegistry);
+    }
+}
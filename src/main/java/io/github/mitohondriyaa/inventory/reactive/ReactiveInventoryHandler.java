@@ -0,0 +1,189 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.dto.InventoryPage;
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.github.mitohondriyaa.inventory.exception.Info;
+import io.github.mitohondriyaa.inventory.lag.ConsumerLagHeaderFilter;
+import io.github.mitohondriyaa.inventory.lag.ConsumerLagMonitor;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+@Component
+@ConditionalOnProperty(name = "inventory.reactive.enabled", havingValue = "true")
+public class ReactiveInventoryHandler {
+    private static final String REQUIRED_AUTHORITY = "ROLE_INVENTORY_MANAGER";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String STOCK_TOPIC = "order-placed";
+    private final ReactiveInventoryRepository reactiveInventoryRepository;
+    private final InventoryStockCache inventoryStockCache;
+    private final JwtDecoder jwtDecoder;
+    private final ConsumerLagMonitor consumerLagMonitor;
+    private final KeycloakRealmRoleConverter roleConverter = new KeycloakRealmRoleConverter();
+    @Value("${inventory.reactive.default-page-size}")
+    private Integer defaultPageSize;
+    @Value("${inventory.reactive.max-page-size}")
+    private Integer maxPageSize;
+
+    public ReactiveInventoryHandler(
+        ReactiveInventoryRepository reactiveInventoryRepository,
+        InventoryStockCache inventoryStockCache,
+        JwtDecoder jwtDecoder,
+        ConsumerLagMonitor consumerLagMonitor
+    ) {
+        this.reactiveInventoryRepository = reactiveInventoryRepository;
+        this.inventoryStockCache = inventoryStockCache;
+        this.jwtDecoder = jwtDecoder;
+        this.consumerLagMonitor = consumerLagMonitor;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route(GET("/api/inventory/check"), this::isInStock)
+            .andRoute(GET("/api/inventory"), this::getInventories)
+            .andRoute(GET("/api/inventory/{productId}"), this::getInventoryByProductId)
+            .filter(authorization());
+    }
+
+    private Mono<ServerResponse> isInStock(ServerRequest request) {
+        Optional<String> productId = request.queryParam("productId");
+        Optional<Integer> quantity = request.queryParam("quantity").flatMap(ReactiveInventoryHandler::parseInteger);
+
+        if (productId.isEmpty() || quantity.isEmpty()) {
+            return badRequest("productId and quantity are required");
+        }
+
+        Mono<Boolean> inStock = inventoryStockCache.peek(productId.get())
+            .map(cachedStock -> Mono.just(cachedStock.quantity() >= quantity.get()))
+            .orElseGet(() -> reactiveInventoryRepository.findQuantityByProductId(productId.get())
+                .map(stock -> stock >= quantity.get())
+                .defaultIfEmpty(false));
+
+        return inStock.flatMap(result -> json(HttpStatus.OK, result));
+    }
+
+    private Mono<ServerResponse> getInventoryByProductId(ServerRequest request) {
+        return reactiveInventoryRepository.findByProductId(request.pathVariable("productId"))
+            .flatMap(inventory -> json(HttpStatus.OK, inventory))
+            .switchIfEmpty(Mono.defer(() -> json(HttpStatus.NOT_FOUND, new Info("Inventory not found"))));
+    }
+
+    private Mono<ServerResponse> getInventories(ServerRequest request) {
+        Optional<Long> after = request.queryParam("after").flatMap(ReactiveInventoryHandler::parseLong);
+        Optional<Integer> size = request.queryParam("size").flatMap(ReactiveInventoryHandler::parseInteger);
+
+        if (request.queryParam("after").isPresent() && after.isEmpty()
+            || request.queryParam("size").isPresent() && size.isEmpty()) {
+            return badRequest("after and size must be numbers");
+        }
+
+        int pageSize = Math.clamp(size.orElse(defaultPageSize), 1, maxPageSize);
+
+        return reactiveInventoryRepository.findPageAfterId(after.orElse(0L), pageSize)
+            .collectList()
+            .flatMap(items -> json(HttpStatus.OK, new InventoryPage(items, nextCursor(items, pageSize))));
+    }
+
+    private HandlerFilterFunction<ServerResponse, ServerResponse> authorization() {
+        return (request, next) -> {
+            String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+
+            if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+                return json(HttpStatus.UNAUTHORIZED, new Info("User not authenticated"));
+            }
+
+            return verify(authorization.substring(BEARER_PREFIX.length()))
+                .map(this::isInventoryManager)
+                .flatMap(authorized -> authorized
+                    ? next.handle(request)
+                    : json(HttpStatus.FORBIDDEN, new Info("User not authorized")))
+                .onErrorResume(JwtException.class, exception ->
+                    json(HttpStatus.UNAUTHORIZED, new Info("User not authenticated")));
+        };
+    }
+
+    // A token already in the verified-token cache is resolved on the event loop; only a miss,
+    // which may have to fetch the JWKS, is moved off it.
+    private Mono<Jwt> verify(String token) {
+        if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+            Optional<Jwt> cachedJwt = cachingJwtDecoder.peek(token);
+
+            if (cachedJwt.isPresent()) {
+                return Mono.just(cachedJwt.get());
+            }
+        }
+
+        return Mono.fromCallable(() -> jwtDecoder.decode(token))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private boolean isInventoryManager(Jwt jwt) {
+        return roleConverter.convert(jwt)
+            .getAuthorities()
+            .stream()
+            .anyMatch(authority -> REQUIRED_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    private static Long nextCursor(List<InventoryResponse> items, int pageSize) {
+        return items.size() == pageSize ? items.getLast().id() : null;
+    }
+
+    private Mono<ServerResponse> badRequest(String message) {
+        return json(HttpStatus.BAD_REQUEST, new Info(message));
+    }
+
+    private Mono<ServerResponse> json(HttpStatus status, Object body) {
+        return ServerResponse.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .headers(headers -> {
+                if (!consumerLagMonitor.isStale()) {
+                    headers.set(
+                        ConsumerLagHeaderFilter.CONSUMER_LAG_HEADER,
+                        Long.toString(consumerLagMonitor.getTopicLag(STOCK_TOPIC))
+                    );
+                }
+
+                headers.set(
+                    ConsumerLagHeaderFilter.STALE_HEADER,
+                    Boolean.toString(consumerLagMonitor.isTopicStale(STOCK_TOPIC))
+                );
+            })
+            .bodyValue(body);
+    }
+
+    private static Optional<Integer> parseInteger(String value) {
+        try {
+            return Optional.of(Integer.valueOf(value));
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Long> parseLong(String value) {
+        try {
+            return Optional.of(Long.valueOf(value));
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.reactive.enabled", havingValue = "true")
+public class ReactiveInventoryRepository {
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Mono<Integer> findQuantityByProductId(String productId) {
+        return reactiveDatabaseClient.sql("""
+                SELECT quantity FROM t_inventory
+                WHERE product_id = :productId AND deleted_at IS NULL
+                """)
+            .bind("productId", productId)
+            .map(row -> row.get("quantity", Integer.class))
+            .one();
+    }
+
+    public Mono<InventoryResponse> findByProductId(String productId) {
+        return reactiveDatabaseClient.sql("""
+                SELECT id, product_id, quantity FROM t_inventory
+                WHERE product_id = :productId AND deleted_at IS NULL
+                """)
+            .bind("productId", productId)
+            .map(ReactiveInventoryRepository::toResponse)
+            .one();
+    }
+
+    public Flux<InventoryResponse> findPageAfterId(long afterId, int size) {
+        return reactiveDatabaseClient.sql("""
+                SELECT id, product_id, quantity FROM t_inventory
+                WHERE id > :afterId AND deleted_at IS NULL
+                ORDER BY id
+                LIMIT :size
+                """)
+            .bind("afterId", afterId)
+            .bind("size", size)
+            .map(ReactiveInventoryRepository::toResponse)
+            .all();
+    }
+
+    private static InventoryResponse toResponse(Readable row) {
+        return new InventoryResponse(
+            row.get("id", Long.class),
+            row.get("product_id", String.class),
+            row.get("quantity", Integer.class)
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.reactive.enabled", havingValue = "true")
+public class ReactiveInventoryServer implements SmartLifecycle {
+    private final ReactiveInventoryHandler reactiveInventoryHandler;
+    private final ObjectMapper objectMapper;
+    @Value("${inventory.reactive.port}")
+    private Integer port;
+    @Value("${inventory.reactive.event-loop-threads}")
+    private Integer eventLoopThreads;
+    @Value("${inventory.sharding.enabled}")
+    private Boolean shardingEnabled;
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    public ReactiveInventoryServer(ReactiveInventoryHandler reactiveInventoryHandler, ObjectMapper objectMapper) {
+        this.reactiveInventoryHandler = reactiveInventoryHandler;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() {
+        if (shardingEnabled) {
+            throw new IllegalStateException("The reactive read path does not support a sharded inventory");
+        }
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(reactiveInventoryHandler.routes(), strategies);
+        loopResources = LoopResources.create("inventory-reactive", eventLoopThreads, true);
+
+        try {
+            server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        } catch (RuntimeException exception) {
+            disposeLoopResources();
+            throw exception;
+        }
+
+        log.info("Reactive inventory read path listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer disposableServer = server;
+        server = null;
+
+        if (disposableServer != null) {
+            disposableServer.disposeNow(Duration.ofSeconds(5));
+        }
+
+        disposeLoopResources();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    private void disposeLoopResources() {
+        LoopResources resources = loopResources;
+        loopResources = null;
+
+        if (resources != null) {
+            resources.disposeLater().block(Duration.ofSeconds(5));
+        }
+    }
+
+    public int port() {
+        return server.port();
+    }
+}
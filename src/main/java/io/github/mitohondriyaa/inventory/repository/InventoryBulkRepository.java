@@ -0,0 +1,24 @@
+package io.github.mitohondriyaa.inventory.repository;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface InventoryBulkRepository {
+    void insertIfAbsent(Collection<String> productIds);
+    Map<String, Long> findIdsByProductIdIn(Collection<String> productIds);
+    void upsertQuantities(Collection<Inventory> inventories);
+    List<Inventory> findAllAfterId(Long afterId, Integer limit);
+    List<Inventory> findAllIncludingDeletedAfterId(Long afterId, Integer limit);
+    List<Inventory> findAllByIdInForUpdate(Collection<Long> ids);
+    void copyIfNewer(Collection<Inventory> inventories);
+    Integer deleteIfUnchanged(Collection<Inventory> inventories);
+    List<Inventory> findAllChangedAfter(Instant updatedAt, Long afterId, Integer limit);
+    Instant findLastUpdatedAt();
+    List<Long> findIdsDeletedBefore(Instant deletedBefore, Integer limit);
+    Integer purgeDeletedByIds(Collection<Long> ids);
+    Long countDeleted();
+}
@@ -0,0 +1,240 @@
+package io.github.mitohondriyaa.inventory.repository;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class InventoryBulkRepositoryImpl implements InventoryBulkRepository {
+    private static final RowMapper<Inventory> INVENTORY_ROW_MAPPER = (resultSet, rowNum) -> {
+        Timestamp deletedAt = resultSet.getTimestamp("deleted_at");
+
+        return Inventory.builder()
+            .id(resultSet.getLong("id"))
+            .productId(resultSet.getString("product_id"))
+            .quantity(resultSet.getInt("quantity"))
+            .deletedAt(deletedAt != null ? deletedAt.toInstant() : null)
+            .updatedAt(resultSet.getTimestamp("updated_at").toInstant())
+            .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertIfAbsent(Collection<String> productIds) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO t_inventory (product_id, quantity)
+            VALUES (?, 0)
+            ON DUPLICATE KEY UPDATE
+                quantity = IF(deleted_at IS NULL, quantity, 0),
+                deleted_at = NULL
+            """,
+            productIds,
+            productIds.size(),
+            (preparedStatement, productId) -> preparedStatement.setString(1, productId)
+        );
+    }
+
+    @Override
+    public Map<String, Long> findIdsByProductIdIn(Collection<String> productIds) {
+        Map<String, Long> ids = new HashMap<>();
+
+        namedParameterJdbcTemplate.query("""
+            SELECT id, product_id
+            FROM t_inventory
+            WHERE product_id IN (:productIds) AND deleted_at IS NULL
+            """,
+            Map.of("productIds", productIds),
+            resultSet -> {
+                ids.put(resultSet.getString("product_id"), resultSet.getLong("id"));
+            }
+        );
+
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public void upsertQuantities(Collection<Inventory> inventories) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO t_inventory (product_id, quantity)
+            VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE
+                quantity = VALUES(quantity),
+                deleted_at = NULL
+            """,
+            inventories,
+            inventories.size(),
+            (preparedStatement, inventory) -> {
+                preparedStatement.setString(1, inventory.getProductId());
+                preparedStatement.setInt(2, inventory.getQuantity());
+            }
+        );
+    }
+
+    @Override
+    public List<Inventory> findAllAfterId(Long afterId, Integer limit) {
+        return jdbcTemplate.query("""
+            SELECT id, product_id, quantity, deleted_at, updated_at
+            FROM t_inventory
+            WHERE id > ? AND deleted_at IS NULL
+            ORDER BY id
+            LIMIT ?
+            """,
+            INVENTORY_ROW_MAPPER,
+            afterId,
+            limit
+        );
+    }
+
+    @Override
+    public List<Inventory> findAllIncludingDeletedAfterId(Long afterId, Integer limit) {
+        return jdbcTemplate.query("""
+            SELECT id, product_id, quantity, deleted_at, updated_at
+            FROM t_inventory
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """,
+            INVENTORY_ROW_MAPPER,
+            afterId,
+            limit
+        );
+    }
+
+    @Override
+    public List<Inventory> findAllByIdInForUpdate(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.query("""
+            SELECT id, product_id, quantity, deleted_at, updated_at
+            FROM t_inventory
+            WHERE id IN (:ids)
+            ORDER BY id
+            FOR UPDATE
+            """,
+            Map.of("ids", ids),
+            INVENTORY_ROW_MAPPER
+        );
+    }
+
+    @Override
+    @Transactional
+    public void copyIfNewer(Collection<Inventory> inventories) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO t_inventory (product_id, quantity, deleted_at, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                quantity = IF(VALUES(updated_at) > updated_at, VALUES(quantity), quantity),
+                deleted_at = IF(VALUES(updated_at) > updated_at, VALUES(deleted_at), deleted_at),
+                updated_at = GREATEST(VALUES(updated_at), updated_at)
+            """,
+            inventories,
+            inventories.size(),
+            (preparedStatement, inventory) -> {
+                preparedStatement.setString(1, inventory.getProductId());
+                preparedStatement.setInt(2, inventory.getQuantity());
+                preparedStatement.setTimestamp(3, inventory.getDeletedAt() != null
+                    ? Timestamp.from(inventory.getDeletedAt())
+                    : null);
+                preparedStatement.setTimestamp(4, Timestamp.from(inventory.getUpdatedAt()));
+            }
+        );
+    }
+
+    @Override
+    @Transactional
+    public Integer deleteIfUnchanged(Collection<Inventory> inventories) {
+        int[][] deleted = jdbcTemplate.batchUpdate(
+            "DELETE FROM t_inventory WHERE id = ? AND updated_at = ?",
+            inventories,
+            inventories.size(),
+            (preparedStatement, inventory) -> {
+                preparedStatement.setLong(1, inventory.getId());
+                preparedStatement.setTimestamp(2, Timestamp.from(inventory.getUpdatedAt()));
+            }
+        );
+        int count = 0;
+
+        for (int[] batch : deleted) {
+            for (int rows : batch) {
+                count += Math.max(rows, 0);
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public List<Inventory> findAllChangedAfter(Instant updatedAt, Long afterId, Integer limit) {
+        Timestamp timestamp = Timestamp.from(updatedAt);
+
+        return jdbcTemplate.query("""
+            SELECT id, product_id, quantity, deleted_at, updated_at
+            FROM t_inventory
+            WHERE updated_at > ? OR (updated_at = ? AND id > ?)
+            ORDER BY updated_at, id
+            LIMIT ?
+            """,
+            INVENTORY_ROW_MAPPER,
+            timestamp,
+            timestamp,
+            afterId,
+            limit
+        );
+    }
+
+    @Override
+    public Instant findLastUpdatedAt() {
+        Timestamp lastUpdatedAt = jdbcTemplate.queryForObject(
+            "SELECT MAX(updated_at) FROM t_inventory",
+            Timestamp.class
+        );
+
+        return lastUpdatedAt != null ? lastUpdatedAt.toInstant() : Instant.EPOCH;
+    }
+
+    @Override
+    public List<Long> findIdsDeletedBefore(Instant deletedBefore, Integer limit) {
+        return jdbcTemplate.queryForList("""
+            SELECT id
+            FROM t_inventory
+            WHERE deleted_at IS NOT NULL AND deleted_at < ?
+            ORDER BY deleted_at, id
+            LIMIT ?
+            """,
+            Long.class,
+            Timestamp.from(deletedBefore),
+            limit
+        );
+    }
+
+    @Override
+    @Transactional
+    public Integer purgeDeletedByIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.update("""
+            DELETE FROM t_inventory
+            WHERE id IN (:ids) AND deleted_at IS NOT NULL
+            """,
+            Map.of("ids", ids)
+        );
+    }
+
+    @Override
+    public Long countDeleted() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM t_inventory WHERE deleted_at IS NOT NULL",
+            Long.class
+        );
+    }
+}
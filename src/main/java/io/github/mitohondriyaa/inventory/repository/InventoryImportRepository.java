@@ -0,0 +1,26 @@
+package io.github.mitohondriyaa.inventory.repository;
+
+import io.github.mitohondriyaa.inventory.model.InventoryImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface InventoryImportRepository extends JpaRepository<InventoryImport, String> {
+    @Query(value = """
+        SELECT committed_offset
+        FROM t_inventory_import_checkpoint
+        WHERE job_id = :jobId
+""", nativeQuery = true)
+    Optional<Long> findCheckpoint(@Param("jobId") String jobId);
+    @Modifying
+    @Query(value = """
+        INSERT INTO t_inventory_import_checkpoint (job_id, committed_offset)
+        VALUES (:jobId, :committedOffset)
+        ON DUPLICATE KEY UPDATE
+            committed_offset = GREATEST(committed_offset, VALUES(committed_offset))
+""", nativeQuery = true)
+    void saveCheckpoint(@Param("jobId") String jobId, @Param("committedOffset") Long committedOffset);
+}
@@ -8,21 +8,32 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
-public interface InventoryRepository extends JpaRepository<Inventory, Long> {
-    boolean existsByProductIdAndQuantityIsGreaterThanEqual(String productId, Integer quantity);
+public interface InventoryRepository extends JpaRepository<Inventory, Long>, InventoryBulkRepository {
+    boolean existsByIdAndProductId(Long id, String productId);
+    boolean existsByIdAndProductIdAndQuantityIsGreaterThanEqual(Long id, String productId, Integer quantity);
     Optional<Inventory> findByProductId(String productId);
+    @Query("SELECT i.id FROM Inventory i WHERE i.productId = :productId")
+    Optional<Long> findIdByProductId(@Param("productId") String productId);
     @Transactional
-    void deleteByProductId(String productId);
+    @Modifying
+    @Query("""
+        UPDATE Inventory i
+        SET i.deletedAt = CURRENT_TIMESTAMP
+        WHERE i.productId IN :productIds AND i.deletedAt IS NULL
+""")
+    void markDeletedByProductIdIn(@Param("productIds") Collection<String> productIds);
     @Transactional
     @Modifying
     @Query("""
         UPDATE Inventory i
         SET i.quantity = i.quantity - :quantity
-        WHERE i.productId = :productId AND i.quantity >= :quantity
+        WHERE i.id = :id AND i.productId = :productId AND i.quantity >= :quantity AND i.deletedAt IS NULL
 """)
-    Integer decreaseQuantityIfEnough(
+    Integer decreaseQuantityIfEnoughById(
+        @Param("id") Long id,
         @Param("productId") String productId,
         @Param("quantity") Integer quantity
     );
@@ -31,10 +42,23 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("""
         UPDATE Inventory i
         SET i.quantity = i.quantity + :quantity
-        WHERE i.productId = :productId
+        WHERE i.id = :id AND i.productId = :productId AND i.deletedAt IS NULL
+""")
+    Integer increaseQuantityById(
+        @Param("id") Long id,
+        @Param("productId") String productId,
+        @Param("quantity") Integer quantity
+    );
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Inventory i
+        SET i.quantity = :quantity
+        WHERE i.productId = :productId AND i.quantity = :expectedQuantity AND i.deletedAt IS NULL
 """)
-    void increaseQuantityByProductId(
+    Integer updateQuantityIfUnchanged(
         @Param("productId") String productId,
+        @Param("expectedQuantity") Integer expectedQuantity,
         @Param("quantity") Integer quantity
     );
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RpcOperation {
+    AUTHENTICATE((byte) 0x01, "authenticate"),
+    CHECK((byte) 0x02, "check"),
+    BATCH_CHECK((byte) 0x03, "batch-check"),
+    GET_STOCK((byte) 0x04, "get-stock");
+
+    private final byte code;
+    private final String tagValue;
+
+    public static RpcOperation fromCode(byte code) {
+        for (RpcOperation operation : values()) {
+            if (operation.code == code) {
+                return operation;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown RPC operation " + code);
+    }
+}
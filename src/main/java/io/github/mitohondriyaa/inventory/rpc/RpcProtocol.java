@@ -0,0 +1,40 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+
+public final class RpcProtocol {
+    public static final int LENGTH_FIELD_BYTES = 4;
+    public static final int HEADER_BYTES = 5;
+    public static final byte AUTHENTICATED = 0x11;
+    public static final byte CHECK_RESULT = 0x12;
+    public static final byte BATCH_CHECK_RESULT = 0x13;
+    public static final byte STOCK = 0x14;
+    public static final byte ERROR = 0x1F;
+
+    private RpcProtocol() {}
+
+    public static void writeString(ByteBuf buffer, String value) {
+        int lengthIndex = buffer.writerIndex();
+        buffer.writeShort(0);
+        int length = buffer.writeCharSequence(value, StandardCharsets.UTF_8);
+
+        if (length > 0xFFFF) {
+            throw new IllegalArgumentException("String of " + length + " bytes does not fit an RPC frame field");
+        }
+
+        buffer.setShort(lengthIndex, length);
+    }
+
+    public static String readString(ByteBuf buffer) {
+        int length = buffer.readUnsignedShort();
+
+        return buffer.readCharSequence(length, StandardCharsets.UTF_8).toString();
+    }
+
+    public static void writeHeader(ByteBuf buffer, byte opcode, int requestId) {
+        buffer.writeByte(opcode);
+        buffer.writeInt(requestId);
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+public enum RpcTransport {
+    TCP,
+    LOCAL
+}
@@ -0,0 +1,287 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.github.mitohondriyaa.inventory.exception.RpcException;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class StockRpcClient implements AutoCloseable {
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private final Duration requestTimeout;
+    private final EventLoopGroup group;
+    private final Channel channel;
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private final Map<Integer, PendingCall<?>> pendingCalls = new ConcurrentHashMap<>();
+
+    private StockRpcClient(SocketAddress address, int maxFrameBytes, Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        Bootstrap bootstrap = new Bootstrap();
+
+        if (address instanceof LocalAddress) {
+            group = new DefaultEventLoopGroup(1);
+            bootstrap.channel(LocalChannel.class);
+        } else {
+            group = new NioEventLoopGroup(1);
+            bootstrap.channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true);
+        }
+
+        try {
+            channel = bootstrap.group(group)
+                .handler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel channel) {
+                        channel.pipeline()
+                            .addLast(new LengthFieldBasedFrameDecoder(
+                                maxFrameBytes, 0, RpcProtocol.LENGTH_FIELD_BYTES, 0, RpcProtocol.LENGTH_FIELD_BYTES
+                            ))
+                            .addLast(new LengthFieldPrepender(RpcProtocol.LENGTH_FIELD_BYTES))
+                            .addLast(new ResponseHandler());
+                    }
+                })
+                .connect(address)
+                .syncUninterruptibly()
+                .channel();
+        } catch (RuntimeException exception) {
+            group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+            throw exception;
+        }
+    }
+
+    public static StockRpcClient connect(SocketAddress address, String token) {
+        return connect(address, token, 1024 * 1024);
+    }
+
+    public static StockRpcClient connect(SocketAddress address, String token, int maxFrameBytes) {
+        return connect(address, token, maxFrameBytes, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    public static StockRpcClient connect(
+        SocketAddress address,
+        String token,
+        int maxFrameBytes,
+        Duration requestTimeout
+    ) {
+        StockRpcClient client = new StockRpcClient(address, maxFrameBytes, requestTimeout);
+
+        try {
+            client.call(
+                RpcOperation.AUTHENTICATE,
+                RpcProtocol.AUTHENTICATED,
+                buffer -> RpcProtocol.writeString(buffer, token),
+                buffer -> Boolean.TRUE
+            ).join();
+        } catch (CompletionException exception) {
+            client.close();
+            throw unwrap(exception);
+        }
+
+        return client;
+    }
+
+    public boolean check(String productId, int quantity) {
+        return await(checkAsync(productId, quantity));
+    }
+
+    public CompletableFuture<Boolean> checkAsync(String productId, int quantity) {
+        return call(
+            RpcOperation.CHECK,
+            RpcProtocol.CHECK_RESULT,
+            buffer -> {
+                RpcProtocol.writeString(buffer, productId);
+                buffer.writeInt(quantity);
+            },
+            ByteBuf::readBoolean
+        );
+    }
+
+    public List<Boolean> batchCheck(List<InventoryRequest> checks) {
+        return await(batchCheckAsync(checks));
+    }
+
+    public CompletableFuture<List<Boolean>> batchCheckAsync(List<InventoryRequest> checks) {
+        return call(
+            RpcOperation.BATCH_CHECK,
+            RpcProtocol.BATCH_CHECK_RESULT,
+            buffer -> {
+                buffer.writeInt(checks.size());
+
+                for (InventoryRequest check : checks) {
+                    RpcProtocol.writeString(buffer, check.productId());
+                    buffer.writeInt(check.quantity());
+                }
+            },
+            buffer -> {
+                int count = buffer.readInt();
+                List<Boolean> results = new ArrayList<>(count);
+
+                for (int i = 0; i < count; i++) {
+                    results.add(buffer.readBoolean());
+                }
+
+                return results;
+            }
+        );
+    }
+
+    public List<Boolean> batchCheckStream(Iterator<InventoryRequest> checks, int chunkSize) {
+        List<CompletableFuture<List<Boolean>>> chunks = new ArrayList<>();
+        List<InventoryRequest> chunk = new ArrayList<>(chunkSize);
+
+        while (checks.hasNext()) {
+            chunk.add(checks.next());
+
+            if (chunk.size() == chunkSize) {
+                chunks.add(batchCheckAsync(chunk));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            chunks.add(batchCheckAsync(chunk));
+        }
+
+        List<Boolean> results = new ArrayList<>();
+        chunks.forEach(future -> results.addAll(await(future)));
+
+        return results;
+    }
+
+    public InventoryResponse getStock(String productId) {
+        return await(call(
+            RpcOperation.GET_STOCK,
+            RpcProtocol.STOCK,
+            buffer -> RpcProtocol.writeString(buffer, productId),
+            buffer -> new InventoryResponse(buffer.readLong(), RpcProtocol.readString(buffer), buffer.readInt())
+        ));
+    }
+
+    @Override
+    public void close() {
+        channel.close().syncUninterruptibly();
+        group.shutdownGracefully(100, 1000, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    private <T> CompletableFuture<T> call(
+        RpcOperation operation,
+        byte expectedOpcode,
+        Consumer<ByteBuf> payloadWriter,
+        Function<ByteBuf, T> resultReader
+    ) {
+        int requestId = requestIds.incrementAndGet();
+        PendingCall<T> pendingCall = new PendingCall<>(expectedOpcode, resultReader, new CompletableFuture<>());
+        ByteBuf request = channel.alloc().buffer();
+
+        try {
+            RpcProtocol.writeHeader(request, operation.getCode(), requestId);
+            payloadWriter.accept(request);
+        } catch (RuntimeException exception) {
+            request.release();
+            throw exception;
+        }
+
+        pendingCall.result()
+            .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((result, exception) -> pendingCalls.remove(requestId, pendingCall));
+        pendingCalls.put(requestId, pendingCall);
+        channel.writeAndFlush(request).addListener(future -> {
+            if (!future.isSuccess()) {
+                pendingCalls.remove(requestId);
+                pendingCall.result().completeExceptionally(future.cause());
+            }
+        });
+
+        return pendingCall.result();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            throw unwrap(exception);
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException exception) {
+        if (exception.getCause() instanceof TimeoutException) {
+            return new RpcException(504, "RPC request timed out");
+        }
+
+        return exception.getCause() instanceof RuntimeException cause ? cause : exception;
+    }
+
+    private record PendingCall<T>(
+        byte expectedOpcode,
+        Function<ByteBuf, T> resultReader,
+        CompletableFuture<T> result
+    ) {
+        void complete(byte opcode, ByteBuf frame) {
+            if (opcode == RpcProtocol.ERROR) {
+                int status = frame.readUnsignedShort();
+                result.completeExceptionally(new RpcException(status, RpcProtocol.readString(frame)));
+            } else if (opcode != expectedOpcode) {
+                result.completeExceptionally(new RpcException(500, "Unexpected RPC response " + opcode));
+            } else {
+                try {
+                    result.complete(resultReader.apply(frame));
+                } catch (RuntimeException exception) {
+                    result.completeExceptionally(new RpcException(500, "Malformed RPC response: " + exception.getMessage()));
+                }
+            }
+        }
+    }
+
+    private class ResponseHandler extends SimpleChannelInboundHandler<ByteBuf> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+            byte opcode = frame.readByte();
+            PendingCall<?> pendingCall = pendingCalls.remove(frame.readInt());
+
+            if (pendingCall != null) {
+                pendingCall.complete(opcode, frame);
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            IOException closed = new IOException("RPC connection closed");
+            pendingCalls.values().forEach(pendingCall -> pendingCall.result().completeExceptionally(closed));
+            pendingCalls.clear();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ctx.close();
+        }
+    }
+}
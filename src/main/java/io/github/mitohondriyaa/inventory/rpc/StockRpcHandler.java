@@ -0,0 +1,174 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.github.mitohondriyaa.inventory.exception.NotFoundException;
+import io.github.mitohondriyaa.inventory.exception.RpcException;
+import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.micrometer.core.instrument.Timer;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+class StockRpcHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private static final String REQUIRED_AUTHORITY = "ROLE_INVENTORY_MANAGER";
+    private final InventoryService inventoryService;
+    private final JwtDecoder jwtDecoder;
+    private final KeycloakRealmRoleConverter roleConverter;
+    private final Map<RpcOperation, Timer> timers;
+    private final int maxBatchSize;
+    private final Clock clock;
+    private Instant authenticatedUntil;
+
+    StockRpcHandler(
+        InventoryService inventoryService,
+        JwtDecoder jwtDecoder,
+        KeycloakRealmRoleConverter roleConverter,
+        Map<RpcOperation, Timer> timers,
+        int maxBatchSize,
+        Clock clock
+    ) {
+        this.inventoryService = inventoryService;
+        this.jwtDecoder = jwtDecoder;
+        this.roleConverter = roleConverter;
+        this.timers = timers;
+        this.maxBatchSize = maxBatchSize;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+        long startedAt = System.nanoTime();
+        ByteBuf response = ctx.alloc().buffer();
+
+        // Without a full header there is no request id to answer, so the error is sent as request 0
+        if (frame.readableBytes() < RpcProtocol.HEADER_BYTES) {
+            writeError(response, 0, 400, "Malformed request: frame of " + frame.readableBytes() + " bytes has no header");
+            ctx.write(response);
+            return;
+        }
+
+        byte opcode = frame.readByte();
+        int requestId = frame.readInt();
+
+        try {
+            RpcOperation operation = RpcOperation.fromCode(opcode);
+
+            if (operation != RpcOperation.AUTHENTICATE && !isAuthenticated()) {
+                throw new RpcException(401, "User not authenticated");
+            }
+
+            switch (operation) {
+                case AUTHENTICATE -> authenticate(frame, requestId, response);
+                case CHECK -> check(frame, requestId, response);
+                case BATCH_CHECK -> batchCheck(frame, requestId, response);
+                case GET_STOCK -> getStock(frame, requestId, response);
+            }
+
+            timers.get(operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RpcException exception) {
+            writeError(response, requestId, exception.getStatus(), exception.getMessage());
+        } catch (NotFoundException exception) {
+            writeError(response, requestId, 404, exception.getMessage());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            writeError(response, requestId, 400, "Malformed request: " + exception.getMessage());
+        } catch (RuntimeException exception) {
+            log.error("RPC request {} failed", requestId, exception);
+            writeError(response, requestId, 500, "Internal server error");
+        }
+
+        ctx.write(response);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("Closing RPC connection {}", ctx.channel().remoteAddress(), cause);
+        ctx.close();
+    }
+
+    // The connection is only as good as the token it was opened with, so requests
+    // after the token expires are rejected until the client authenticates again.
+    private boolean isAuthenticated() {
+        return authenticatedUntil != null && clock.instant().isBefore(authenticatedUntil);
+    }
+
+    private void authenticate(ByteBuf frame, int requestId, ByteBuf response) {
+        authenticatedUntil = null;
+        Jwt jwt;
+        boolean authorized;
+
+        try {
+            jwt = jwtDecoder.decode(RpcProtocol.readString(frame));
+            authorized = roleConverter.convert(jwt)
+                .getAuthorities()
+                .stream()
+                .anyMatch(authority -> REQUIRED_AUTHORITY.equals(authority.getAuthority()));
+        } catch (JwtException exception) {
+            throw new RpcException(401, "User not authenticated");
+        }
+
+        if (!authorized) {
+            throw new RpcException(403, "User not authorized");
+        }
+
+        authenticatedUntil = jwt.getExpiresAt() != null ? jwt.getExpiresAt() : Instant.MAX;
+        RpcProtocol.writeHeader(response, RpcProtocol.AUTHENTICATED, requestId);
+    }
+
+    private void check(ByteBuf frame, int requestId, ByteBuf response) {
+        String productId = RpcProtocol.readString(frame);
+        int quantity = frame.readInt();
+        boolean inStock = inventoryService.isInStock(productId, quantity);
+
+        RpcProtocol.writeHeader(response, RpcProtocol.CHECK_RESULT, requestId);
+        response.writeBoolean(inStock);
+    }
+
+    private void batchCheck(ByteBuf frame, int requestId, ByteBuf response) {
+        int count = frame.readInt();
+
+        if (count < 0 || count > maxBatchSize) {
+            throw new RpcException(400, "Batch size must be between 0 and " + maxBatchSize);
+        }
+
+        RpcProtocol.writeHeader(response, RpcProtocol.BATCH_CHECK_RESULT, requestId);
+        response.writeInt(count);
+
+        for (int i = 0; i < count; i++) {
+            String productId = RpcProtocol.readString(frame);
+            int quantity = frame.readInt();
+            response.writeBoolean(inventoryService.isInStock(productId, quantity));
+        }
+    }
+
+    private void getStock(ByteBuf frame, int requestId, ByteBuf response) {
+        InventoryResponse inventory = inventoryService.getInventoryByProductID(RpcProtocol.readString(frame));
+
+        RpcProtocol.writeHeader(response, RpcProtocol.STOCK, requestId);
+        response.writeLong(inventory.id());
+        RpcProtocol.writeString(response, inventory.productId());
+        response.writeInt(inventory.quantity());
+    }
+
+    private static void writeError(ByteBuf response, int requestId, int status, String message) {
+        response.clear();
+        RpcProtocol.writeHeader(response, RpcProtocol.ERROR, requestId);
+        response.writeShort(status);
+        RpcProtocol.writeString(response, message != null ? message : "");
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.rpc.enabled", havingValue = "true")
+public class StockRpcServer implements SmartLifecycle {
+    private final InventoryService inventoryService;
+    private final JwtDecoder jwtDecoder;
+    private final KeycloakRealmRoleConverter roleConverter = new KeycloakRealmRoleConverter();
+    private final Map<RpcOperation, Timer> timers = new EnumMap<>(RpcOperation.class);
+    @Value("${inventory.rpc.transport}")
+    private RpcTransport transport;
+    @Value("${inventory.rpc.port}")
+    private Integer port;
+    @Value("${inventory.rpc.local-name}")
+    private String localName;
+    @Value("${inventory.rpc.worker-threads}")
+    private Integer workerThreads;
+    @Value("${inventory.rpc.max-frame-bytes}")
+    private Integer maxFrameBytes;
+    @Value("${inventory.rpc.max-batch-size}")
+    private Integer maxBatchSize;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup ioGroup;
+    private EventExecutorGroup workerGroup;
+    private volatile Channel serverChannel;
+
+    public StockRpcServer(
+        InventoryService inventoryService,
+        JwtDecoder jwtDecoder,
+        MeterRegistry meterRegistry
+    ) {
+        this.inventoryService = inventoryService;
+        this.jwtDecoder = jwtDecoder;
+
+        for (RpcOperation operation : RpcOperation.values()) {
+            timers.put(operation, Timer.builder("inventory.rpc.requests")
+                .description("Time to serve a binary RPC request")
+                .tag("operation", operation.getTagValue())
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void start() {
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        workerGroup = new DefaultEventExecutorGroup(workerThreads);
+
+        if (transport == RpcTransport.LOCAL) {
+            bossGroup = new DefaultEventLoopGroup(1);
+            ioGroup = new DefaultEventLoopGroup();
+            bootstrap.channel(LocalServerChannel.class);
+        } else {
+            bossGroup = new NioEventLoopGroup(1);
+            ioGroup = new NioEventLoopGroup();
+            bootstrap.channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true);
+        }
+
+        serverChannel = bootstrap.group(bossGroup, ioGroup)
+            .childHandler(new ChannelInitializer<>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    channel.pipeline()
+                        .addLast(new LengthFieldBasedFrameDecoder(
+                            maxFrameBytes, 0, RpcProtocol.LENGTH_FIELD_BYTES, 0, RpcProtocol.LENGTH_FIELD_BYTES
+                        ))
+                        .addLast(new LengthFieldPrepender(RpcProtocol.LENGTH_FIELD_BYTES))
+                        .addLast(workerGroup, new StockRpcHandler(
+                            inventoryService, jwtDecoder, roleConverter, timers, maxBatchSize, Clock.systemUTC()
+                        ));
+                }
+            })
+            .bind(address())
+            .syncUninterruptibly()
+            .channel();
+
+        log.info("Stock RPC server listening on {}", serverChannel.localAddress());
+    }
+
+    @Override
+    public void stop() {
+        Channel channel = serverChannel;
+        serverChannel = null;
+
+        if (channel != null) {
+            channel.close().syncUninterruptibly();
+        }
+
+        bossGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+        ioGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+        workerGroup.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverChannel != null;
+    }
+
+    public SocketAddress localAddress() {
+        return serverChannel.localAddress();
+    }
+
+    private SocketAddress address() {
+        return transport == RpcTransport.LOCAL ? new LocalAddress(localName) : new InetSocketAddress(port);
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.mitohondriyaa.inventory.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final int maxEntries;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Map<String, CachedJwt> verifiedTokens = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CachingJwtDecoder(
+        JwtDecoder delegate,
+        int maxEntries,
+        Duration maxTtl,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.hitCounter = Counter.builder("inventory.auth.token-cache")
+            .description("Bearer tokens served from the verified-token cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("inventory.auth.token-cache")
+            .description("Bearer tokens served from the verified-token cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder("inventory.auth.token-cache.size", verifiedTokens, Map::size)
+            .description("Verified bearer tokens currently cached")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Instant now = clock.instant();
+        Optional<Jwt> cachedJwt = lookup(key, now);
+
+        if (cachedJwt.isPresent()) {
+            return cachedJwt.get();
+        }
+
+        missCounter.increment();
+        Jwt jwt = delegate.decode(token);
+        Instant validUntil = now.plus(maxTtl);
+
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(validUntil)) {
+            validUntil = jwt.getExpiresAt();
+        }
+
+        if (verifiedTokens.size() >= maxEntries) {
+            verifiedTokens.values().removeIf(entry -> !now.isBefore(entry.validUntil()));
+        }
+
+        if (verifiedTokens.size() < maxEntries) {
+            verifiedTokens.put(key, new CachedJwt(jwt, validUntil));
+        }
+
+        return jwt;
+    }
+
+    public Optional<Jwt> peek(String token) {
+        return lookup(hash(token), clock.instant());
+    }
+
+    public void clear() {
+        verifiedTokens.clear();
+    }
+
+    private Optional<Jwt> lookup(String key, Instant now) {
+        CachedJwt cachedJwt = verifiedTokens.get(key);
+
+        if (cachedJwt == null) {
+            return Optional.empty();
+        }
+
+        if (now.isBefore(cachedJwt.validUntil())) {
+            hitCounter.increment();
+
+            return Optional.of(cachedJwt.jwt());
+        }
+
+        verifiedTokens.remove(key, cachedJwt);
+
+        return Optional.empty();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private record CachedJwt(Jwt jwt, Instant validUntil) {}
+}
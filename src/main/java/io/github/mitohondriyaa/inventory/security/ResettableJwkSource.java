@@ -0,0 +1,44 @@
+package io.github.mitohondriyaa.inventory.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ResettableJwkSource implements JWKSource<SecurityContext>, Closeable {
+    private final Supplier<JWKSource<SecurityContext>> factory;
+    private volatile JWKSource<SecurityContext> delegate;
+
+    public ResettableJwkSource(Supplier<JWKSource<SecurityContext>> factory) {
+        this.factory = factory;
+        this.delegate = factory.get();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        return delegate.get(jwkSelector, context);
+    }
+
+    public void reset() throws IOException {
+        JWKSource<SecurityContext> previous = delegate;
+        delegate = factory.get();
+        close(previous);
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(delegate);
+    }
+
+    private static void close(JWKSource<SecurityContext> source) throws IOException {
+        if (source instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.diagnostics.EventPublishEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class EventLatencyTracker {
+    public static final String ORIGIN_TIMESTAMP_HEADER = "originTimestamp";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<TopicPartition, StageTimers> timers = new ConcurrentHashMap<>();
+
+    public ReceivedEvent received(ConsumerRecord<?, ?> record) {
+        long now = System.currentTimeMillis();
+        StageTimers stageTimers = timers.computeIfAbsent(
+            new TopicPartition(record.topic(), record.partition()),
+            this::createTimers
+        );
+        stageTimers.queueing().record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+
+        return new ReceivedEvent(originTimestamp(record), System.nanoTime(), stageTimers);
+    }
+
+    public void send(ReceivedEvent receivedEvent, ProducerRecord<String, Object> producerRecord) {
+        producerRecord.headers().add(
+            ORIGIN_TIMESTAMP_HEADER,
+            Long.toString(receivedEvent.originTimestamp()).getBytes(StandardCharsets.UTF_8)
+        );
+
+        long sendStartedAt = System.nanoTime();
+        StageTimers stageTimers = receivedEvent.stageTimers();
+        stageTimers.processing().record(sendStartedAt - receivedEvent.receivedAt(), TimeUnit.NANOSECONDS);
+
+        EventPublishEvent eventPublishEvent = new EventPublishEvent();
+        eventPublishEvent.begin();
+
+        kafkaTemplate.send(producerRecord).whenComplete((sendResult, exception) -> {
+            if (exception == null) {
+                stageTimers.publish().record(System.nanoTime() - sendStartedAt, TimeUnit.NANOSECONDS);
+                stageTimers.endToEnd().record(
+                    Math.max(0, System.currentTimeMillis() - receivedEvent.originTimestamp()),
+                    TimeUnit.MILLISECONDS
+                );
+            }
+        });
+
+        eventPublishEvent.end();
+
+        if (eventPublishEvent.shouldCommit()) {
+            eventPublishEvent.topic = producerRecord.topic();
+            eventPublishEvent.commit();
+        }
+    }
+
+    private static long originTimestamp(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(ORIGIN_TIMESTAMP_HEADER);
+
+        if (header == null) {
+            return record.timestamp();
+        }
+
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException exception) {
+            return record.timestamp();
+        }
+    }
+
+    private StageTimers createTimers(TopicPartition topicPartition) {
+        return new StageTimers(
+            createTimer("inventory.event.queueing", "Time between an event being produced and consumed", topicPartition),
+            createTimer("inventory.event.processing", "Time spent handling a consumed event", topicPartition),
+            createTimer("inventory.event.publish", "Time to publish the resulting event", topicPartition),
+            createTimer("inventory.event.end-to-end", "Time from the origin event to the published result", topicPartition)
+        );
+    }
+
+    private Timer createTimer(String name, String description, TopicPartition topicPartition) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("topic", topicPartition.topic())
+            .tag("partition", Integer.toString(topicPartition.partition()))
+            .register(meterRegistry);
+    }
+
+    public record ReceivedEvent(long originTimestamp, long receivedAt, StageTimers stageTimers) {}
+
+    public record StageTimers(Timer queueing, Timer processing, Timer publish, Timer endToEnd) {}
+}
@@ -0,0 +1,82 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class InventoryEventMapper {
+    public ProducerRecord<String, Object> inventoryReserved(OrderPlacedEvent orderPlacedEvent) {
+        InventoryReservedEvent inventoryReservedEvent
+            = new InventoryReservedEvent();
+        inventoryReservedEvent.setOrderNumber(
+            orderPlacedEvent.getOrderNumber()
+        );
+        inventoryReservedEvent.setEmail(
+            orderPlacedEvent.getEmail()
+        );
+        inventoryReservedEvent.setFirstName(
+            orderPlacedEvent.getFirstName()
+        );
+        inventoryReservedEvent.setLastName(
+            orderPlacedEvent.getLastName()
+        );
+
+        return producerRecord("inventory-reserved", inventoryReservedEvent);
+    }
+
+    public ProducerRecord<String, Object> inventoryRejected(OrderPlacedEvent orderPlacedEvent) {
+        InventoryRejectedEvent inventoryRejectedEvent
+            = new InventoryRejectedEvent();
+        inventoryRejectedEvent.setOrderNumber(
+            orderPlacedEvent.getOrderNumber()
+        );
+        inventoryRejectedEvent.setEmail(
+            orderPlacedEvent.getEmail()
+        );
+        inventoryRejectedEvent.setFirstName(
+            orderPlacedEvent.getFirstName()
+        );
+        inventoryRejectedEvent.setLastName(
+            orderPlacedEvent.getLastName()
+        );
+
+        return producerRecord("inventory-rejected", inventoryRejectedEvent);
+    }
+
+    public ProducerRecord<String, Object> inventoryRejected(OrderCancelledEvent orderCancelledEvent) {
+        InventoryRejectedEvent inventoryRejectedEvent
+            = new InventoryRejectedEvent();
+        inventoryRejectedEvent.setOrderNumber(
+            orderCancelledEvent.getOrderNumber()
+        );
+        inventoryRejectedEvent.setEmail(
+            orderCancelledEvent.getEmail()
+        );
+        inventoryRejectedEvent.setFirstName(
+            orderCancelledEvent.getFirstName()
+        );
+        inventoryRejectedEvent.setLastName(
+            orderCancelledEvent.getLastName()
+        );
+
+        return producerRecord("inventory-rejected", inventoryRejectedEvent);
+    }
+
+    public byte[] newMessageId() {
+        return UUID.randomUUID().toString().getBytes();
+    }
+
+    private ProducerRecord<String, Object> producerRecord(String topic, Object event) {
+        ProducerRecord<String, Object> producerRecord
+            = new ProducerRecord<>(topic, event);
+        producerRecord.headers().add("messageId", newMessageId());
+
+        return producerRecord;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import io.github.mitohondriyaa.inventory.dto.InventoryFileFormat;
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class InventoryExportService {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private final InventoryRepository inventoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    @Value("${inventory.export.page-size}")
+    private Integer pageSize;
+
+    @Transactional(readOnly = true)
+    public void exportInventories(InventoryFileFormat format, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = switch (format) {
+            case CSV -> CSV_MAPPER.writerFor(InventoryRequest.class)
+                .with(InventoryFileFormat.CSV_SCHEMA.withHeader());
+            case NDJSON -> objectMapper.writerFor(InventoryRequest.class)
+                .withRootValueSeparator("\n");
+        };
+
+        try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+            for (String shard : shardRouter.getShardNames()) {
+                long afterId = 0;
+                List<Inventory> page;
+
+                do {
+                    long lastId = afterId;
+                    page = shardRouter.onShard(shard, () -> inventoryRepository.findAllAfterId(lastId, pageSize));
+
+                    for (Inventory inventory : page) {
+                        sequenceWriter.write(new InventoryRequest(
+                            inventory.getProductId(),
+                            inventory.getQuantity()
+                        ));
+                        afterId = inventory.getId();
+                    }
+
+                    sequenceWriter.flush();
+                } while (page.size() == pageSize);
+            }
+        }
+    }
+}
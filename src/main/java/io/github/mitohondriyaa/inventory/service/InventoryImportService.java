@@ -0,0 +1,262 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import io.github.mitohondriyaa.inventory.dto.InventoryFileFormat;
+import io.github.mitohondriyaa.inventory.dto.InventoryImportResponse;
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.exception.ImportInProgressException;
+import io.github.mitohondriyaa.inventory.exception.NotFoundException;
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.model.InventoryImport;
+import io.github.mitohondriyaa.inventory.model.InventoryImportStatus;
+import io.github.mitohondriyaa.inventory.repository.InventoryImportRepository;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryImportService {
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final int MAX_REJECTION_SAMPLES = 100;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryImportRepository inventoryImportRepository;
+    private final InventoryStockCache inventoryStockCache;
+    private final ProductKeyDictionary productKeyDictionary;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, ImportProgress> runningImports = new ConcurrentHashMap<>();
+    @Value("${inventory.import.batch-size}")
+    private Integer batchSize;
+
+    public InventoryImportResponse importInventories(
+        InventoryFileFormat format,
+        String jobId,
+        InputStream inputStream
+    ) throws IOException {
+        String resolvedJobId = jobId != null ? jobId : UUID.randomUUID().toString();
+        InventoryImport inventoryImport = inventoryImportRepository.findById(resolvedJobId)
+            .orElseGet(() -> InventoryImport.builder()
+                .jobId(resolvedJobId)
+                .committedOffset(0L)
+                .importedRows(0L)
+                .rejectedLines(0L)
+                .build());
+        ImportProgress progress = new ImportProgress(inventoryImport);
+
+        if (runningImports.putIfAbsent(resolvedJobId, progress) != null) {
+            throw new ImportInProgressException("Import " + resolvedJobId + " is already running");
+        }
+
+        try {
+            inventoryImport.setStatus(InventoryImportStatus.RUNNING);
+            inventoryImportRepository.save(inventoryImport);
+
+            readLines(format, inputStream, inventoryImport, progress);
+
+            inventoryImport.setStatus(InventoryImportStatus.COMPLETED);
+            inventoryImportRepository.save(inventoryImport);
+        } catch (IOException | RuntimeException exception) {
+            log.error("Import {} failed after line {}: {}",
+                resolvedJobId,
+                inventoryImport.getCommittedOffset(),
+                exception.getMessage()
+            );
+
+            inventoryImport.setStatus(InventoryImportStatus.FAILED);
+            inventoryImportRepository.save(inventoryImport);
+
+            throw exception;
+        } finally {
+            runningImports.remove(resolvedJobId);
+        }
+
+        return progress.toResponse();
+    }
+
+    public InventoryImportResponse getImport(String jobId) {
+        ImportProgress progress = runningImports.get(jobId);
+
+        if (progress != null) {
+            return progress.toResponse();
+        }
+
+        InventoryImport inventoryImport = inventoryImportRepository.findById(jobId)
+            .orElseThrow(() -> new NotFoundException("Import not found"));
+
+        return new ImportProgress(inventoryImport).toResponse();
+    }
+
+    private void readLines(
+        InventoryFileFormat format,
+        InputStream inputStream,
+        InventoryImport inventoryImport,
+        ImportProgress progress
+    ) throws IOException {
+        ObjectReader rowReader = switch (format) {
+            case CSV -> CSV_MAPPER.readerFor(InventoryRequest.class)
+                .with(InventoryFileFormat.CSV_SCHEMA);
+            case NDJSON -> objectMapper.readerFor(InventoryRequest.class);
+        };
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(inputStream, StandardCharsets.UTF_8)
+        );
+        List<Inventory> batch = new ArrayList<>(batchSize);
+        Map<String, Long> shardOffsets = new ConcurrentHashMap<>();
+        shardRouter.runOnAllShards(shard -> shardOffsets.put(
+            shard,
+            inventoryImportRepository.findCheckpoint(inventoryImport.getJobId()).orElse(0L)
+        ));
+        long resumeAfter = Collections.min(shardOffsets.values());
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            progress.processedLines.set(lineNumber);
+
+            if (lineNumber <= resumeAfter
+                || line.isBlank()
+                || (format == InventoryFileFormat.CSV && lineNumber == 1)) {
+                continue;
+            }
+
+            try {
+                InventoryRequest row = rowReader.readValue(line);
+
+                if (row.productId() == null || row.productId().isBlank()) {
+                    throw new IllegalArgumentException("productId is required");
+                }
+
+                if (row.quantity() == null || row.quantity() < 0) {
+                    throw new IllegalArgumentException("quantity must be a non-negative number");
+                }
+
+                if (lineNumber > shardOffsets.get(shardRouter.shardFor(row.productId()))) {
+                    batch.add(Inventory.builder()
+                        .productId(row.productId())
+                        .quantity(row.quantity())
+                        .build());
+                }
+            } catch (IOException | IllegalArgumentException exception) {
+                if (lineNumber > inventoryImport.getCommittedOffset()) {
+                    progress.reject(lineNumber, exception.getMessage());
+                }
+            }
+
+            if (batch.size() >= batchSize) {
+                commit(inventoryImport, batch, lineNumber, progress);
+            }
+        }
+
+        commit(inventoryImport, batch, lineNumber, progress);
+    }
+
+    private void commit(
+        InventoryImport inventoryImport,
+        List<Inventory> batch,
+        long lineNumber,
+        ImportProgress progress
+    ) {
+        if (lineNumber <= inventoryImport.getCommittedOffset()) {
+            return;
+        }
+
+        long rejected = progress.pendingRejectedLines.getAndSet(0);
+
+        Map<String, List<Inventory>> partitions = batch.stream()
+            .collect(Collectors.groupingBy(inventory -> shardRouter.shardFor(inventory.getProductId())));
+
+        shardRouter.runOnAllShards(shard -> {
+            Map<String, Long> importedKeys = transactionTemplate.execute(status -> {
+                List<Inventory> shardInventories = partitions.get(shard);
+                Map<String, Long> shardKeys = Map.of();
+
+                if (shardInventories != null) {
+                    inventoryRepository.upsertQuantities(shardInventories);
+                    shardKeys = inventoryRepository.findIdsByProductIdIn(shardInventories.stream()
+                        .map(Inventory::getProductId)
+                        .toList());
+                }
+
+                inventoryImportRepository.saveCheckpoint(inventoryImport.getJobId(), lineNumber);
+
+                return shardKeys;
+            });
+
+            // registered only after the commit, so a rolled-back batch never leaves keys behind
+            productKeyDictionary.registerAll(importedKeys);
+        });
+
+        inventoryImport.setCommittedOffset(lineNumber);
+        inventoryImport.setImportedRows(inventoryImport.getImportedRows() + batch.size());
+        inventoryImport.setRejectedLines(inventoryImport.getRejectedLines() + rejected);
+        inventoryImportRepository.save(inventoryImport);
+
+        batch.forEach(inventory -> inventoryStockCache.evict(inventory.getProductId()));
+        progress.importedRows.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private static class ImportProgress {
+        private final InventoryImport inventoryImport;
+        private final long startedAt = System.nanoTime();
+        private final long initialImportedRows;
+        private final AtomicLong processedLines = new AtomicLong();
+        private final AtomicLong importedRows = new AtomicLong();
+        private final AtomicLong pendingRejectedLines = new AtomicLong();
+        private final List<String> rejections = new CopyOnWriteArrayList<>();
+
+        private ImportProgress(InventoryImport inventoryImport) {
+            this.inventoryImport = inventoryImport;
+            this.initialImportedRows = inventoryImport.getImportedRows();
+        }
+
+        private void reject(long lineNumber, String reason) {
+            pendingRejectedLines.incrementAndGet();
+
+            if (rejections.size() < MAX_REJECTION_SAMPLES) {
+                rejections.add("Line " + lineNumber + ": " + reason);
+            }
+        }
+
+        private InventoryImportResponse toResponse() {
+            long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+            return new InventoryImportResponse(
+                inventoryImport.getJobId(),
+                inventoryImport.getStatus(),
+                inventoryImport.getCommittedOffset(),
+                processedLines.get(),
+                initialImportedRows + importedRows.get(),
+                inventoryImport.getRejectedLines() + pendingRejectedLines.get(),
+                importedRows.get() * 1000 / elapsedMs,
+                List.copyOf(rejections)
+            );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Component
+public class InventoryMetrics {
+    private final Counter reservedCounter;
+    private final Counter rejectedCounter;
+    private final Counter cancellationAppliedCounter;
+    private final Counter cancellationDuplicateCounter;
+    private final Map<MessageIdStoreLayout, Timer> redisClaimTimers = new EnumMap<>(MessageIdStoreLayout.class);
+
+    public InventoryMetrics(MeterRegistry meterRegistry) {
+        this.reservedCounter = Counter.builder("inventory.reservations")
+            .description("Order placements processed by the inventory")
+            .tag("outcome", "reserved")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("inventory.reservations")
+            .description("Order placements processed by the inventory")
+            .tag("outcome", "rejected")
+            .register(meterRegistry);
+        this.cancellationAppliedCounter = Counter.builder("inventory.cancellations")
+            .description("Order cancellations processed by the inventory")
+            .tag("outcome", "applied")
+            .register(meterRegistry);
+        this.cancellationDuplicateCounter = Counter.builder("inventory.cancellations")
+            .description("Order cancellations processed by the inventory")
+            .tag("outcome", "duplicate")
+            .register(meterRegistry);
+
+        for (MessageIdStoreLayout layout : MessageIdStoreLayout.values()) {
+            redisClaimTimers.put(layout, Timer.builder("inventory.redis.claim")
+                .description("Time to claim a batch of message ids in Redis")
+                .tag("layout", layout.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    public Timer getRedisClaimTimer(MessageIdStoreLayout layout) {
+        return redisClaimTimers.get(layout);
+    }
+}
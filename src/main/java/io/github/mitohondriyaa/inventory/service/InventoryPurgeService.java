@@ -0,0 +1,141 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.datasource.ReplicaMonitor;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class InventoryPurgeService {
+    private final InventoryRepository inventoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ReplicaMonitor> replicaMonitor;
+    private final ShardRouter shardRouter;
+    private final Counter purgedRowsCounter;
+    private final Counter throttledCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    @Value("${inventory.purge.grace-period-minutes}")
+    private Integer gracePeriodMinutes;
+    @Value("${inventory.purge.chunk-size}")
+    private Integer chunkSize;
+    @Value("${inventory.purge.max-chunks-per-run}")
+    private Integer maxChunksPerRun;
+    @Value("${inventory.purge.chunk-pause-ms}")
+    private Long chunkPauseMs;
+    @Value("${inventory.purge.max-row-lock-waits}")
+    private Long maxRowLockWaits;
+    @Value("${inventory.purge.max-replication-lag-seconds}")
+    private Long maxReplicationLagSeconds;
+
+    public InventoryPurgeService(
+        InventoryRepository inventoryRepository,
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<ReplicaMonitor> replicaMonitor,
+        ShardRouter shardRouter,
+        MeterRegistry meterRegistry
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaMonitor = replicaMonitor;
+        this.shardRouter = shardRouter;
+        this.purgedRowsCounter = Counter.builder("inventory.purge.rows")
+            .description("Soft-deleted inventory rows physically removed")
+            .register(meterRegistry);
+        this.throttledCounter = Counter.builder("inventory.purge.throttled")
+            .description("Purge runs paused because of database pressure")
+            .register(meterRegistry);
+        Gauge.builder("inventory.purge.backlog", backlog, AtomicLong::get)
+            .description("Soft-deleted inventory rows waiting to be purged")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.purge.interval-ms}")
+    public void purgeDeletedInventories() {
+        backlog.set(shardRouter.onAllShards(shard -> inventoryRepository.countDeleted())
+            .stream()
+            .mapToLong(Long::longValue)
+            .sum());
+
+        Instant deletedBefore = Instant.now().minus(Duration.ofMinutes(gracePeriodMinutes));
+        long startedAt = System.nanoTime();
+        long purged = shardRouter.onAllShards(shard -> purgeShard(deletedBefore))
+            .stream()
+            .mapToLong(Long::longValue)
+            .sum();
+
+        if (purged > 0) {
+            long elapsedMs = Math.max(1, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            log.info("Purged {} deleted inventories in {} ms ({} rows/sec), backlog: {}",
+                purged,
+                elapsedMs,
+                purged * 1000 / elapsedMs,
+                backlog.get()
+            );
+        }
+    }
+
+    private long purgeShard(Instant deletedBefore) {
+        long purged = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            if (isDatabaseUnderPressure()) {
+                throttledCounter.increment();
+                break;
+            }
+
+            List<Long> ids = inventoryRepository.findIdsDeletedBefore(deletedBefore, chunkSize);
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer deleted = inventoryRepository.purgeDeletedByIds(ids);
+            purgedRowsCounter.increment(deleted);
+            purged += deleted;
+            backlog.addAndGet(-deleted);
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+
+            try {
+                Thread.sleep(chunkPauseMs);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return purged;
+    }
+
+    private boolean isDatabaseUnderPressure() {
+        Map<String, Object> status = jdbcTemplate.queryForMap(
+            "SHOW GLOBAL STATUS LIKE 'Innodb_row_lock_current_waits'"
+        );
+        long rowLockWaits = Long.parseLong(status.get("Value").toString());
+
+        if (rowLockWaits > maxRowLockWaits) {
+            return true;
+        }
+
+        ReplicaMonitor monitor = replicaMonitor.getIfAvailable();
+
+        return monitor != null && monitor.replicationLagSeconds() > maxReplicationLagSeconds;
+    }
+}
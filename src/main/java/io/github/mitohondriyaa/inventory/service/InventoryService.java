@@ -1,104 +1,161 @@
 package io.github.mitohondriyaa.inventory.service;
 
+import io.github.mitohondriyaa.inventory.diagnostics.RecordProcessedEvent;
+import io.github.mitohondriyaa.inventory.diagnostics.StockUpdateEvent;
 import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
 import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
-import io.github.mitohondriyaa.inventory.event.InventoryRejectedEvent;
-import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
 import io.github.mitohondriyaa.inventory.exception.NotEnoughInventoryException;
 import io.github.mitohondriyaa.inventory.exception.NotFoundException;
+import io.github.mitohondriyaa.inventory.exception.StaleInventoryException;
+import io.github.mitohondriyaa.inventory.idempotency.IdempotencyStore;
+import io.github.mitohondriyaa.inventory.idempotency.IdempotencyStoreType;
 import io.github.mitohondriyaa.inventory.model.Inventory;
 import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
 import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
 import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
 import io.github.mitohondriyaa.product.event.ProductCreatedEvent;
 import io.github.mitohondriyaa.product.event.ProductDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InventoryService {
     private final InventoryRepository inventoryRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final RedisService redisService;
+    private final List<IdempotencyStore> idempotencyStores;
+    private final RecentMessageIdCache recentMessageIdCache;
+    private final InventoryStockCache inventoryStockCache;
+    private final ProductKeyDictionary productKeyDictionary;
+    private final InventoryMetrics inventoryMetrics;
+    private final EventLatencyTracker eventLatencyTracker;
+    private final InventoryEventMapper inventoryEventMapper;
+    private final ShardRouter shardRouter;
+    @Value("${inventory.idempotency.order-cancelled.store}")
+    private IdempotencyStoreType orderCancelledStoreType;
 
-    @KafkaListener(topics = "product-created")
-    public void createInventory(ProductCreatedEvent productCreatedEvent) {
-        Inventory inventory = Inventory.builder()
-            .productId(productCreatedEvent.getProductId().toString())
-            .quantity(0)
-            .build();
-
-        inventoryRepository.save(inventory);
+    @KafkaListener(
+        id = "product-created",
+        idIsGroup = false,
+        topics = "product-created",
+        containerFactory = "batchKafkaListenerContainerFactory")
+    public void createInventories(List<ProductCreatedEvent> productCreatedEvents) {
+        processBatch("product-created", productCreatedEvents, this::createInventoryBatch);
     }
 
-    @KafkaListener(topics = "order-placed")
-    public void deductStock(OrderPlacedEvent orderPlacedEvent) {
-        Integer updated = inventoryRepository.decreaseQuantityIfEnough(
-            orderPlacedEvent.getProductId().toString(),
-            orderPlacedEvent.getQuantity()
+    private void createInventoryBatch(List<ProductCreatedEvent> productCreatedEvents) {
+        Set<String> productIds = productCreatedEvents.stream()
+            .map(productCreatedEvent -> productCreatedEvent.getProductId().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
+
+        Set<String> notYetMovedProductIds = ConcurrentHashMap.newKeySet();
+        shardRouter.forEachPreviousShardPartition(
+            productIds,
+            productId -> productId,
+            (shard, shardProductIds) -> notYetMovedProductIds.addAll(
+                inventoryRepository.findIdsByProductIdIn(shardProductIds).keySet()
+            )
         );
+        Set<String> newProductIds = new TreeSet<>(productIds);
+        newProductIds.removeAll(notYetMovedProductIds);
 
-        if (updated == 0) {
-            InventoryRejectedEvent inventoryRejectedEvent
-                = new InventoryRejectedEvent();
-            inventoryRejectedEvent.setOrderNumber(
-                orderPlacedEvent.getOrderNumber()
-            );
-            inventoryRejectedEvent.setEmail(
-                orderPlacedEvent.getEmail()
-            );
-            inventoryRejectedEvent.setFirstName(
-                orderPlacedEvent.getFirstName()
-            );
-            inventoryRejectedEvent.setLastName(
-                orderPlacedEvent.getLastName()
-            );
+        shardRouter.forEachShardPartition(
+            newProductIds,
+            productId -> productId,
+            (shard, shardProductIds) -> {
+                inventoryRepository.insertIfAbsent(shardProductIds);
+                productKeyDictionary.registerAll(inventoryRepository.findIdsByProductIdIn(shardProductIds));
+            }
+        );
+        inventoryStockCache.evictAll(productIds);
+    }
+
+    @KafkaListener(id = "order-placed", idIsGroup = false, topics = "order-placed")
+    public void deductStock(ConsumerRecord<String, OrderPlacedEvent> record) {
+        RecordProcessedEvent recordProcessedEvent = new RecordProcessedEvent();
+        recordProcessedEvent.begin();
 
-            ProducerRecord<String, Object> producerRecord
-                = new ProducerRecord<>("inventory-rejected", inventoryRejectedEvent);
-            producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+        EventLatencyTracker.ReceivedEvent receivedEvent = eventLatencyTracker.received(record);
+        OrderPlacedEvent orderPlacedEvent = record.value();
+        boolean reserved = reserveStock(orderPlacedEvent.getProductId().toString(), orderPlacedEvent.getQuantity());
 
-            kafkaTemplate.send(producerRecord);
+        if (!reserved) {
+            inventoryMetrics.getRejectedCounter().increment();
+            eventLatencyTracker.send(receivedEvent, inventoryEventMapper.inventoryRejected(orderPlacedEvent));
         } else {
-            InventoryReservedEvent inventoryReservedEvent
-                = new InventoryReservedEvent();
-            inventoryReservedEvent.setOrderNumber(
-                orderPlacedEvent.getOrderNumber()
-            );
-            inventoryReservedEvent.setEmail(
-                orderPlacedEvent.getEmail()
-            );
-            inventoryReservedEvent.setFirstName(
-                orderPlacedEvent.getFirstName()
-            );
-            inventoryReservedEvent.setLastName(
-                orderPlacedEvent.getLastName()
-            );
+            inventoryMetrics.getReservedCounter().increment();
+            eventLatencyTracker.send(receivedEvent, inventoryEventMapper.inventoryReserved(orderPlacedEvent));
+        }
 
-            ProducerRecord<String, Object> producerRecord
-                = new ProducerRecord<>("inventory-reserved", inventoryReservedEvent);
-            producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+        recordProcessedEvent.end();
 
-            kafkaTemplate.send(producerRecord);
+        if (recordProcessedEvent.shouldCommit()) {
+            recordProcessedEvent.topic = record.topic();
+            recordProcessedEvent.partition = record.partition();
+            recordProcessedEvent.offset = record.offset();
+            recordProcessedEvent.lastOffset = record.offset();
+            recordProcessedEvent.records = 1;
+            recordProcessedEvent.productId = orderPlacedEvent.getProductId().toString();
+            recordProcessedEvent.outcome = reserved ? "RESERVED" : "REJECTED";
+            recordProcessedEvent.commit();
         }
     }
 
+    public boolean reserveStock(String productId, Integer quantity) {
+        StockUpdateEvent stockUpdateEvent = new StockUpdateEvent();
+        stockUpdateEvent.begin();
+
+        boolean reserved = shardRouter.findOnShardOf(productId, () -> productKeyDictionary.testByKey(
+            productId,
+            key -> inventoryRepository.decreaseQuantityIfEnoughById(key, productId, quantity) > 0
+        )).orElse(false);
+        inventoryStockCache.evict(productId);
+
+        commitStockUpdate(stockUpdateEvent, "RESERVE", productId, quantity, reserved);
+
+        return reserved;
+    }
+
+    public boolean releaseStock(String productId, Integer quantity) {
+        StockUpdateEvent stockUpdateEvent = new StockUpdateEvent();
+        stockUpdateEvent.begin();
+
+        boolean released = shardRouter.findOnShardOf(productId, () -> productKeyDictionary.testByKey(
+            productId,
+            key -> inventoryRepository.increaseQuantityById(key, productId, quantity) > 0
+        )).orElse(false);
+
+        commitStockUpdate(stockUpdateEvent, "RELEASE", productId, quantity, released);
+
+        return released;
+    }
+
+    @Transactional(readOnly = true)
     public List<InventoryResponse> getAllInventories() {
-        return inventoryRepository.findAll()
+        return shardRouter.onAllShards(shard -> inventoryRepository.findAll())
             .stream()
+            .flatMap(List::stream)
             .map(inventory -> new InventoryResponse(
                 inventory.getId(),
                 inventory.getProductId(),
@@ -106,12 +163,14 @@ public class InventoryService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
     public boolean isInStock(String productId, Integer quantity) {
-        return inventoryRepository.existsByProductIdAndQuantityIsGreaterThanEqual(productId, quantity);
+        return inventoryStockCache.isInStock(productId, quantity);
     }
 
+    @Transactional(readOnly = true)
     public InventoryResponse getInventoryByProductID(String productId) {
-        Inventory inventory = inventoryRepository.findByProductId(productId)
+        Inventory inventory = shardRouter.findOnShardOf(productId, () -> inventoryRepository.findByProductId(productId))
             .orElseThrow(() -> new NotFoundException("Inventory not found"));
 
         return new InventoryResponse(
@@ -122,13 +181,37 @@ public class InventoryService {
     }
 
     public InventoryResponse updateInventoryByProductId(InventoryRequest inventoryRequest) {
-        Inventory inventory = inventoryRepository.findByProductId(inventoryRequest.productId())
-            .orElseThrow(() -> new NotFoundException("Inventory not found"));
+        return updateInventoryByProductId(inventoryRequest, null);
+    }
 
-        inventory.setProductId(inventoryRequest.productId());
-        inventory.setQuantity(inventoryRequest.quantity());
+    public InventoryResponse updateInventoryByProductId(InventoryRequest inventoryRequest, Integer expectedQuantity) {
+        String productId = inventoryRequest.productId();
+        Inventory inventory = shardRouter.findOnShardOf(productId, () -> {
+                if (expectedQuantity == null) {
+                    return inventoryRepository.findByProductId(productId)
+                        .map(existingInventory -> {
+                            existingInventory.setProductId(productId);
+                            existingInventory.setQuantity(inventoryRequest.quantity());
 
-        inventoryRepository.save(inventory);
+                            return inventoryRepository.save(existingInventory);
+                        });
+                }
+
+                boolean updated = inventoryRepository.updateQuantityIfUnchanged(
+                    productId,
+                    expectedQuantity,
+                    inventoryRequest.quantity()
+                ) > 0;
+                Optional<Inventory> existingInventory = inventoryRepository.findByProductId(productId);
+
+                if (!updated && existingInventory.isPresent()) {
+                    throw new StaleInventoryException("Inventory quantity is no longer " + expectedQuantity);
+                }
+
+                return existingInventory;
+            })
+            .orElseThrow(() -> new NotFoundException("Inventory not found"));
+        inventoryStockCache.evict(inventory.getProductId());
 
         return new InventoryResponse(
             inventory.getId(),
@@ -137,42 +220,194 @@ public class InventoryService {
         );
     }
 
-    @KafkaListener(topics = "product-deleted")
-    public void deleteInventoryByProductID(ProductDeletedEvent productDeletedEvent) {
-        inventoryRepository.deleteByProductId(productDeletedEvent.getProductId().toString());
+    @KafkaListener(
+        id = "product-deleted",
+        idIsGroup = false,
+        topics = "product-deleted",
+        containerFactory = "batchKafkaListenerContainerFactory")
+    public void deleteInventoriesByProductID(List<ProductDeletedEvent> productDeletedEvents) {
+        processBatch("product-deleted", productDeletedEvents, this::deleteInventoryBatch);
     }
 
-    @KafkaListener(topics = "order-cancelled")
-    public void orderCancelled(
-        @Payload OrderCancelledEvent orderCancelledEvent,
-        @Header("messageId") String messageId
-    ) {
-        if (redisService.setValue(messageId)) {
-            inventoryRepository.increaseQuantityByProductId(
-                orderCancelledEvent.getProductId().toString(),
-                orderCancelledEvent.getQuantity()
-            );
+    private void deleteInventoryBatch(List<ProductDeletedEvent> productDeletedEvents) {
+        Set<String> productIds = productDeletedEvents.stream()
+            .map(productDeletedEvent -> productDeletedEvent.getProductId().toString())
+            .collect(Collectors.toCollection(TreeSet::new));
 
-            InventoryRejectedEvent inventoryRejectedEvent
-                = new InventoryRejectedEvent();
-            inventoryRejectedEvent.setOrderNumber(
-                orderCancelledEvent.getOrderNumber()
-            );
-            inventoryRejectedEvent.setEmail(
-                orderCancelledEvent.getEmail()
+        shardRouter.forEachShardPartition(
+            productIds,
+            productId -> productId,
+            (shard, shardProductIds) -> inventoryRepository.markDeletedByProductIdIn(shardProductIds)
+        );
+        shardRouter.forEachPreviousShardPartition(
+            productIds,
+            productId -> productId,
+            (shard, shardProductIds) -> inventoryRepository.markDeletedByProductIdIn(shardProductIds)
+        );
+        inventoryStockCache.evictAll(productIds);
+        productKeyDictionary.evictAll(productIds);
+    }
+
+    @KafkaListener(
+        id = "order-cancelled",
+        idIsGroup = false,
+        topics = "order-cancelled",
+        containerFactory = "batchKafkaListenerContainerFactory")
+    public void orderCancelled(List<ConsumerRecord<String, Object>> records) {
+        Map<TopicPartition, RecordProcessedEvent> recordProcessedEvents = beginRecordProcessedEvents(records);
+        Map<String, OrderCancelledEvent> orderCancelledEvents = new LinkedHashMap<>();
+        Map<String, EventLatencyTracker.ReceivedEvent> receivedEvents = new HashMap<>();
+        Map<String, TopicPartition> messagePartitions = new HashMap<>();
+        Map<String, Integer> recordIndexes = new HashMap<>();
+        int identifiedRecords = 0;
+
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, Object> record = records.get(index);
+            Header messageIdHeader = record.headers().lastHeader("messageId");
+
+            if (messageIdHeader == null) {
+                log.warn("Skipping order-cancelled record without messageId. Partition: {}, Offset: {}",
+                    record.partition(),
+                    record.offset()
+                );
+                continue;
+            }
+
+            String messageId = new String(messageIdHeader.value(), StandardCharsets.UTF_8);
+            identifiedRecords++;
+
+            if (!recentMessageIdCache.contains(messageId)
+                && orderCancelledEvents.putIfAbsent(messageId, (OrderCancelledEvent) record.value()) == null) {
+                receivedEvents.put(messageId, eventLatencyTracker.received(record));
+                messagePartitions.put(messageId, new TopicPartition(record.topic(), record.partition()));
+                recordIndexes.put(messageId, index);
+            }
+        }
+
+        Set<String> appliedMessageIds = ConcurrentHashMap.newKeySet();
+        Set<String> newMessageIds;
+
+        try {
+            newMessageIds = idempotencyStore(orderCancelledStoreType).processNew(
+                orderCancelledEvents,
+                orderCancelledEvent -> orderCancelledEvent.getProductId().toString(),
+                orderCancelledEvent -> releaseStock(
+                    orderCancelledEvent.getProductId().toString(),
+                    orderCancelledEvent.getQuantity()
+                ),
+                (messageId, orderCancelledEvent) -> {
+                    inventoryStockCache.evict(orderCancelledEvent.getProductId().toString());
+                    eventLatencyTracker.send(
+                        receivedEvents.get(messageId),
+                        inventoryEventMapper.inventoryRejected(orderCancelledEvent)
+                    );
+                    appliedMessageIds.add(messageId);
+                }
             );
-            inventoryRejectedEvent.setFirstName(
-                orderCancelledEvent.getFirstName()
+        } catch (RuntimeException exception) {
+            recentMessageIdCache.addAll(appliedMessageIds);
+            int failedIndex = recordIndexes.entrySet().stream()
+                .filter(recordIndex -> !appliedMessageIds.contains(recordIndex.getKey()))
+                .mapToInt(Map.Entry::getValue)
+                .min()
+                .orElse(0);
+
+            throw new BatchListenerFailedException("order-cancelled record failed", exception, failedIndex);
+        }
+
+        recentMessageIdCache.addAll(orderCancelledEvents.keySet());
+        inventoryMetrics.getCancellationAppliedCounter().increment(newMessageIds.size());
+        inventoryMetrics.getCancellationDuplicateCounter().increment(identifiedRecords - newMessageIds.size());
+
+        Map<TopicPartition, Long> appliedByPartition = newMessageIds.stream()
+            .collect(Collectors.groupingBy(messagePartitions::get, Collectors.counting()));
+
+        recordProcessedEvents.forEach((topicPartition, recordProcessedEvent) -> {
+            recordProcessedEvent.end();
+
+            if (recordProcessedEvent.shouldCommit()) {
+                recordProcessedEvent.outcome = appliedByPartition.getOrDefault(topicPartition, 0L) + " applied";
+                recordProcessedEvent.commit();
+            }
+        });
+    }
+
+    // A batch-wide failure is replayed record by record, so the error handler retries and recovers
+    // only the record that actually fails instead of the whole batch.
+    private static <T> void processBatch(String topic, List<T> events, Consumer<List<T>> batchHandler) {
+        try {
+            batchHandler.accept(events);
+
+            return;
+        } catch (RuntimeException exception) {
+            if (events.size() == 1) {
+                throw new BatchListenerFailedException(topic + " record failed", exception, 0);
+            }
+
+            log.warn("{} batch of {} records failed, retrying record by record: {}",
+                topic,
+                events.size(),
+                exception.getMessage()
             );
-            inventoryRejectedEvent.setLastName(
-                orderCancelledEvent.getLastName()
+        }
+
+        for (int index = 0; index < events.size(); index++) {
+            try {
+                batchHandler.accept(List.of(events.get(index)));
+            } catch (RuntimeException exception) {
+                throw new BatchListenerFailedException(topic + " record failed", exception, index);
+            }
+        }
+    }
+
+    // A batch may span partitions, so each partition gets its own event covering its offset range.
+    private static Map<TopicPartition, RecordProcessedEvent> beginRecordProcessedEvents(
+        List<ConsumerRecord<String, Object>> records
+    ) {
+        Map<TopicPartition, RecordProcessedEvent> recordProcessedEvents = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, Object> record : records) {
+            RecordProcessedEvent recordProcessedEvent = recordProcessedEvents.computeIfAbsent(
+                new TopicPartition(record.topic(), record.partition()),
+                topicPartition -> {
+                    RecordProcessedEvent partitionEvent = new RecordProcessedEvent();
+                    partitionEvent.begin();
+                    partitionEvent.topic = topicPartition.topic();
+                    partitionEvent.partition = topicPartition.partition();
+                    partitionEvent.offset = record.offset();
+
+                    return partitionEvent;
+                }
             );
+            recordProcessedEvent.lastOffset = record.offset();
+            recordProcessedEvent.records++;
+        }
+
+        return recordProcessedEvents;
+    }
 
-            ProducerRecord<String, Object> producerRecord
-                = new ProducerRecord<>("inventory-rejected", inventoryRejectedEvent);
-            producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+    private void commitStockUpdate(
+        StockUpdateEvent stockUpdateEvent,
+        String operation,
+        String productId,
+        Integer quantity,
+        boolean applied
+    ) {
+        stockUpdateEvent.end();
 
-            kafkaTemplate.send(producerRecord);
+        if (stockUpdateEvent.shouldCommit()) {
+            stockUpdateEvent.operation = operation;
+            stockUpdateEvent.productId = productId;
+            stockUpdateEvent.quantity = quantity;
+            stockUpdateEvent.applied = applied;
+            stockUpdateEvent.commit();
         }
     }
+
+    private IdempotencyStore idempotencyStore(IdempotencyStoreType type) {
+        return idempotencyStores.stream()
+            .filter(idempotencyStore -> idempotencyStore.getType() == type)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No idempotency store of type " + type));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class InventorySnapshotService implements ApplicationRunner {
+    private static final String HIGH_WATERMARK_META_PREFIX = "inventory.high-watermark.";
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStockCache inventoryStockCache;
+    private final ShardRouter shardRouter;
+    private final Timer loadTimer;
+    private final Timer writeTimer;
+    private final AtomicLong snapshotSize = new AtomicLong();
+    private final AtomicLong snapshotEntries = new AtomicLong();
+    @Value("${inventory.snapshot.path}")
+    private Path snapshotPath;
+    @Value("${inventory.snapshot.writer-enabled}")
+    private Boolean writerEnabled;
+    @Value("${inventory.snapshot.page-size}")
+    private Integer pageSize;
+
+    public InventorySnapshotService(
+        InventoryRepository inventoryRepository,
+        InventoryStockCache inventoryStockCache,
+        ShardRouter shardRouter,
+        MeterRegistry meterRegistry
+    ) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryStockCache = inventoryStockCache;
+        this.shardRouter = shardRouter;
+        this.loadTimer = Timer.builder("inventory.snapshot.load")
+            .description("Time to load the inventory snapshot into the stock cache")
+            .register(meterRegistry);
+        this.writeTimer = Timer.builder("inventory.snapshot.write")
+            .description("Time to write the inventory snapshot")
+            .register(meterRegistry);
+        Gauge.builder("inventory.snapshot.size", snapshotSize, AtomicLong::get)
+            .description("Size of the last loaded or written inventory snapshot")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("inventory.snapshot.entries", snapshotEntries, AtomicLong::get)
+            .description("Entries in the last loaded or written inventory snapshot")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            loadSnapshot();
+        } catch (IOException | AvroRuntimeException exception) {
+            log.error("Inventory snapshot {} is unreadable, discarding it and starting with a cold cache",
+                snapshotPath,
+                exception
+            );
+            inventoryStockCache.clear();
+            discardSnapshot();
+        }
+
+        inventoryStockCache.catchUp();
+    }
+
+    public void loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            log.info("No inventory snapshot at {}, starting with a cold cache", snapshotPath);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long entries = 0;
+
+        try (DataFileReader<InventorySnapshotEntry> reader = new DataFileReader<>(
+            snapshotPath.toFile(),
+            new SpecificDatumReader<>(InventorySnapshotEntry.class)
+        )) {
+            InventorySnapshotEntry entry = null;
+
+            while (reader.hasNext()) {
+                entry = reader.next(entry);
+                inventoryStockCache.put(
+                    entry.getProductId().toString(),
+                    entry.getQuantity(),
+                    entry.getVersion()
+                );
+                entries++;
+            }
+
+            if (reader.previousSync() != Files.size(snapshotPath)) {
+                throw new IOException("Inventory snapshot is truncated after byte " + reader.previousSync());
+            }
+
+            for (String shard : shardRouter.getShardNames()) {
+                if (reader.getMeta(HIGH_WATERMARK_META_PREFIX + shard) != null) {
+                    inventoryStockCache.setHighWatermark(
+                        shard,
+                        Instant.EPOCH.plus(reader.getMetaLong(HIGH_WATERMARK_META_PREFIX + shard), ChronoUnit.MICROS)
+                    );
+                }
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        loadTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        snapshotSize.set(Files.size(snapshotPath));
+        snapshotEntries.set(entries);
+
+        log.info("Loaded {} inventories from snapshot {} ({} bytes) in {} ms",
+            entries,
+            snapshotPath,
+            snapshotSize.get(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+        );
+    }
+
+    private void discardSnapshot() {
+        try {
+            Files.deleteIfExists(snapshotPath);
+        } catch (IOException exception) {
+            log.warn("Could not delete unreadable inventory snapshot {}: {}", snapshotPath, exception.getMessage());
+        }
+
+        snapshotSize.set(0);
+        snapshotEntries.set(0);
+    }
+
+    @Scheduled(
+        initialDelayString = "${inventory.snapshot.interval-ms}",
+        fixedDelayString = "${inventory.snapshot.interval-ms}"
+    )
+    @Transactional(readOnly = true)
+    public void writeSnapshot() throws IOException {
+        if (!writerEnabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<String> shards = shardRouter.getShardNames();
+        List<Instant> highWatermarks = shardRouter.onAllShards(shard -> inventoryRepository.findLastUpdatedAt());
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        long entries = 0;
+
+        Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+
+        try (DataFileWriter<InventorySnapshotEntry> writer = new DataFileWriter<>(
+            new SpecificDatumWriter<>(InventorySnapshotEntry.class)
+        )) {
+            writer.setCodec(CodecFactory.deflateCodec(1));
+
+            for (int shard = 0; shard < shards.size(); shard++) {
+                writer.setMeta(
+                    HIGH_WATERMARK_META_PREFIX + shards.get(shard),
+                    InventoryStockCache.toVersion(highWatermarks.get(shard))
+                );
+            }
+
+            writer.create(InventorySnapshotEntry.getClassSchema(), temporaryPath.toFile());
+
+            InventorySnapshotEntry entry = new InventorySnapshotEntry();
+
+            for (String shard : shards) {
+                long afterId = 0;
+                List<Inventory> page;
+
+                do {
+                    long lastId = afterId;
+                    page = shardRouter.onShard(shard, () -> inventoryRepository.findAllAfterId(lastId, pageSize));
+
+                    for (Inventory inventory : page) {
+                        entry.setProductId(inventory.getProductId());
+                        entry.setQuantity(inventory.getQuantity());
+                        entry.setVersion(InventoryStockCache.toVersion(inventory.getUpdatedAt()));
+                        writer.append(entry);
+                        afterId = inventory.getId();
+                        entries++;
+                    }
+                } while (page.size() == pageSize);
+            }
+        }
+
+        Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        writeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        snapshotSize.set(Files.size(snapshotPath));
+        snapshotEntries.set(entries);
+    }
+}
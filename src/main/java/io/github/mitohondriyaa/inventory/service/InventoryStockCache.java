@@ -0,0 +1,152 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+@Service
+@RequiredArgsConstructor
+public class InventoryStockCache {
+    private final InventoryRepository inventoryRepository;
+    private final ProductKeyDictionary productKeyDictionary;
+    private final ShardRouter shardRouter;
+    private final Map<String, CachedStock> stocks = new ConcurrentHashMap<>();
+    private final Map<String, Instant> highWatermarks = new ConcurrentHashMap<>();
+    @Value("${inventory.cache.enabled}")
+    private Boolean enabled;
+    @Value("${inventory.cache.catch-up-overlap-ms}")
+    private Long catchUpOverlapMs;
+    @Value("${inventory.cache.catch-up-batch-size}")
+    private Integer catchUpBatchSize;
+
+    public boolean isInStock(String productId, Integer quantity) {
+        if (!enabled) {
+            return shardRouter.findOnShardOf(productId, () -> productKeyDictionary.testByKey(
+                productId,
+                key -> inventoryRepository.existsByIdAndProductIdAndQuantityIsGreaterThanEqual(key, productId, quantity)
+            )).orElse(false);
+        }
+
+        CachedStock cachedStock = stocks.get(productId);
+
+        if (cachedStock == null) {
+            Optional<Inventory> inventory = shardRouter.findOnShardOf(
+                productId,
+                () -> inventoryRepository.findByProductId(productId)
+            );
+
+            if (inventory.isEmpty()) {
+                return false;
+            }
+
+            cachedStock = put(
+                productId,
+                inventory.get().getQuantity(),
+                toVersion(inventory.get().getUpdatedAt())
+            );
+        }
+
+        return cachedStock.quantity() >= quantity;
+    }
+
+    public Optional<CachedStock> peek(String productId) {
+        return enabled ? Optional.ofNullable(stocks.get(productId)) : Optional.empty();
+    }
+
+    public CachedStock put(String productId, int quantity, long version) {
+        return stocks.merge(
+            productId,
+            new CachedStock(quantity, version),
+            (existing, candidate) -> candidate.version() >= existing.version() ? candidate : existing
+        );
+    }
+
+    public void evict(String productId) {
+        stocks.remove(productId);
+    }
+
+    public void evictAll(Collection<String> productIds) {
+        productIds.forEach(stocks::remove);
+    }
+
+    public void clear() {
+        stocks.clear();
+        highWatermarks.clear();
+    }
+
+    public void forEach(BiConsumer<String, CachedStock> consumer) {
+        stocks.forEach(consumer);
+    }
+
+    public int size() {
+        return stocks.size();
+    }
+
+    public Instant getHighWatermark(String shard) {
+        return highWatermarks.getOrDefault(shard, Instant.EPOCH);
+    }
+
+    public void setHighWatermark(String shard, Instant highWatermark) {
+        highWatermarks.put(shard, highWatermark);
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.cache.refresh-interval-ms}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        if (!enabled) {
+            return;
+        }
+
+        shardRouter.runOnAllShards(this::catchUpShard);
+    }
+
+    private void catchUpShard(String shard) {
+        Instant highWatermark = getHighWatermark(shard);
+        Instant updatedAfter = highWatermark.minus(Duration.ofMillis(catchUpOverlapMs));
+        long afterId = 0;
+        List<Inventory> changes;
+
+        do {
+            changes = inventoryRepository.findAllChangedAfter(updatedAfter, afterId, catchUpBatchSize);
+
+            for (Inventory inventory : changes) {
+                if (inventory.getDeletedAt() != null) {
+                    stocks.remove(inventory.getProductId());
+                    productKeyDictionary.evict(inventory.getProductId());
+                } else {
+                    put(inventory.getProductId(), inventory.getQuantity(), toVersion(inventory.getUpdatedAt()));
+                    productKeyDictionary.refresh(inventory.getProductId(), inventory.getId());
+                }
+
+                updatedAfter = inventory.getUpdatedAt();
+                afterId = inventory.getId();
+            }
+
+            if (updatedAfter.isAfter(highWatermark)) {
+                highWatermark = updatedAfter;
+                setHighWatermark(shard, highWatermark);
+            }
+        } while (changes.size() == catchUpBatchSize);
+    }
+
+    public static long toVersion(Instant updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+    }
+
+    public record CachedStock(int quantity, long version) {}
+}
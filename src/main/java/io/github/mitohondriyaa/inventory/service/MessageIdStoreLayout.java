@@ -0,0 +1,6 @@
+package io.github.mitohondriyaa.inventory.service;
+
+public enum MessageIdStoreLayout {
+    KEYS,
+    BUCKETS
+}
@@ -0,0 +1,96 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+@Service
+@RequiredArgsConstructor
+public class ProductKeyDictionary {
+    private final InventoryRepository inventoryRepository;
+    private final Map<String, ProductKey> keys = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProductKey> eldest) {
+            return size() > maxEntries;
+        }
+    });
+    @Value("${inventory.product-key.max-entries}")
+    private Integer maxEntries;
+    // The stock cache catch-up refreshes or evicts the keys of changed rows, so a rejected
+    // operation only has to rule out a stale key when the catch-up is not running.
+    @Value("${inventory.cache.enabled}")
+    private Boolean keysTrackedByCatchUp;
+
+    public Optional<Long> resolve(String productId) {
+        ProductKey key = keys.get(productId);
+
+        if (key != null && Objects.equals(key.shard(), ShardContext.getShard())) {
+            return Optional.of(key.id());
+        }
+
+        Optional<Long> loadedKey = inventoryRepository.findIdByProductId(productId);
+        loadedKey.ifPresent(id -> register(productId, id));
+
+        return loadedKey;
+    }
+
+    public Optional<Boolean> testByKey(String productId, LongPredicate operation) {
+        Optional<Long> key = resolve(productId);
+
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (operation.test(key.get())) {
+            return Optional.of(true);
+        }
+
+        if (keysTrackedByCatchUp || inventoryRepository.existsByIdAndProductId(key.get(), productId)) {
+            return Optional.of(false);
+        }
+
+        keys.remove(productId, new ProductKey(ShardContext.getShard(), key.get()));
+
+        return resolve(productId).map(operation::test);
+    }
+
+    public void register(String productId, Long key) {
+        keys.put(productId, new ProductKey(ShardContext.getShard(), key));
+    }
+
+    public void registerAll(Map<String, Long> productKeys) {
+        productKeys.forEach(this::register);
+    }
+
+    public void refresh(String productId, Long key) {
+        keys.computeIfPresent(productId, (cachedProductId, cachedKey) -> new ProductKey(ShardContext.getShard(), key));
+    }
+
+    public void evict(String productId) {
+        keys.remove(productId);
+    }
+
+    public void evictAll(Collection<String> productIds) {
+        productIds.forEach(keys::remove);
+    }
+
+    public void clear() {
+        keys.clear();
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private record ProductKey(String shard, Long id) {}
+}
@@ -0,0 +1,48 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class RecentMessageIdCache {
+    private final Map<String, Long> seenAt = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    @Value("${message-id.recent.max-entries}")
+    private Integer maxEntries;
+    @Value("${message-id.recent.ttl-seconds}")
+    private Long ttlSeconds;
+
+    public synchronized boolean contains(String messageId) {
+        Long seenAtMs = seenAt.get(messageId);
+
+        if (seenAtMs == null) {
+            return false;
+        }
+
+        if (System.currentTimeMillis() - seenAtMs > ttlSeconds * 1000) {
+            seenAt.remove(messageId);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    public synchronized void addAll(Collection<String> messageIds) {
+        long now = System.currentTimeMillis();
+
+        messageIds.forEach(messageId -> seenAt.put(messageId, now));
+    }
+
+    public synchronized void clear() {
+        seenAt.clear();
+    }
+}
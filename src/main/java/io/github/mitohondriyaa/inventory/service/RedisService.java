@@ -2,19 +2,166 @@ package io.github.mitohondriyaa.inventory.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
+    private static final byte[] EMPTY_VALUE = new byte[0];
+    private static final String BUCKET_KEY_PREFIX = "message-ids:";
+    private static final RedisScript<String> CLAIM_MESSAGE_IDS_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/claim-message-ids.lua"),
+        String.class
+    );
+
     private final StringRedisTemplate stringRedisTemplate;
+    private final InventoryMetrics inventoryMetrics;
     @Value("${message-id.ttl.minutes}")
     private Integer messageIdTtlMinutes;
+    @Value("${message-id.store.layout}")
+    private MessageIdStoreLayout layout;
+    @Value("${message-id.bucket.minutes}")
+    private Integer bucketMinutes;
+
+    public Set<String> setValues(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        long startedAt = System.nanoTime();
+
+        try {
+            return layout == MessageIdStoreLayout.BUCKETS
+                ? claimInBuckets(keys)
+                : claimAsKeys(keys);
+        } finally {
+            inventoryMetrics.getRedisClaimTimer(layout).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void removeValues(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (layout == MessageIdStoreLayout.BUCKETS) {
+            byte[][] members = keys.stream()
+                .map(RedisService::pack)
+                .toArray(byte[][]::new);
+
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String bucketKey : bucketKeys()) {
+                    connection.setCommands().sRem(bucketKey.getBytes(StandardCharsets.UTF_8), members);
+                }
+
+                return null;
+            });
+        } else {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    private Set<String> claimAsKeys(Collection<String> keys) {
+        Expiration expiration = Expiration.from(Duration.ofMinutes(messageIdTtlMinutes));
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    EMPTY_VALUE,
+                    expiration,
+                    RedisStringCommands.SetOption.SET_IF_ABSENT
+                );
+            }
+
+            return null;
+        });
+        Set<String> setKeys = new HashSet<>();
+        Iterator<String> keyIterator = keys.iterator();
+
+        for (Object result : results) {
+            String key = keyIterator.next();
+
+            if (Boolean.TRUE.equals(result)) {
+                setKeys.add(key);
+            }
+        }
+
+        return setKeys;
+    }
+
+    private Set<String> claimInBuckets(Collection<String> keys) {
+        long bucketSeconds = bucketMinutes * 60L;
+        Object[] args = new Object[keys.size() + 1];
+        args[0] = Long.toString(messageIdTtlMinutes * 60L + bucketSeconds).getBytes(StandardCharsets.US_ASCII);
+        int index = 1;
+
+        for (String key : keys) {
+            args[index++] = pack(key);
+        }
+
+        String claimed = stringRedisTemplate.execute(
+            CLAIM_MESSAGE_IDS_SCRIPT,
+            RedisSerializer.byteArray(),
+            RedisSerializer.string(),
+            bucketKeys(),
+            args
+        );
+        Set<String> setKeys = new HashSet<>();
+        Iterator<String> keyIterator = keys.iterator();
+
+        for (int i = 0; i < claimed.length(); i++) {
+            String key = keyIterator.next();
+
+            if (claimed.charAt(i) == '1') {
+                setKeys.add(key);
+            }
+        }
+
+        return setKeys;
+    }
+
+    private List<String> bucketKeys() {
+        long currentBucket = Instant.now().getEpochSecond() / (bucketMinutes * 60L);
+        long bucketCount = (messageIdTtlMinutes + bucketMinutes - 1) / bucketMinutes + 1;
+        List<String> bucketKeys = new ArrayList<>();
+
+        for (long bucket = currentBucket; bucket > currentBucket - bucketCount; bucket--) {
+            bucketKeys.add(BUCKET_KEY_PREFIX + bucket);
+        }
+
+        return bucketKeys;
+    }
+
+    static byte[] pack(String messageId) {
+        try {
+            UUID uuid = UUID.fromString(messageId);
 
-    public Boolean setValue(String key) {
-        return stringRedisTemplate.opsForValue().setIfAbsent(key, "", Duration.ofMinutes(messageIdTtlMinutes));
+            return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        } catch (IllegalArgumentException exception) {
+            return messageId.getBytes(StandardCharsets.UTF_8);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.dto.ReshardResponse;
+import io.github.mitohondriyaa.inventory.exception.ShardingNotEnabledException;
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReshardingService {
+    private final InventoryRepository inventoryRepository;
+    private final InventoryStockCache inventoryStockCache;
+    private final ProductKeyDictionary productKeyDictionary;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    @Value("${inventory.sharding.reshard-batch-size}")
+    private Integer batchSize;
+
+    public synchronized ReshardResponse reshard() {
+        if (!shardRouter.isSharded()) {
+            throw new ShardingNotEnabledException("Sharding is not enabled");
+        }
+
+        long scanned = 0;
+        long moved = 0;
+        long changed = 0;
+
+        for (String sourceShard : shardRouter.getShardNames()) {
+            long afterId = 0;
+            List<Inventory> page;
+
+            do {
+                long lastId = afterId;
+                page = shardRouter.onShard(
+                    sourceShard,
+                    () -> inventoryRepository.findAllIncludingDeletedAfterId(lastId, batchSize)
+                );
+                Map<String, List<Long>> misplaced = new LinkedHashMap<>();
+
+                for (Inventory inventory : page) {
+                    String targetShard = shardRouter.shardFor(inventory.getProductId());
+
+                    if (!targetShard.equals(sourceShard)) {
+                        misplaced.computeIfAbsent(targetShard, shard -> new ArrayList<>()).add(inventory.getId());
+                    }
+
+                    afterId = inventory.getId();
+                }
+
+                for (Map.Entry<String, List<Long>> target : misplaced.entrySet()) {
+                    int[] result = shardRouter.onShard(
+                        sourceShard,
+                        () -> transactionTemplate.execute(status -> move(target.getKey(), target.getValue()))
+                    );
+
+                    moved += result[0];
+                    changed += result[1];
+                }
+
+                scanned += page.size();
+            } while (page.size() == batchSize);
+        }
+
+        log.info("Resharding scanned {} rows, moved {}, {} changed during the move and need another run",
+            scanned,
+            moved,
+            changed
+        );
+
+        return new ReshardResponse(scanned, moved, changed);
+    }
+
+    private int[] move(String targetShard, List<Long> ids) {
+        List<Inventory> inventories = inventoryRepository.findAllByIdInForUpdate(ids);
+
+        if (inventories.isEmpty()) {
+            return new int[] {0, 0};
+        }
+
+        shardRouter.onShard(targetShard, () -> {
+            inventoryRepository.copyIfNewer(inventories);
+            return null;
+        });
+        int deleted = inventoryRepository.deleteIfUnchanged(inventories);
+        inventories.forEach(inventory -> {
+            inventoryStockCache.evict(inventory.getProductId());
+            productKeyDictionary.evict(inventory.getProductId());
+        });
+
+        return new int[] {deleted, inventories.size() - deleted};
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+public final class ShardContext {
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String getShard() {
+        return SHARD.get();
+    }
+
+    public static void setShard(String shard) {
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ShardRouter implements AutoCloseable {
+    public static final String DEFAULT_SHARD = "default";
+    private final ConsistentHashRing ring;
+    private final ConsistentHashRing previousRing;
+    private final List<String> shardNames;
+    private final ExecutorService executor;
+
+    private ShardRouter(
+        ConsistentHashRing ring,
+        ConsistentHashRing previousRing,
+        List<String> shardNames,
+        ExecutorService executor
+    ) {
+        this.ring = ring;
+        this.previousRing = previousRing;
+        this.shardNames = shardNames;
+        this.executor = executor;
+    }
+
+    public static ShardRouter single() {
+        return new ShardRouter(null, null, List.of(DEFAULT_SHARD), null);
+    }
+
+    public static ShardRouter sharded(List<String> shardNames, int virtualNodes) {
+        return sharded(shardNames, List.of(), virtualNodes);
+    }
+
+    public static ShardRouter sharded(List<String> shardNames, List<String> previousShardNames, int virtualNodes) {
+        if (!shardNames.containsAll(previousShardNames)) {
+            throw new IllegalArgumentException(
+                "Previous shards " + previousShardNames + " must all be configured shards " + shardNames
+            );
+        }
+
+        boolean resharding = !previousShardNames.isEmpty()
+            && !Set.copyOf(previousShardNames).equals(Set.copyOf(shardNames));
+
+        return new ShardRouter(
+            new ConsistentHashRing(shardNames, virtualNodes),
+            resharding ? new ConsistentHashRing(previousShardNames, virtualNodes) : null,
+            List.copyOf(shardNames),
+            Executors.newVirtualThreadPerTaskExecutor()
+        );
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    public boolean isResharding() {
+        return previousRing != null;
+    }
+
+    public List<String> getShardNames() {
+        return shardNames;
+    }
+
+    public String shardFor(String productId) {
+        return ring != null ? ring.nodeFor(productId) : DEFAULT_SHARD;
+    }
+
+    public Optional<String> previousShardFor(String productId) {
+        if (previousRing == null) {
+            return Optional.empty();
+        }
+
+        String previousShard = previousRing.nodeFor(productId);
+
+        return previousShard.equals(shardFor(productId)) ? Optional.empty() : Optional.of(previousShard);
+    }
+
+    public <T> T onShardOf(String productId, Supplier<T> action) {
+        return isSharded() ? inShard(shardFor(productId), action) : action.get();
+    }
+
+    public <T> Optional<T> findOnShardOf(String productId, Supplier<Optional<T>> action) {
+        Optional<T> result = onShardOf(productId, action);
+        Optional<String> previousShard = previousShardFor(productId);
+
+        if (result.isPresent() || previousShard.isEmpty()) {
+            return result;
+        }
+
+        result = onShard(previousShard.get(), action);
+
+        return result.isPresent() ? result : onShardOf(productId, action);
+    }
+
+    public void runOnShardOf(String productId, Runnable action) {
+        onShardOf(productId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T onShard(String shard, Supplier<T> action) {
+        if (!isSharded()) {
+            return action.get();
+        }
+
+        return join(executor.submit(() -> inShard(shard, action)));
+    }
+
+    public <T> List<T> onAllShards(Function<String, T> action) {
+        if (!isSharded()) {
+            return Collections.singletonList(action.apply(DEFAULT_SHARD));
+        }
+
+        List<Future<T>> futures = shardNames.stream()
+            .map(shard -> executor.submit(() -> inShard(shard, () -> action.apply(shard))))
+            .toList();
+
+        return futures.stream()
+            .map(ShardRouter::join)
+            .toList();
+    }
+
+    public void runOnAllShards(Consumer<String> action) {
+        onAllShards(shard -> {
+            action.accept(shard);
+            return null;
+        });
+    }
+
+    public <K> void forEachShardPartition(
+        Collection<K> items,
+        Function<K, String> productIdOf,
+        BiConsumer<String, List<K>> action
+    ) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        if (!isSharded()) {
+            action.accept(DEFAULT_SHARD, new ArrayList<>(items));
+            return;
+        }
+
+        Map<String, List<K>> partitions = new LinkedHashMap<>();
+
+        for (K item : items) {
+            partitions.computeIfAbsent(shardFor(productIdOf.apply(item)), shard -> new ArrayList<>())
+                .add(item);
+        }
+
+        List<Future<Object>> futures = partitions.entrySet().stream()
+            .map(partition -> executor.submit(() -> inShard(partition.getKey(), () -> {
+                action.accept(partition.getKey(), partition.getValue());
+                return null;
+            })))
+            .toList();
+
+        futures.forEach(ShardRouter::join);
+    }
+
+    public <K> void forEachPreviousShardPartition(
+        Collection<K> items,
+        Function<K, String> productIdOf,
+        BiConsumer<String, List<K>> action
+    ) {
+        if (previousRing == null) {
+            return;
+        }
+
+        Map<String, List<K>> partitions = new LinkedHashMap<>();
+
+        for (K item : items) {
+            previousShardFor(productIdOf.apply(item)).ifPresent(previousShard -> partitions
+                .computeIfAbsent(previousShard, shard -> new ArrayList<>())
+                .add(item));
+        }
+
+        partitions.forEach((shard, shardItems) -> onShard(shard, () -> {
+            action.accept(shard, shardItems);
+            return null;
+        }));
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    private static <T> T inShard(String shard, Supplier<T> action) {
+        String previousShard = ShardContext.getShard();
+        ShardContext.setShard(shard);
+
+        try {
+            return action.get();
+        } finally {
+            ShardContext.setShard(previousShard);
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shard", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+}
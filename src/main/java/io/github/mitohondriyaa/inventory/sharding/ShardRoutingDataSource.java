@@ -0,0 +1,21 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.getShard();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
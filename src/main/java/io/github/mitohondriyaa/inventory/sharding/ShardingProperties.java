@@ -0,0 +1,20 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties("inventory.sharding")
+public record ShardingProperties(
+    boolean enabled,
+    int virtualNodes,
+    List<Shard> shards,
+    List<String> previousShards
+) {
+    public ShardingProperties {
+        shards = shards != null ? shards : List.of();
+        previousShards = previousShards != null ? previousShards : List.of();
+    }
+
+    public record Shard(String name, String url, String username, String password) {}
+}
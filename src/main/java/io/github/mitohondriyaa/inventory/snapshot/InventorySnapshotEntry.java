@@ -0,0 +1,476 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package io.github.mitohondriyaa.inventory.snapshot;
+
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class InventorySnapshotEntry extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 7457043928423493661L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"InventorySnapshotEntry\",\"namespace\":\"io.github.mitohondriyaa.inventory.snapshot\",\"fields\":[{\"name\":\"productId\",\"type\":\"string\"},{\"name\":\"quantity\",\"type\":\"int\"},{\"name\":\"version\",\"type\":\"long\"}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<InventorySnapshotEntry> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<InventorySnapshotEntry> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<InventorySnapshotEntry> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<InventorySnapshotEntry> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<InventorySnapshotEntry> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this InventorySnapshotEntry to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a InventorySnapshotEntry from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a InventorySnapshotEntry instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static InventorySnapshotEntry fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private java.lang.CharSequence productId;
+  private int quantity;
+  private long version;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public InventorySnapshotEntry() {}
+
+  /**
+   * All-args constructor.
+   * @param productId The new value for productId
+   * @param quantity The new value for quantity
+   * @param version The new value for version
+   */
+  public InventorySnapshotEntry(java.lang.CharSequence productId, java.lang.Integer quantity, java.lang.Long version) {
+    this.productId = productId;
+    this.quantity = quantity;
+    this.version = version;
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return productId;
+    case 1: return quantity;
+    case 2: return version;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: productId = (java.lang.CharSequence)value$; break;
+    case 1: quantity = (java.lang.Integer)value$; break;
+    case 2: version = (java.lang.Long)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'productId' field.
+   * @return The value of the 'productId' field.
+   */
+  public java.lang.CharSequence getProductId() {
+    return productId;
+  }
+
+
+  /**
+   * Sets the value of the 'productId' field.
+   * @param value the value to set.
+   */
+  public void setProductId(java.lang.CharSequence value) {
+    this.productId = value;
+  }
+
+  /**
+   * Gets the value of the 'quantity' field.
+   * @return The value of the 'quantity' field.
+   */
+  public int getQuantity() {
+    return quantity;
+  }
+
+
+  /**
+   * Sets the value of the 'quantity' field.
+   * @param value the value to set.
+   */
+  public void setQuantity(int value) {
+    this.quantity = value;
+  }
+
+  /**
+   * Gets the value of the 'version' field.
+   * @return The value of the 'version' field.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+
+  /**
+   * Sets the value of the 'version' field.
+   * @param value the value to set.
+   */
+  public void setVersion(long value) {
+    this.version = value;
+  }
+
+  /**
+   * Creates a new InventorySnapshotEntry RecordBuilder.
+   * @return A new InventorySnapshotEntry RecordBuilder
+   */
+  public static io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder newBuilder() {
+    return new io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder();
+  }
+
+  /**
+   * Creates a new InventorySnapshotEntry RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new InventorySnapshotEntry RecordBuilder
+   */
+  public static io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder newBuilder(io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder other) {
+    if (other == null) {
+      return new io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder();
+    } else {
+      return new io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new InventorySnapshotEntry RecordBuilder by copying an existing InventorySnapshotEntry instance.
+   * @param other The existing instance to copy.
+   * @return A new InventorySnapshotEntry RecordBuilder
+   */
+  public static io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder newBuilder(io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry other) {
+    if (other == null) {
+      return new io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder();
+    } else {
+      return new io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for InventorySnapshotEntry instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<InventorySnapshotEntry>
+    implements org.apache.avro.data.RecordBuilder<InventorySnapshotEntry> {
+
+    private java.lang.CharSequence productId;
+    private int quantity;
+    private long version;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.productId)) {
+        this.productId = data().deepCopy(fields()[0].schema(), other.productId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.version)) {
+        this.version = data().deepCopy(fields()[2].schema(), other.version);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing InventorySnapshotEntry instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.productId)) {
+        this.productId = data().deepCopy(fields()[0].schema(), other.productId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.version)) {
+        this.version = data().deepCopy(fields()[2].schema(), other.version);
+        fieldSetFlags()[2] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'productId' field.
+      * @return The value.
+      */
+    public java.lang.CharSequence getProductId() {
+      return productId;
+    }
+
+
+    /**
+      * Sets the value of the 'productId' field.
+      * @param value The value of 'productId'.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder setProductId(java.lang.CharSequence value) {
+      validate(fields()[0], value);
+      this.productId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productId' field has been set.
+      * @return True if the 'productId' field has been set, false otherwise.
+      */
+    public boolean hasProductId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'productId' field.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder clearProductId() {
+      productId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'quantity' field.
+      * @return The value.
+      */
+    public int getQuantity() {
+      return quantity;
+    }
+
+
+    /**
+      * Sets the value of the 'quantity' field.
+      * @param value The value of 'quantity'.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder setQuantity(int value) {
+      validate(fields()[1], value);
+      this.quantity = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'quantity' field has been set.
+      * @return True if the 'quantity' field has been set, false otherwise.
+      */
+    public boolean hasQuantity() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'quantity' field.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder clearQuantity() {
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'version' field.
+      * @return The value.
+      */
+    public long getVersion() {
+      return version;
+    }
+
+
+    /**
+      * Sets the value of the 'version' field.
+      * @param value The value of 'version'.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder setVersion(long value) {
+      validate(fields()[2], value);
+      this.version = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'version' field has been set.
+      * @return True if the 'version' field has been set, false otherwise.
+      */
+    public boolean hasVersion() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'version' field.
+      * @return This builder.
+      */
+    public io.github.mitohondriyaa.inventory.snapshot.InventorySnapshotEntry.Builder clearVersion() {
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public InventorySnapshotEntry build() {
+      try {
+        InventorySnapshotEntry record = new InventorySnapshotEntry();
+        record.productId = fieldSetFlags()[0] ? this.productId : (java.lang.CharSequence) defaultValue(fields()[0]);
+        record.quantity = fieldSetFlags()[1] ? this.quantity : (java.lang.Integer) defaultValue(fields()[1]);
+        record.version = fieldSetFlags()[2] ? this.version : (java.lang.Long) defaultValue(fields()[2]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<InventorySnapshotEntry>
+    WRITER$ = (org.apache.avro.io.DatumWriter<InventorySnapshotEntry>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<InventorySnapshotEntry>
+    READER$ = (org.apache.avro.io.DatumReader<InventorySnapshotEntry>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+  @Override protected boolean hasCustomCoders() { return true; }
+
+  @Override public void customEncode(org.apache.avro.io.Encoder out)
+    throws java.io.IOException
+  {
+    out.writeString(this.productId);
+
+    out.writeInt(this.quantity);
+
+    out.writeLong(this.version);
+
+  }
+
+  @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
+    throws java.io.IOException
+  {
+    org.apache.avro.Schema.Field[] fieldOrder = in.readFieldOrderIfDiff();
+    if (fieldOrder == null) {
+      this.productId = in.readString(this.productId instanceof Utf8 ? (Utf8)this.productId : null);
+
+      this.quantity = in.readInt();
+
+      this.version = in.readLong();
+
+    } else {
+      for (int i = 0; i < 3; i++) {
+        switch (fieldOrder[i].pos()) {
+        case 0:
+          this.productId = in.readString(this.productId instanceof Utf8 ? (Utf8)this.productId : null);
+          break;
+
+        case 1:
+          this.quantity = in.readInt();
+          break;
+
+        case 2:
+          this.version = in.readLong();
+          break;
+
+        default:
+          throw new java.io.IOException("Corrupt ResolvingDecoder.");
+        }
+      }
+    }
+  }
+}
+
+
+
+
+
+
+
+
+
+
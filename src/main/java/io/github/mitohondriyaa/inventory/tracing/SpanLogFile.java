@@ -0,0 +1,67 @@
+package io.github.mitohondriyaa.inventory.tracing;
+
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+public class SpanLogFile implements SmartLifecycle {
+    private final Path filePath;
+    private final Logger exporterLogger;
+    private FileHandler fileHandler;
+
+    public SpanLogFile(Path filePath, Logger exporterLogger) {
+        this.filePath = filePath;
+        this.exporterLogger = exporterLogger;
+        exporterLogger.setUseParentHandlers(false);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (fileHandler != null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(filePath.toAbsolutePath().getParent());
+            fileHandler = new FileHandler(filePath.toString(), true);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        fileHandler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        exporterLogger.addHandler(fileHandler);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (fileHandler == null) {
+            return;
+        }
+
+        exporterLogger.removeHandler(fileHandler);
+        fileHandler.close();
+        fileHandler = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return fileHandler != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+}
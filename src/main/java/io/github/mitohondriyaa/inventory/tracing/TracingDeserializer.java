@@ -0,0 +1,63 @@
+package io.github.mitohondriyaa.inventory.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class TracingDeserializer implements Deserializer<Object> {
+    public static final String DECODE_SPAN_NAME = "avro decode";
+    private static final Propagator.Getter<Headers> HEADERS_GETTER = (headers, key) -> {
+        Header header = headers.lastHeader(key);
+
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    };
+
+    private final Deserializer<Object> delegate;
+    private final Propagator propagator;
+    private final Tracer tracer;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        delegate.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Span span;
+
+        try (Tracer.SpanInScope ignored = tracer.withSpan(null)) {
+            span = propagator.extract(headers, HEADERS_GETTER)
+                .name(DECODE_SPAN_NAME)
+                .kind(Span.Kind.CONSUMER)
+                .tag("messaging.destination.name", topic)
+                .start();
+        }
+
+        try {
+            return delegate.deserialize(topic, headers, data);
+        } catch (RuntimeException exception) {
+            span.error(exception);
+            throw exception;
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
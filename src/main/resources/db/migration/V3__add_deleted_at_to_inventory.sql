@@ -0,0 +1,3 @@
+ALTER TABLE t_inventory ADD COLUMN deleted_at TIMESTAMP(6) NULL;
+
+CREATE INDEX idx_inventory_deleted_at ON t_inventory(deleted_at);
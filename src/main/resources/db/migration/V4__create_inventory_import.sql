@@ -0,0 +1,8 @@
+CREATE TABLE t_inventory_import (
+    job_id VARCHAR(64) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    committed_offset BIGINT NOT NULL,
+    imported_rows BIGINT NOT NULL,
+    rejected_lines BIGINT NOT NULL,
+    PRIMARY KEY (job_id)
+);
@@ -0,0 +1,4 @@
+ALTER TABLE t_inventory
+    ADD COLUMN updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_inventory_updated_at ON t_inventory(updated_at, id);
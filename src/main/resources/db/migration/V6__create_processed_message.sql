@@ -0,0 +1,8 @@
+CREATE TABLE t_processed_message (
+    message_id VARCHAR(64) NOT NULL,
+    processed_on DATE NOT NULL,
+    PRIMARY KEY (message_id, processed_on)
+)
+PARTITION BY RANGE (TO_DAYS(processed_on)) (
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
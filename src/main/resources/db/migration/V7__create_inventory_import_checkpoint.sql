@@ -0,0 +1,5 @@
+CREATE TABLE t_inventory_import_checkpoint (
+    job_id VARCHAR(64) NOT NULL,
+    committed_offset BIGINT NOT NULL,
+    PRIMARY KEY (job_id)
+);
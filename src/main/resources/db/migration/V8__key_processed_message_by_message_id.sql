@@ -0,0 +1,15 @@
+CREATE TABLE t_processed_message_by_id (
+    message_id VARCHAR(64) NOT NULL,
+    processed_on DATE NOT NULL,
+    PRIMARY KEY (message_id),
+    INDEX idx_processed_message_processed_on (processed_on)
+);
+
+INSERT INTO t_processed_message_by_id (message_id, processed_on)
+SELECT message_id, MAX(processed_on)
+FROM t_processed_message
+GROUP BY message_id;
+
+DROP TABLE t_processed_message;
+
+RENAME TABLE t_processed_message_by_id TO t_processed_message;
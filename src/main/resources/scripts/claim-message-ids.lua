@@ -0,0 +1,26 @@
+local ttl = tonumber(ARGV[1])
+local claimed = {}
+
+for i = 2, #ARGV do
+    local seen = false
+
+    for j = 1, #KEYS do
+        if redis.call('SISMEMBER', KEYS[j], ARGV[i]) == 1 then
+            seen = true
+            break
+        end
+    end
+
+    if seen then
+        claimed[i - 1] = '0'
+    else
+        redis.call('SADD', KEYS[1], ARGV[i])
+        claimed[i - 1] = '1'
+    end
+end
+
+if redis.call('TTL', KEYS[1]) < 0 then
+    redis.call('EXPIRE', KEYS[1], ttl)
+end
+
+return table.concat(claimed)
@@ -0,0 +1,89 @@
+package io.github.mitohondriyaa.inventory;
+
+import com.redis.testcontainers.RedisContainer;
+import io.github.mitohondriyaa.inventory.config.TestRedisConfig;
+import io.github.mitohondriyaa.inventory.config.TestTracingConfig;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.kafka.ConfluentKafkaContainer;
+
+import java.util.List;
+import java.util.Map;
+
+@ActiveProfiles("test")
+@Import({TestRedisConfig.class, TestTracingConfig.class})
+abstract class AbstractContainerTests {
+	static Network network = Network.newNetwork();
+	@ServiceConnection
+	@SuppressWarnings("resource")
+	static MySQLContainer<?> mySQLContainer =  new MySQLContainer<>("mysql:8")
+		.withNetwork(network)
+		.withNetworkAliases("mysql");
+	@ServiceConnection
+	static ConfluentKafkaContainer kafkaContainer = new ConfluentKafkaContainer("confluentinc/cp-kafka:7.4.0")
+		.withListener("kafka:19092")
+		.withNetwork(network)
+		.withNetworkAliases("kafka");
+	@SuppressWarnings("resource")
+	static GenericContainer<?> schemaRegistryContainer = new GenericContainer<>("confluentinc/cp-schema-registry:7.4.0")
+		.withEnv("SCHEMA_REGISTRY_KAFKASTORE_BOOTSTRAP_SERVERS", "PLAINTEXT://kafka:19092")
+		.withEnv("SCHEMA_REGISTRY_LISTENERS", "http://0.0.0.0:8081")
+		.withEnv("SCHEMA_REGISTRY_HOST_NAME", "schema-registry")
+		.withExposedPorts(8081)
+		.withNetwork(network)
+		.withNetworkAliases("schema-registry")
+		.waitingFor(Wait.forHttp("/subjects"));
+	static RedisContainer redisContainer = new  RedisContainer("redis:8.0")
+		.withExposedPorts(6379)
+		.withNetwork(network)
+		.withNetworkAliases("redis");
+	@LocalServerPort
+	Integer port;
+	@MockitoBean
+	JwtDecoder jwtDecoder;
+
+	// Started once and shared by every subclass; Testcontainers stops them when the JVM exits.
+	static {
+		mySQLContainer.start();
+		kafkaContainer.start();
+		schemaRegistryContainer.start();
+		redisContainer.start();
+	}
+
+	@DynamicPropertySource
+	static void containerProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.kafka.producer.properties.schema.registry.url",
+			() -> "http://localhost:" + schemaRegistryContainer.getMappedPort(8081));
+		registry.add("spring.kafka.consumer.properties.schema.registry.url",
+			() -> "http://localhost:" + schemaRegistryContainer.getMappedPort(8081));
+		registry.add("redis.port",
+			() -> redisContainer.getMappedPort(6379));
+		registry.add("inventory.reactive.r2dbc.url",
+			() -> "r2dbc:mysql://" + mySQLContainer.getHost() + ":" + mySQLContainer.getMappedPort(3306)
+				+ "/" + mySQLContainer.getDatabaseName());
+		registry.add("inventory.reactive.r2dbc.username", mySQLContainer::getUsername);
+		registry.add("inventory.reactive.r2dbc.password", mySQLContainer::getPassword);
+	}
+
+	static Jwt jwt(String tokenValue, String... roles) {
+		return Jwt.withTokenValue(tokenValue)
+			.header("alg", "none")
+			.claim("email", "test@example.com")
+			.claim("given_name", "Alexander")
+			.claim("family_name", "Sidorov")
+			.claim("sub", "h7g3hg383837h7733hf38h37")
+			.claim("realm_access", Map.of("roles", List.of(roles)))
+			.build();
+	}
+}
@@ -0,0 +1,255 @@
+package io.github.mitohondriyaa.inventory;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import io.github.mitohondriyaa.inventory.service.ProductKeyDictionary;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestConstructor;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@Tag("stress")
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "spring.datasource.hikari.maximum-pool-size=64"
+)
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+@RequiredArgsConstructor
+class InventoryContentionStressTests extends AbstractContainerTests {
+	static final int THREADS = Integer.getInteger("stress.threads", 32);
+	static final int HOT_PRODUCTS = Integer.getInteger("stress.hot-products", 4);
+	static final int INITIAL_STOCK = Integer.getInteger("stress.initial-stock", 500);
+	static final int MAX_QUANTITY = Integer.getInteger("stress.max-quantity", 5);
+	static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("stress.duration-seconds", 30));
+	static final double RELEASE_RATIO = 0.25;
+	static final double ADMIN_UPDATE_RATIO = 0.02;
+	final InventoryService inventoryService;
+	final InventoryRepository inventoryRepository;
+	final InventoryStockCache inventoryStockCache;
+	final ProductKeyDictionary productKeyDictionary;
+	final JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		when(jwtDecoder.decode(anyString())).thenReturn(jwt("mock-token", "INVENTORY_MANAGER"));
+	}
+
+	@Test
+	void shouldKeepStockConsistentUnderHotProductContention() throws Exception {
+		Map<String, ProductLedger> ledgers = new LinkedHashMap<>();
+
+		for (int index = 0; index < HOT_PRODUCTS; index++) {
+			String productId = "hot-product-" + index;
+			Inventory inventory = new Inventory();
+			inventory.setProductId(productId);
+			inventory.setQuantity(INITIAL_STOCK);
+
+			inventoryRepository.save(inventory);
+			ledgers.put(productId, new ProductLedger(INITIAL_STOCK));
+		}
+
+		List<String> productIds = List.copyOf(ledgers.keySet());
+		Map<String, Long> lockCountersBefore = innodbLockCounters();
+		Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+		AtomicLong negativeObservations = new AtomicLong();
+		long deadline = System.nanoTime() + DURATION.toNanos();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+
+		executor.submit(() -> {
+			while (System.nanoTime() < deadline) {
+				Integer minQuantity = jdbcTemplate.queryForObject(
+					"SELECT MIN(quantity) FROM t_inventory WHERE product_id LIKE 'hot-product-%'",
+					Integer.class
+				);
+
+				if (minQuantity != null && minQuantity < 0) {
+					negativeObservations.incrementAndGet();
+				}
+
+				Thread.sleep(50);
+			}
+
+			return null;
+		});
+
+		for (int thread = 0; thread < THREADS; thread++) {
+			executor.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+
+				while (System.nanoTime() < deadline) {
+					String productId = productIds.get(random.nextInt(productIds.size()));
+					ProductLedger ledger = ledgers.get(productId);
+					double operation = random.nextDouble();
+
+					try {
+						if (operation < ADMIN_UPDATE_RATIO) {
+							updateAsAdmin(productId, ledger, random.nextInt(MAX_QUANTITY * 10));
+						} else if (operation < ADMIN_UPDATE_RATIO + RELEASE_RATIO) {
+							release(productId, ledger, 1 + random.nextInt(MAX_QUANTITY));
+						} else {
+							reserve(productId, ledger, 1 + random.nextInt(MAX_QUANTITY));
+						}
+					} catch (PessimisticLockingFailureException exception) {
+						ledger.lockFailures.incrementAndGet();
+					} catch (Throwable throwable) {
+						unexpectedErrors.add(throwable);
+					}
+				}
+
+				return null;
+			});
+		}
+
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(DURATION.toSeconds() + 60, TimeUnit.SECONDS));
+
+		Map<String, Long> lockCountersAfter = innodbLockCounters();
+		lockCountersAfter.replaceAll((name, value) -> value - lockCountersBefore.getOrDefault(name, 0L));
+		log.info("Contention run: {} threads, {} hot products, {} s, InnoDB lock counters: {}",
+			THREADS,
+			HOT_PRODUCTS,
+			DURATION.toSeconds(),
+			lockCountersAfter
+		);
+
+		ledgers.forEach((productId, ledger) -> {
+			int finalQuantity = inventoryRepository.findByProductId(productId)
+				.orElseThrow()
+				.getQuantity();
+			long operations = ledger.reservations.get()
+				+ ledger.rejections.get()
+				+ ledger.releases.get()
+				+ ledger.adminUpdates.get()
+				+ ledger.adminConflicts.get();
+
+			log.info("{}: {} ops/s, reserved {} ({} rejected), released {}, admin updates {} ({} conflicts), lock failures {}, final stock {}",
+				productId,
+				operations / Math.max(1, DURATION.toSeconds()),
+				ledger.reservedQuantity.get(),
+				ledger.rejections.get(),
+				ledger.releasedQuantity.get(),
+				ledger.adminUpdates.get(),
+				ledger.adminConflicts.get(),
+				ledger.lockFailures.get(),
+				finalQuantity
+			);
+
+			Assertions.assertTrue(finalQuantity >= 0, productId + " ended with negative stock");
+			Assertions.assertEquals(
+				ledger.initialQuantity + ledger.releasedQuantity.get() + ledger.adjustedQuantity.get(),
+				finalQuantity + ledger.reservedQuantity.get(),
+				productId + ": reserved plus remaining must equal initial plus released"
+			);
+		});
+
+		Assertions.assertEquals(0, negativeObservations.get(), "Stock was observed below zero during the run");
+		Assertions.assertTrue(unexpectedErrors.isEmpty(), () -> "Unexpected errors: " + unexpectedErrors);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM t_inventory");
+		inventoryStockCache.clear();
+		productKeyDictionary.clear();
+	}
+
+	private void reserve(String productId, ProductLedger ledger, int quantity) {
+		if (inventoryService.reserveStock(productId, quantity)) {
+			ledger.reservations.incrementAndGet();
+			ledger.reservedQuantity.addAndGet(quantity);
+		} else {
+			ledger.rejections.incrementAndGet();
+		}
+	}
+
+	private void release(String productId, ProductLedger ledger, int quantity) {
+		if (inventoryService.releaseStock(productId, quantity)) {
+			ledger.releases.incrementAndGet();
+			ledger.releasedQuantity.addAndGet(quantity);
+		}
+	}
+
+	// PUT writes an absolute quantity, so it is sent as a compare-and-set against the
+	// quantity just read: a reservation or release landing in between yields 409.
+	private void updateAsAdmin(String productId, ProductLedger ledger, int restock) {
+		int currentQuantity = inventoryRepository.findByProductId(productId)
+			.orElseThrow()
+			.getQuantity();
+		int newQuantity = currentQuantity + restock;
+
+		int statusCode = RestAssured.given()
+			.baseUri("http://localhost")
+			.port(port)
+			.contentType(ContentType.JSON)
+			.header("Authorization", "Bearer mock-token")
+			.header("X-Expected-Quantity", currentQuantity)
+			.body("""
+				{
+					"productId": "%s",
+					"quantity": %d
+				}
+				""".formatted(productId, newQuantity))
+			.when()
+			.put("/api/inventory")
+			.then()
+			.statusCode(Matchers.oneOf(200, 409))
+			.extract()
+			.statusCode();
+
+		if (statusCode == 200) {
+			ledger.adminUpdates.incrementAndGet();
+			ledger.adjustedQuantity.addAndGet(restock);
+		} else {
+			ledger.adminConflicts.incrementAndGet();
+		}
+	}
+
+	private Map<String, Long> innodbLockCounters() {
+		Map<String, Long> counters = new TreeMap<>();
+
+		jdbcTemplate.query(
+			"""
+				SELECT NAME, COUNT FROM information_schema.INNODB_METRICS
+				WHERE NAME IN ('lock_deadlocks', 'lock_timeouts', 'lock_row_lock_waits', 'lock_row_lock_time')
+				""",
+			resultSet -> {
+				counters.put(resultSet.getString("NAME"), resultSet.getLong("COUNT"));
+			}
+		);
+
+		return counters;
+	}
+
+	static class ProductLedger {
+		final long initialQuantity;
+		final AtomicLong reservations = new AtomicLong();
+		final AtomicLong rejections = new AtomicLong();
+		final AtomicLong releases = new AtomicLong();
+		final AtomicLong adminUpdates = new AtomicLong();
+		final AtomicLong adminConflicts = new AtomicLong();
+		final AtomicLong lockFailures = new AtomicLong();
+		final AtomicLong reservedQuantity = new AtomicLong();
+		final AtomicLong releasedQuantity = new AtomicLong();
+		final AtomicLong adjustedQuantity = new AtomicLong();
+
+		ProductLedger(long initialQuantity) {
+			this.initialQuantity = initialQuantity;
+		}
+	}
+}
@@ -1,128 +1,83 @@
 package io.github.mitohondriyaa.inventory;
 
-import com.redis.testcontainers.RedisContainer;
-import io.github.mitohondriyaa.inventory.config.TestRedisConfig;
+import io.github.mitohondriyaa.inventory.dto.InventoryRequest;
+import io.github.mitohondriyaa.inventory.dto.InventoryResponse;
+import io.github.mitohondriyaa.inventory.event.InventoryReservedEvent;
+import io.github.mitohondriyaa.inventory.exception.RpcException;
+import io.github.mitohondriyaa.inventory.idempotency.JdbcIdempotencyStore;
+import io.github.mitohondriyaa.inventory.lag.ConsumerLagMonitor;
 import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.reactive.ReactiveConnectionPool;
+import io.github.mitohondriyaa.inventory.reactive.ReactiveInventoryServer;
 import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.rpc.StockRpcClient;
+import io.github.mitohondriyaa.inventory.rpc.StockRpcServer;
 import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import io.github.mitohondriyaa.inventory.service.ProductKeyDictionary;
 import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
 import io.github.mitohondriyaa.order.event.OrderPlacedEvent;
 import io.github.mitohondriyaa.product.event.ProductCreatedEvent;
 import io.github.mitohondriyaa.product.event.ProductDeletedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.*;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.web.server.LocalServerPort;
-import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.Lifecycle;
-import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.DynamicPropertyRegistry;
-import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestConstructor;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.MySQLContainer;
-import org.testcontainers.containers.Network;
-import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.kafka.ConfluentKafkaContainer;
 import org.testcontainers.shaded.org.awaitility.Awaitility;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
 @RequiredArgsConstructor
-@ActiveProfiles("test")
-@Import(TestRedisConfig.class)
-class InventoryServiceApplicationTests {
-	static Network network = Network.newNetwork();
-	@ServiceConnection
-	@SuppressWarnings("resource")
-	static MySQLContainer<?> mySQLContainer =  new MySQLContainer<>("mysql:8")
-		.withNetwork(network)
-		.withNetworkAliases("mysql");
-	@ServiceConnection
-	static ConfluentKafkaContainer kafkaContainer = new ConfluentKafkaContainer("confluentinc/cp-kafka:7.4.0")
-		.withListener("kafka:19092")
-		.withNetwork(network)
-		.withNetworkAliases("kafka");
-	@SuppressWarnings("resource")
-	static GenericContainer<?> schemaRegistryContainer = new GenericContainer<>("confluentinc/cp-schema-registry:7.4.0")
-		.withEnv("SCHEMA_REGISTRY_KAFKASTORE_BOOTSTRAP_SERVERS", "PLAINTEXT://kafka:19092")
-		.withEnv("SCHEMA_REGISTRY_LISTENERS", "http://0.0.0.0:8081")
-		.withEnv("SCHEMA_REGISTRY_HOST_NAME", "schema-registry")
-		.withExposedPorts(8081)
-		.withNetwork(network)
-		.withNetworkAliases("schema-registry")
-		.waitingFor(Wait.forHttp("/subjects"));
-	static RedisContainer redisContainer = new  RedisContainer("redis:8.0")
-		.withExposedPorts(6379)
-		.withNetwork(network)
-		.withNetworkAliases("redis");
+class InventoryServiceApplicationTests extends AbstractContainerTests {
 	static final String PRODUCT_ID = "a876af73h3uf3hj";
-	@LocalServerPort
-	Integer port;
-	@MockitoBean
-	JwtDecoder jwtDecoder;
 	final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
 	final KafkaTemplate<String, Object> kafkaTemplate;
 	final ConsumerFactory<String, Object> consumerFactory;
 	final InventoryRepository inventoryRepository;
+	final JdbcTemplate jdbcTemplate;
+	final InventoryStockCache inventoryStockCache;
+	final ProductKeyDictionary productKeyDictionary;
+	final JdbcIdempotencyStore jdbcIdempotencyStore;
+	final InMemorySpanExporter inMemorySpanExporter;
+	final StockRpcServer stockRpcServer;
+	final ReactiveInventoryServer reactiveInventoryServer;
+	final ReactiveConnectionPool reactiveConnectionPool;
+	final MeterRegistry meterRegistry;
 	@MockitoSpyBean
 	InventoryService inventoryService;
-
-	static {
-		mySQLContainer.start();
-		kafkaContainer.start();
-		schemaRegistryContainer.start();
-		redisContainer.start();
-	}
-
-	@DynamicPropertySource
-	static void dynamicProperties(DynamicPropertyRegistry registry) {
-		registry.add("spring.kafka.producer.properties.schema.registry.url",
-			() -> "http://localhost:" + schemaRegistryContainer.getMappedPort(8081));
-		registry.add("spring.kafka.consumer.properties.schema.registry.url",
-			() -> "http://localhost:" + schemaRegistryContainer.getMappedPort(8081));
-		registry.add("redis.port",
-			() -> redisContainer.getMappedPort(6379));
-	}
+	@MockitoSpyBean
+	ConsumerLagMonitor consumerLagMonitor;
 
 	@BeforeEach
 	void setUp() throws InterruptedException {
 		RestAssured.baseURI = "http://localhost";
 		RestAssured.port = port;
 
-		Map<String, Object> realmAccess = new HashMap<>();
-		realmAccess.put("roles", List.of("INVENTORY_MANAGER"));
-
-		Jwt jwt = Jwt.withTokenValue("mock-token")
-			.header("alg", "none")
-			.claim("email", "test@example.com")
-			.claim("given_name", "Alexander")
-			.claim("family_name", "Sidorov")
-			.claim("sub", "h7g3hg383837h7733hf38h37")
-			.claim("realm_access", realmAccess)
-			.build();
-
-		when(jwtDecoder.decode(anyString())).thenReturn(jwt);
+		when(jwtDecoder.decode(anyString())).thenReturn(jwt("mock-token", "INVENTORY_MANAGER"));
 
 		kafkaListenerEndpointRegistry.getAllListenerContainers()
 			.forEach(Lifecycle::start);
@@ -143,7 +98,7 @@ class InventoryServiceApplicationTests {
 
 		Awaitility.await().atMost(Duration.ofSeconds(5))
 			.untilAsserted(() -> verify(inventoryService, atLeastOnce())
-				.createInventory(productCreatedEvent));
+				.createInventories(List.of(productCreatedEvent)));
 
 		Awaitility.await().atMost(Duration.ofSeconds(5))
 			.untilAsserted(() -> {
@@ -158,6 +113,34 @@ class InventoryServiceApplicationTests {
 			});
 	}
 
+	@Test
+	void shouldIgnoreAlreadyCreatedInventory() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+
+		ProductCreatedEvent productCreatedEvent = new ProductCreatedEvent();
+		productCreatedEvent.setProductId(PRODUCT_ID);
+
+		ProducerRecord<String, Object> producerRecord
+			= new ProducerRecord<>("product-created", productCreatedEvent);
+		producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+
+		kafkaTemplate.send(producerRecord);
+
+		Awaitility.await().atMost(Duration.ofSeconds(5))
+			.untilAsserted(() -> verify(inventoryService, atLeastOnce())
+				.createInventories(List.of(productCreatedEvent)));
+
+		@SuppressWarnings("OptionalGetWithoutIsPresent")
+		Inventory verifiableInventory = inventoryRepository
+			.findByProductId(PRODUCT_ID).get();
+
+		Assertions.assertEquals(20, verifiableInventory.getQuantity());
+	}
+
 	@Test
 	void shouldDeductStockWhenQuantityIsEnough() {
 		Inventory inventory = new Inventory();
@@ -222,6 +205,34 @@ class InventoryServiceApplicationTests {
 		}
 	}
 
+	@Test
+	void shouldApplyStaleProductKeyOnlyToItsOwnProduct() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		Inventory savedInventory = inventoryRepository.save(inventory);
+
+		Inventory otherInventory = new Inventory();
+		otherInventory.setProductId("b7319fe2k4kd9");
+		otherInventory.setQuantity(20);
+
+		Inventory savedOtherInventory = inventoryRepository.save(otherInventory);
+
+		productKeyDictionary.register(PRODUCT_ID, savedOtherInventory.getId());
+
+		Assertions.assertTrue(inventoryService.reserveStock(PRODUCT_ID, 5));
+		Assertions.assertEquals(Optional.of(savedInventory.getId()), productKeyDictionary.resolve(PRODUCT_ID));
+
+		productKeyDictionary.register(PRODUCT_ID, savedOtherInventory.getId());
+
+		Assertions.assertTrue(inventoryService.releaseStock(PRODUCT_ID, 2));
+		Assertions.assertFalse(inventoryService.reserveStock(PRODUCT_ID, 18));
+
+		Assertions.assertEquals(17, inventoryRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+		Assertions.assertEquals(20, inventoryRepository.findByProductId("b7319fe2k4kd9").orElseThrow().getQuantity());
+	}
+
 	@Test
 	void shouldGetAllInventories() {
 		Inventory inventory = new Inventory();
@@ -241,6 +252,8 @@ class InventoryServiceApplicationTests {
 
 	@Test
 	void shouldCheckStock() {
+		doReturn(false).when(consumerLagMonitor).isStale();
+
 		Inventory inventory = new Inventory();
 		inventory.setProductId(PRODUCT_ID);
 		inventory.setQuantity(20);
@@ -255,6 +268,8 @@ class InventoryServiceApplicationTests {
 			.get("/api/inventory/check")
 			.then()
 			.statusCode(200)
+			.header("X-Consumer-Lag", Matchers.notNullValue())
+			.header("X-Inventory-Stale", Matchers.equalTo("false"))
 			.body(Matchers.equalTo("true"));
 	}
 
@@ -305,6 +320,83 @@ class InventoryServiceApplicationTests {
 			.body("quantity", Matchers.equalTo(40));
 	}
 
+	@Test
+	void shouldUpdateInventoryOnlyWhenExpectedQuantityMatches() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+
+		String requestBody = """
+			{
+				"productId": "%s",
+				"quantity": 40
+			}
+			""".formatted(PRODUCT_ID);
+
+		RestAssured.given()
+			.contentType(ContentType.JSON)
+			.header("Authorization", "Bearer mock-token")
+			.header("X-Expected-Quantity", 25)
+			.body(requestBody)
+			.when()
+			.put("/api/inventory")
+			.then()
+			.statusCode(409);
+
+		Assertions.assertEquals(20, inventoryRepository.findByProductId(PRODUCT_ID).orElseThrow().getQuantity());
+
+		RestAssured.given()
+			.contentType(ContentType.JSON)
+			.header("Authorization", "Bearer mock-token")
+			.header("X-Expected-Quantity", 20)
+			.body(requestBody)
+			.when()
+			.put("/api/inventory")
+			.then()
+			.statusCode(200)
+			.body("quantity", Matchers.equalTo(40));
+	}
+
+	@Test
+	void shouldImportAndExportInventories() {
+		String requestBody = """
+			productId,quantity
+			%s,15
+			second-product,7
+			broken-line,not-a-number
+			""".formatted(PRODUCT_ID);
+
+		RestAssured.given()
+			.contentType("text/csv")
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("format", "CSV")
+			.queryParam("jobId", "test-import")
+			.body(requestBody)
+			.when()
+			.post("/api/inventory/import")
+			.then()
+			.statusCode(200)
+			.body("jobId", Matchers.equalTo("test-import"))
+			.body("status", Matchers.equalTo("COMPLETED"))
+			.body("importedRows", Matchers.equalTo(2))
+			.body("rejectedLines", Matchers.equalTo(1));
+
+		String exported = RestAssured.given()
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("format", "NDJSON")
+			.when()
+			.get("/api/inventory/export")
+			.then()
+			.statusCode(200)
+			.extract()
+			.asString();
+
+		Assertions.assertEquals(2, exported.lines().count());
+		Assertions.assertTrue(exported.contains("\"productId\":\"%s\",\"quantity\":15".formatted(PRODUCT_ID)));
+	}
+
 	@Test
 	void shouldDeleteInventoryByProductId() {
 		Inventory inventory = new Inventory();
@@ -324,7 +416,7 @@ class InventoryServiceApplicationTests {
 
 		Awaitility.await().atMost(Duration.ofSeconds(5))
 			.untilAsserted(() -> verify(inventoryService, atLeastOnce())
-				.deleteInventoryByProductID(eq(productDeletedEvent)));
+				.deleteInventoriesByProductID(eq(List.of(productDeletedEvent))));
 
 		Awaitility.await().atMost(Duration.ofSeconds(5))
 			.untilAsserted(() -> {
@@ -332,6 +424,14 @@ class InventoryServiceApplicationTests {
 					= inventoryRepository.findByProductId(PRODUCT_ID);
 				Assertions.assertTrue(optionalInventory.isEmpty());
 			});
+
+		Integer softDeleted = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM t_inventory WHERE product_id = ? AND deleted_at IS NOT NULL",
+			Integer.class,
+			PRODUCT_ID
+		);
+
+		Assertions.assertEquals(1, softDeleted);
 	}
 
 	@Test
@@ -372,20 +472,459 @@ class InventoryServiceApplicationTests {
 		Assertions.assertEquals(30, verifiableInventory.getQuantity());
 	}
 
+	@Test
+	void shouldIgnoreDuplicateOrderCancelled() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+
+		OrderCancelledEvent orderCancelledEvent = new OrderCancelledEvent();
+		orderCancelledEvent.setOrderNumber("748f7f87ff78893983k");
+		orderCancelledEvent.setProductId(PRODUCT_ID);
+		orderCancelledEvent.setQuantity(10);
+		orderCancelledEvent.setEmail("test@example.com");
+		orderCancelledEvent.setFirstName("Alexander");
+		orderCancelledEvent.setLastName("Sidorov");
+
+		String messageId = UUID.randomUUID().toString();
+
+		for (int i = 0; i < 3; i++) {
+			ProducerRecord<String, Object> producerRecord
+				= new ProducerRecord<>("order-cancelled", orderCancelledEvent);
+			producerRecord.headers().add("messageId", messageId.getBytes());
+
+			kafkaTemplate.send(producerRecord);
+		}
+
+		Awaitility.await().atMost(Duration.ofSeconds(10))
+			.during(Duration.ofSeconds(3))
+			.untilAsserted(() -> {
+				@SuppressWarnings("OptionalGetWithoutIsPresent")
+				Inventory verifiableInventory = inventoryRepository
+					.findByProductId(PRODUCT_ID).get();
+
+				Assertions.assertEquals(30, verifiableInventory.getQuantity());
+			});
+	}
+
+	@Test
+	void shouldProcessMessageOnceWithJdbcIdempotencyStore() {
+		String messageId = UUID.randomUUID().toString();
+		List<String> handled = new ArrayList<>();
+
+		for (int i = 0; i < 2; i++) {
+			jdbcIdempotencyStore.processNew(
+				Map.of(messageId, PRODUCT_ID),
+				productId -> productId,
+				handled::add
+			);
+		}
+
+		Assertions.assertEquals(List.of(PRODUCT_ID), handled);
+
+		Integer processed = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM t_processed_message WHERE message_id = ?",
+			Integer.class,
+			messageId
+		);
+
+		Assertions.assertEquals(1, processed);
+	}
+
+	@Test
+	void shouldExposePrometheusMetrics() {
+		RestAssured.given()
+			.when()
+			.get("/actuator/prometheus")
+			.then()
+			.statusCode(200)
+			.body(Matchers.containsString("inventory_reservations_total"))
+			.body(Matchers.containsString("inventory_cancellations_total"));
+	}
+
+	@Test
+	void shouldStayReadyWhileConsumerLagIsDegraded() {
+		doReturn(false).when(consumerLagMonitor).isStale();
+		doReturn(Map.of("order-placed", 5000L)).when(consumerLagMonitor).getTopicLags();
+
+		RestAssured.given()
+			.when()
+			.get("/actuator/health/lag")
+			.then()
+			.statusCode(503)
+			.body("status", Matchers.equalTo("DEGRADED"));
+
+		RestAssured.given()
+			.when()
+			.get("/actuator/health/readiness")
+			.then()
+			.statusCode(200)
+			.body("status", Matchers.equalTo("UP"));
+	}
+
+	@Test
+	void shouldStreamJfrRecordingOnlyToInventoryAdmins() {
+		RestAssured.given()
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("durationSeconds", 1)
+			.when()
+			.post("/api/admin/diagnostics/jfr")
+			.then()
+			.statusCode(403);
+
+		when(jwtDecoder.decode("admin-token")).thenReturn(jwt("admin-token", "INVENTORY_ADMIN"));
+
+		long recordingId = RestAssured.given()
+			.header("Authorization", "Bearer admin-token")
+			.queryParam("profile", "DEFAULT")
+			.queryParam("durationSeconds", 1)
+			.when()
+			.post("/api/admin/diagnostics/jfr")
+			.then()
+			.statusCode(202)
+			.body("durationSeconds", Matchers.equalTo(1))
+			.extract()
+			.jsonPath()
+			.getLong("id");
+
+		RestAssured.given()
+			.header("Authorization", "Bearer admin-token")
+			.queryParam("durationSeconds", 1)
+			.when()
+			.post("/api/admin/diagnostics/jfr")
+			.then()
+			.statusCode(409);
+
+		Awaitility.await().atMost(Duration.ofSeconds(10))
+			.untilAsserted(() -> {
+				byte[] recording = RestAssured.given()
+					.header("Authorization", "Bearer admin-token")
+					.when()
+					.get("/api/admin/diagnostics/jfr/" + recordingId)
+					.then()
+					.statusCode(200)
+					.contentType("application/octet-stream")
+					.extract()
+					.asByteArray();
+
+				Assertions.assertArrayEquals("FLR\0".getBytes(), Arrays.copyOf(recording, 4));
+			});
+
+		RestAssured.given()
+			.header("Authorization", "Bearer admin-token")
+			.when()
+			.get("/api/admin/diagnostics/jfr/" + recordingId)
+			.then()
+			.statusCode(404);
+	}
+
+	@Test
+	void shouldRejectReshardingWhenNotAdminOrNotSharded() {
+		RestAssured.given()
+			.header("Authorization", "Bearer mock-token")
+			.when()
+			.post("/api/admin/sharding/reshard")
+			.then()
+			.statusCode(403);
+
+		when(jwtDecoder.decode("admin-token")).thenReturn(jwt("admin-token", "INVENTORY_ADMIN"));
+
+		RestAssured.given()
+			.header("Authorization", "Bearer admin-token")
+			.when()
+			.post("/api/admin/sharding/reshard")
+			.then()
+			.statusCode(409)
+			.body("message", Matchers.equalTo("Sharding is not enabled"));
+	}
+
+	@Test
+	void shouldPropagateOriginTimestamp() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+
+		String orderNumber = UUID.randomUUID().toString();
+		OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+		orderPlacedEvent.setOrderNumber(orderNumber);
+		orderPlacedEvent.setProductId(PRODUCT_ID);
+		orderPlacedEvent.setQuantity(10);
+		orderPlacedEvent.setEmail("test@example.com");
+		orderPlacedEvent.setFirstName("Alexander");
+		orderPlacedEvent.setLastName("Sidorov");
+
+		double endToEndMsBefore = eventTimer("inventory.event.end-to-end").totalTime(TimeUnit.MILLISECONDS);
+		long endToEndCountBefore = eventTimer("inventory.event.end-to-end").count();
+		long queueingCountBefore = eventTimer("inventory.event.queueing").count();
+		long processingCountBefore = eventTimer("inventory.event.processing").count();
+		long publishCountBefore = eventTimer("inventory.event.publish").count();
+		String originTimestamp = Long.toString(System.currentTimeMillis() - 1000);
+		ProducerRecord<String, Object> producerRecord
+			= new ProducerRecord<>("order-placed", orderPlacedEvent);
+		producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+		producerRecord.headers().add("originTimestamp", originTimestamp.getBytes());
+
+		kafkaTemplate.send(producerRecord);
+
+		try (Consumer<String, Object> consumer = consumerFactory.createConsumer(
+			"originTimestamp-" + UUID.randomUUID(),
+			"test-client"
+		)) {
+			consumer.subscribe(List.of("inventory-reserved"));
+			List<ConsumerRecord<String, Object>> reserved = new ArrayList<>();
+
+			Awaitility.await()
+				.atMost(Duration.ofSeconds(10))
+				.until(() -> {
+					KafkaTestUtils.getRecords(consumer, Duration.ofMillis(500)).forEach(record -> {
+						if (record.value() instanceof InventoryReservedEvent event
+							&& orderNumber.equals(event.getOrderNumber().toString())) {
+							reserved.add(record);
+						}
+					});
+
+					return !reserved.isEmpty();
+				});
+
+			Assertions.assertEquals(1, reserved.size());
+			Assertions.assertEquals(
+				originTimestamp,
+				new String(reserved.getFirst().headers().lastHeader("originTimestamp").value())
+			);
+		}
+
+		Awaitility.await()
+			.atMost(Duration.ofSeconds(5))
+			.until(() -> eventTimer("inventory.event.end-to-end").count() > endToEndCountBefore);
+
+		Assertions.assertEquals(queueingCountBefore + 1, eventTimer("inventory.event.queueing").count());
+		Assertions.assertEquals(processingCountBefore + 1, eventTimer("inventory.event.processing").count());
+		Assertions.assertEquals(publishCountBefore + 1, eventTimer("inventory.event.publish").count());
+		Assertions.assertEquals(endToEndCountBefore + 1, eventTimer("inventory.event.end-to-end").count());
+		Assertions.assertTrue(
+			eventTimer("inventory.event.end-to-end").totalTime(TimeUnit.MILLISECONDS) - endToEndMsBefore >= 1000,
+			"End-to-end latency must be measured from the origin timestamp"
+		);
+	}
+
+	private Timer eventTimer(String name) {
+		return Timer.builder(name)
+			.tag("topic", "order-placed")
+			.tag("partition", "0")
+			.register(meterRegistry);
+	}
+
+	@Test
+	void shouldTraceReservationFromOrderPlacedToInventoryReserved() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+		inMemorySpanExporter.reset();
+
+		OrderPlacedEvent orderPlacedEvent = new OrderPlacedEvent();
+		orderPlacedEvent.setOrderNumber("748f7f87ff78893983k");
+		orderPlacedEvent.setProductId(PRODUCT_ID);
+		orderPlacedEvent.setQuantity(10);
+		orderPlacedEvent.setEmail("test@example.com");
+		orderPlacedEvent.setFirstName("Alexander");
+		orderPlacedEvent.setLastName("Sidorov");
+
+		ProducerRecord<String, Object> producerRecord
+			= new ProducerRecord<>("order-placed", orderPlacedEvent);
+		producerRecord.headers().add("messageId", UUID.randomUUID().toString().getBytes());
+
+		kafkaTemplate.send(producerRecord);
+
+		Awaitility.await().atMost(Duration.ofSeconds(15))
+			.untilAsserted(() -> {
+				List<SpanData> spans = inMemorySpanExporter.getFinishedSpanItems();
+				SpanData orderPlacedSend = spans.stream()
+					.filter(span -> span.getName().equals("order-placed send"))
+					.findFirst()
+					.orElseThrow();
+				List<String> traceSpanNames = spans.stream()
+					.filter(span -> span.getTraceId().equals(orderPlacedSend.getTraceId()))
+					.map(SpanData::getName)
+					.toList();
+
+				Assertions.assertTrue(traceSpanNames.contains("avro decode"));
+				Assertions.assertTrue(traceSpanNames.contains("order-placed receive"));
+				Assertions.assertTrue(traceSpanNames.contains("inventory-reserved send"));
+			});
+	}
+
+	@Test
+	void shouldServeStockChecksOverBinaryRpc() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		Inventory savedInventory = inventoryRepository.save(inventory);
+
+		try (StockRpcClient client = StockRpcClient.connect(stockRpcServer.localAddress(), "mock-token")) {
+			Assertions.assertTrue(client.check(PRODUCT_ID, 10));
+			Assertions.assertFalse(client.check(PRODUCT_ID, 30));
+			Assertions.assertEquals(
+				List.of(true, false, false),
+				client.batchCheck(List.of(
+					new InventoryRequest(PRODUCT_ID, 20),
+					new InventoryRequest(PRODUCT_ID, 21),
+					new InventoryRequest("unknown-product", 1)
+				))
+			);
+			Assertions.assertEquals(
+				Collections.nCopies(25, true),
+				client.batchCheckStream(Collections.nCopies(25, new InventoryRequest(PRODUCT_ID, 5)).iterator(), 10)
+			);
+			Assertions.assertEquals(
+				new InventoryResponse(savedInventory.getId(), PRODUCT_ID, 20),
+				client.getStock(PRODUCT_ID)
+			);
+
+			RpcException notFound = Assertions.assertThrows(
+				RpcException.class,
+				() -> client.getStock("unknown-product")
+			);
+			Assertions.assertEquals(404, notFound.getStatus());
+		}
+	}
+
+	@Test
+	void shouldServeStockReadsFromReactiveStack() {
+		doReturn(false).when(consumerLagMonitor).isStale();
+
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		Inventory savedInventory = inventoryRepository.save(inventory);
+
+		Inventory secondInventory = new Inventory();
+		secondInventory.setProductId("b7319fe2k4kd9");
+		secondInventory.setQuantity(5);
+
+		inventoryRepository.save(secondInventory);
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.queryParam("productId", PRODUCT_ID)
+			.queryParam("quantity", 20)
+			.when()
+			.get("/api/inventory/check")
+			.then()
+			.statusCode(401);
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("productId", PRODUCT_ID)
+			.queryParam("quantity", 20)
+			.when()
+			.get("/api/inventory/check")
+			.then()
+			.statusCode(200)
+			.header("X-Inventory-Stale", Matchers.equalTo("false"))
+			.body(Matchers.equalTo("true"));
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("productId", PRODUCT_ID)
+			.queryParam("quantity", 21)
+			.when()
+			.get("/api/inventory/check")
+			.then()
+			.statusCode(200)
+			.body(Matchers.equalTo("false"));
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.when()
+			.get("/api/inventory/" + PRODUCT_ID)
+			.then()
+			.statusCode(200)
+			.body("id", Matchers.equalTo(savedInventory.getId().intValue()))
+			.body("productId", Matchers.equalTo(PRODUCT_ID))
+			.body("quantity", Matchers.equalTo(20));
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.when()
+			.get("/api/inventory/unknown-product")
+			.then()
+			.statusCode(404);
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("size", 1)
+			.when()
+			.get("/api/inventory")
+			.then()
+			.statusCode(200)
+			.body("items.size()", Matchers.is(1))
+			.body("items[0].productId", Matchers.equalTo(PRODUCT_ID))
+			.body("nextCursor", Matchers.equalTo(savedInventory.getId().intValue()));
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.queryParam("after", savedInventory.getId())
+			.queryParam("size", 10)
+			.when()
+			.get("/api/inventory")
+			.then()
+			.statusCode(200)
+			.body("items.size()", Matchers.is(1))
+			.body("items[0].productId", Matchers.equalTo("b7319fe2k4kd9"))
+			.body("nextCursor", Matchers.nullValue());
+	}
+
+	@Test
+	void shouldReopenReactivePoolAfterCheckpointRestart() {
+		Inventory inventory = new Inventory();
+		inventory.setProductId(PRODUCT_ID);
+		inventory.setQuantity(20);
+
+		inventoryRepository.save(inventory);
+
+		reactiveConnectionPool.stop();
+
+		Assertions.assertFalse(reactiveConnectionPool.isRunning());
+
+		reactiveConnectionPool.start();
+
+		Assertions.assertTrue(reactiveConnectionPool.isRunning());
+
+		RestAssured.given()
+			.port(reactiveInventoryServer.port())
+			.header("Authorization", "Bearer mock-token")
+			.when()
+			.get("/api/inventory/" + PRODUCT_ID)
+			.then()
+			.statusCode(200)
+			.body("productId", Matchers.equalTo(PRODUCT_ID))
+			.body("quantity", Matchers.equalTo(20));
+	}
+
 	@AfterEach
 	void tearDown() {
 		kafkaListenerEndpointRegistry.getAllListenerContainers()
 			.forEach(Lifecycle::stop);
 
-		inventoryRepository.deleteAll();
-	}
-
-	@AfterAll
-	static void stopContainers() {
-		mySQLContainer.stop();
-		kafkaContainer.stop();
-		schemaRegistryContainer.stop();
-		redisContainer.stop();
-		network.close();
+		jdbcTemplate.update("DELETE FROM t_inventory");
+		jdbcTemplate.update("DELETE FROM t_inventory_import");
+		jdbcTemplate.update("DELETE FROM t_inventory_import_checkpoint");
+		jdbcTemplate.update("DELETE FROM t_processed_message");
+		inventoryStockCache.clear();
+		productKeyDictionary.clear();
 	}
 }
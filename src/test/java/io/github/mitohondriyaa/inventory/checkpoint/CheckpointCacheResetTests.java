@@ -0,0 +1,77 @@
+package io.github.mitohondriyaa.inventory.checkpoint;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.security.ResettableJwkSource;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import io.github.mitohondriyaa.inventory.service.ProductKeyDictionary;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class CheckpointCacheResetTests {
+	static final String PRODUCT_ID = "a876af73h3uf3hj";
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldClearCachedStateBeforeCheckpoint() throws Exception {
+		InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+		ProductKeyDictionary productKeyDictionary = new ProductKeyDictionary(inventoryRepository);
+		ReflectionTestUtils.setField(productKeyDictionary, "maxEntries", 100);
+		productKeyDictionary.register(PRODUCT_ID, 1L);
+
+		InventoryStockCache inventoryStockCache = new InventoryStockCache(
+			inventoryRepository,
+			productKeyDictionary,
+			ShardRouter.single()
+		);
+		ReflectionTestUtils.setField(inventoryStockCache, "enabled", true);
+		inventoryStockCache.put(PRODUCT_ID, 5, 1L);
+		inventoryStockCache.setHighWatermark(ShardRouter.DEFAULT_SHARD, Instant.parse("2026-01-01T00:00:00Z"));
+
+		Jwt jwt = Jwt.withTokenValue("service-token")
+			.header("alg", "RS256")
+			.claim("sub", "order-service")
+			.build();
+		JwtDecoder delegate = mock(JwtDecoder.class);
+		when(delegate.decode("service-token")).thenReturn(jwt);
+		CachingJwtDecoder jwtDecoder = new CachingJwtDecoder(
+			delegate, 10, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry()
+		);
+		jwtDecoder.decode("service-token");
+
+		List<JWKSource<SecurityContext>> jwkSources = new ArrayList<>();
+		ResettableJwkSource jwkSource = new ResettableJwkSource(() -> {
+			JWKSource<SecurityContext> source = mock(JWKSource.class, withSettings().extraInterfaces(Closeable.class));
+			jwkSources.add(source);
+
+			return source;
+		});
+
+		new CheckpointCacheReset(productKeyDictionary, inventoryStockCache, jwtDecoder, jwkSource)
+			.beforeCheckpoint(null);
+
+		Assertions.assertEquals(0, productKeyDictionary.size());
+		Assertions.assertEquals(0, inventoryStockCache.size());
+		Assertions.assertEquals(Instant.EPOCH, inventoryStockCache.getHighWatermark(ShardRouter.DEFAULT_SHARD));
+		Assertions.assertTrue(jwtDecoder.peek("service-token").isEmpty());
+		Assertions.assertEquals(2, jwkSources.size());
+		verify((Closeable) jwkSources.get(0)).close();
+		verify((Closeable) jwkSources.get(1), never()).close();
+	}
+}
@@ -0,0 +1,86 @@
+package io.github.mitohondriyaa.inventory.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.security.ResettableJwkSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SecurityConfigTests {
+	SecurityConfig securityConfig;
+	OAuth2ResourceServerProperties resourceServerProperties;
+
+	@BeforeEach
+	void setUp() {
+		securityConfig = new SecurityConfig();
+		ReflectionTestUtils.setField(securityConfig, "tokenCacheMaxEntries", 10);
+		ReflectionTestUtils.setField(securityConfig, "tokenCacheMaxTtlSeconds", 300L);
+		ReflectionTestUtils.setField(securityConfig, "jwksTtlMs", 300000L);
+		ReflectionTestUtils.setField(securityConfig, "jwksRefreshTimeoutMs", 15000L);
+		ReflectionTestUtils.setField(securityConfig, "jwksRefreshAheadMs", 30000L);
+		resourceServerProperties = new OAuth2ResourceServerProperties();
+	}
+
+	@Test
+	void shouldDiscoverJwkSetUriFromIssuer() throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		String issuer = "http://localhost:" + server.getAddress().getPort() + "/realms/test";
+		AtomicInteger discoveryRequests = new AtomicInteger();
+		server.createContext("/realms/test/.well-known/openid-configuration", exchange -> {
+			discoveryRequests.incrementAndGet();
+			byte[] body = """
+				{"issuer": "%s", "jwks_uri": "%s/protocol/openid-connect/certs"}
+				""".formatted(issuer, issuer).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		server.start();
+
+		try {
+			resourceServerProperties.getJwt().setIssuerUri(issuer);
+
+			Assertions.assertInstanceOf(CachingJwtDecoder.class, jwtDecoder());
+			Assertions.assertEquals(1, discoveryRequests.get());
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void shouldFailClearlyWithoutIssuerOrJwkSetUri() {
+		IllegalStateException exception = Assertions.assertThrows(
+			IllegalStateException.class,
+			() -> securityConfig.jwkSource(resourceServerProperties)
+		);
+
+		Assertions.assertTrue(exception.getMessage().contains("jwk-set-uri or issuer-uri"));
+	}
+
+	@Test
+	void shouldUseJwkSetUriWithoutIssuer() throws IOException {
+		resourceServerProperties.getJwt().setJwkSetUri("http://localhost:1/certs");
+
+		Assertions.assertInstanceOf(CachingJwtDecoder.class, jwtDecoder());
+	}
+
+	private JwtDecoder jwtDecoder() throws IOException {
+		try (ResettableJwkSource jwkSource = securityConfig.jwkSource(resourceServerProperties)) {
+			return securityConfig.jwtDecoder(resourceServerProperties, jwkSource, new SimpleMeterRegistry());
+		}
+	}
+}
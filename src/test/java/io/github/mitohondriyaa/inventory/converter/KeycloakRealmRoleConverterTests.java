@@ -0,0 +1,69 @@
+package io.github.mitohondriyaa.inventory.converter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+class KeycloakRealmRoleConverterTests {
+	KeycloakRealmRoleConverter converter = new KeycloakRealmRoleConverter();
+
+	@Test
+	void shouldReuseAuthoritiesForTheSameRoles() {
+		Collection<GrantedAuthority> first = converter.convert(jwt(new ArrayList<>(List.of("INVENTORY_MANAGER", "USER"))))
+			.getAuthorities();
+		Collection<GrantedAuthority> second = converter.convert(jwt(new ArrayList<>(List.of("INVENTORY_MANAGER", "USER"))))
+			.getAuthorities();
+
+		Assertions.assertEquals(
+			List.of("ROLE_INVENTORY_MANAGER", "ROLE_USER"),
+			first.stream().map(GrantedAuthority::getAuthority).toList()
+		);
+		// The token copies the list, so caching shows up as the same authority instances.
+		Assertions.assertIterableEquals(first, second);
+		Assertions.assertSame(first.iterator().next(), second.iterator().next());
+	}
+
+	@Test
+	void shouldNotShareAuthoritiesAcrossDifferentRoles() {
+		Collection<GrantedAuthority> manager = converter.convert(jwt(List.of("INVENTORY_MANAGER"))).getAuthorities();
+		Collection<GrantedAuthority> admin = converter.convert(jwt(List.of("INVENTORY_ADMIN"))).getAuthorities();
+
+		Assertions.assertEquals(List.of("ROLE_INVENTORY_ADMIN"), admin.stream().map(GrantedAuthority::getAuthority).toList());
+		Assertions.assertNotSame(manager.iterator().next(), admin.iterator().next());
+	}
+
+	@Test
+	void shouldNotBeAffectedByLaterChangesToTheRoleList() {
+		List<String> roles = new ArrayList<>(List.of("INVENTORY_MANAGER"));
+		converter.convert(jwt(roles));
+		roles.add("INVENTORY_ADMIN");
+
+		Collection<GrantedAuthority> authorities = converter.convert(jwt(List.of("INVENTORY_MANAGER"))).getAuthorities();
+
+		Assertions.assertEquals(List.of("ROLE_INVENTORY_MANAGER"), authorities.stream().map(GrantedAuthority::getAuthority).toList());
+	}
+
+	@Test
+	void shouldGrantNoAuthoritiesWithoutRealmRoles() {
+		Jwt jwt = Jwt.withTokenValue("token")
+			.header("alg", "none")
+			.claim("sub", "h7g3hg383837h7733hf38h37")
+			.build();
+
+		Assertions.assertTrue(converter.convert(jwt).getAuthorities().isEmpty());
+	}
+
+	private static Jwt jwt(List<String> roles) {
+		return Jwt.withTokenValue("token")
+			.header("alg", "none")
+			.claim("sub", "h7g3hg383837h7733hf38h37")
+			.claim("realm_access", Map.of("roles", roles))
+			.build();
+	}
+}
@@ -0,0 +1,118 @@
+package io.github.mitohondriyaa.inventory.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTests {
+	static final String TOKEN = "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-77";
+	JdbcTemplate primaryJdbcTemplate;
+	JdbcTemplate replicaJdbcTemplate;
+	ReplicaMonitor replicaMonitor;
+	Connection primaryConnection;
+	Connection replicaConnection;
+	ReadWriteRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		primaryJdbcTemplate = mock(JdbcTemplate.class);
+		replicaJdbcTemplate = mock(JdbcTemplate.class);
+		replicaMonitor = new ReplicaMonitor(primaryJdbcTemplate, replicaJdbcTemplate, 0.05);
+
+		DataSource primaryDataSource = mock(DataSource.class);
+		DataSource replicaDataSource = mock(DataSource.class);
+		primaryConnection = mock(Connection.class);
+		replicaConnection = mock(Connection.class);
+		when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+		when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+		routingDataSource = new ReadWriteRoutingDataSource(replicaMonitor);
+		routingDataSource.setTargetDataSources(Map.of(
+			DataSourceRole.PRIMARY, primaryDataSource,
+			DataSourceRole.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		ReadConsistencyContext.clear();
+	}
+
+	@Test
+	void shouldRouteWritesToPrimary() throws SQLException {
+		Assertions.assertSame(primaryConnection, routingDataSource.getConnection());
+		verifyNoInteractions(replicaJdbcTemplate);
+	}
+
+	@Test
+	void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		Assertions.assertSame(replicaConnection, routingDataSource.getConnection());
+		verifyNoInteractions(replicaJdbcTemplate);
+	}
+
+	@Test
+	void shouldRouteTokenReadsToReplicaOnceItHasAppliedTheToken() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		ReadConsistencyContext.setConsistencyToken(TOKEN);
+		when(replicaJdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(TOKEN), eq(0.05)))
+			.thenReturn(0);
+
+		Assertions.assertSame(replicaConnection, routingDataSource.getConnection());
+		Assertions.assertSame(replicaConnection, routingDataSource.getConnection());
+		verify(replicaJdbcTemplate, times(1))
+			.queryForObject(anyString(), eq(Integer.class), eq(TOKEN), eq(0.05));
+	}
+
+	@Test
+	void shouldFallBackToPrimaryWhileReplicaLagsBehindToken() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		ReadConsistencyContext.setConsistencyToken(TOKEN);
+		when(replicaJdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(TOKEN), eq(0.05)))
+			.thenReturn(1, 0);
+
+		Assertions.assertSame(primaryConnection, routingDataSource.getConnection());
+		Assertions.assertSame(replicaConnection, routingDataSource.getConnection());
+	}
+
+	@Test
+	void shouldFallBackToPrimaryWhenReplicaCannotBeChecked() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		ReadConsistencyContext.setConsistencyToken(TOKEN);
+		when(replicaJdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(TOKEN), eq(0.05)))
+			.thenThrow(new QueryTimeoutException("replica unreachable"));
+
+		Assertions.assertSame(primaryConnection, routingDataSource.getConnection());
+	}
+
+	@Test
+	void shouldReportReplicationLag() {
+		Map<String, Object> status = new HashMap<>();
+		status.put("Seconds_Behind_Source", 12L);
+		when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS")).thenReturn(List.of(status));
+
+		Assertions.assertEquals(12L, replicaMonitor.replicationLagSeconds());
+
+		status.put("Seconds_Behind_Source", null);
+
+		Assertions.assertEquals(Long.MAX_VALUE, replicaMonitor.replicationLagSeconds());
+	}
+}
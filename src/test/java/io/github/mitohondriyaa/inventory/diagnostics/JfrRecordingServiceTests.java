@@ -0,0 +1,82 @@
+package io.github.mitohondriyaa.inventory.diagnostics;
+
+import io.github.mitohondriyaa.inventory.dto.JfrProfile;
+import io.github.mitohondriyaa.inventory.dto.JfrRecordingResponse;
+import io.github.mitohondriyaa.inventory.exception.NotFoundException;
+import io.github.mitohondriyaa.inventory.exception.RecordingInProgressException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+class JfrRecordingServiceTests {
+	ThreadPoolTaskScheduler taskScheduler;
+	JfrRecordingService jfrRecordingService;
+
+	@BeforeEach
+	void setUp() {
+		taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+		jfrRecordingService = new JfrRecordingService(taskScheduler);
+		ReflectionTestUtils.setField(jfrRecordingService, "maxDurationSeconds", 300L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jfrRecordingService.close();
+		taskScheduler.shutdown();
+	}
+
+	@Test
+	void shouldReturnRecordingIdBeforeTheRecordingStops() throws Exception {
+		long startedAt = System.nanoTime();
+
+		JfrRecordingResponse response = jfrRecordingService.start(JfrProfile.DEFAULT, 1);
+
+		Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofSeconds(1)) < 0);
+		Assertions.assertEquals(1L, response.durationSeconds());
+		Assertions.assertThrows(RecordingInProgressException.class, () -> jfrRecordingService.take(response.id()));
+		Assertions.assertThrows(
+			RecordingInProgressException.class,
+			() -> jfrRecordingService.start(JfrProfile.DEFAULT, 1)
+		);
+
+		AtomicReference<Path> recording = new AtomicReference<>();
+		Awaitility.await().atMost(Duration.ofSeconds(10))
+			.ignoreException(RecordingInProgressException.class)
+			.untilAsserted(() -> recording.set(jfrRecordingService.take(response.id())));
+
+		try {
+			Assertions.assertArrayEquals("FLR\0".getBytes(), Arrays.copyOf(Files.readAllBytes(recording.get()), 4));
+			Assertions.assertThrows(NotFoundException.class, () -> jfrRecordingService.take(response.id()));
+		} finally {
+			Files.deleteIfExists(recording.get());
+		}
+	}
+
+	@Test
+	void shouldKeepOnlyTheLatestFinishedRecording() throws Exception {
+		JfrRecordingResponse first = jfrRecordingService.start(JfrProfile.DEFAULT, 1);
+		AtomicReference<JfrRecordingResponse> second = new AtomicReference<>();
+		Awaitility.await().atMost(Duration.ofSeconds(10))
+			.ignoreException(RecordingInProgressException.class)
+			.untilAsserted(() -> second.set(jfrRecordingService.start(JfrProfile.DEFAULT, 1)));
+
+		AtomicReference<Path> recording = new AtomicReference<>();
+		Awaitility.await().atMost(Duration.ofSeconds(10))
+			.ignoreException(RecordingInProgressException.class)
+			.untilAsserted(() -> recording.set(jfrRecordingService.take(second.get().id())));
+		Files.deleteIfExists(recording.get());
+
+		Assertions.assertThrows(NotFoundException.class, () -> jfrRecordingService.take(first.id()));
+	}
+}
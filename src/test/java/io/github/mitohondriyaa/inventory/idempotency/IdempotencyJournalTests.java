@@ -0,0 +1,104 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class IdempotencyJournalTests {
+	@TempDir
+	Path directory;
+	Path journalPath;
+	IdempotencyJournal idempotencyJournal;
+
+	@BeforeEach
+	void setUp() {
+		journalPath = directory.resolve("journal").resolve("idempotency.journal");
+		idempotencyJournal = journal(3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		idempotencyJournal.stop();
+	}
+
+	@Test
+	void shouldClaimEachIdOnceAndAppendItToJournal() throws IOException {
+		Assertions.assertEquals(
+			Set.of("first-message", "second-message"),
+			idempotencyJournal.claim(List.of("first-message", "second-message"))
+		);
+		Assertions.assertEquals(
+			Set.of("third-message"),
+			idempotencyJournal.claim(List.of("second-message", "third-message"))
+		);
+
+		Assertions.assertEquals(
+			List.of("first-message", "second-message", "third-message"),
+			Files.readAllLines(journalPath, StandardCharsets.UTF_8)
+		);
+		Assertions.assertEquals(3, idempotencyJournal.getBacklog());
+		Assertions.assertTrue(idempotencyJournal.isRunning());
+	}
+
+	@Test
+	void shouldReloadJournaledIdsAfterRestart() throws IOException {
+		idempotencyJournal.claim(List.of("first-message", "second-message"));
+		idempotencyJournal.stop();
+
+		IdempotencyJournal restarted = journal(3);
+		restarted.run(null);
+
+		Assertions.assertEquals(2, restarted.getBacklog());
+		Assertions.assertEquals(Set.of(), restarted.claim(List.of("first-message")));
+		restarted.stop();
+	}
+
+	@Test
+	void shouldForgetIdsOutsideTheWindow() {
+		idempotencyJournal.claim(List.of("first-message", "second-message", "third-message", "fourth-message"));
+
+		Assertions.assertEquals(Set.of("first-message"), idempotencyJournal.claim(List.of("first-message")));
+	}
+
+	@Test
+	void shouldDropIdsAlreadyClaimedThroughJournal() {
+		idempotencyJournal.claim(List.of("first-message"));
+		Set<String> claimedInRedis = new HashSet<>(Set.of("first-message", "second-message"));
+
+		idempotencyJournal.retainUnseen(claimedInRedis);
+
+		Assertions.assertEquals(Set.of("second-message"), claimedInRedis);
+	}
+
+	@Test
+	void shouldDrainJournalIntoReconciler() throws IOException {
+		idempotencyJournal.claim(List.of("first-message", "second-message"));
+		List<String> reconciled = new ArrayList<>();
+
+		idempotencyJournal.drain(reconciled::addAll);
+
+		Assertions.assertEquals(List.of("first-message", "second-message"), reconciled);
+		Assertions.assertEquals(0, idempotencyJournal.getBacklog());
+		Assertions.assertEquals(0, Files.size(journalPath));
+	}
+
+	private IdempotencyJournal journal(int windowSize) {
+		IdempotencyJournal journal = new IdempotencyJournal();
+		ReflectionTestUtils.setField(journal, "journalPath", journalPath);
+		ReflectionTestUtils.setField(journal, "windowSize", windowSize);
+
+		return journal;
+	}
+}
@@ -0,0 +1,139 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JdbcIdempotencyStoreTests {
+	static final String INSERT_SQL =
+		"INSERT IGNORE INTO t_processed_message (message_id, processed_on) VALUES (?, UTC_DATE())";
+	JdbcTemplate jdbcTemplate;
+	NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	PlatformTransactionManager transactionManager;
+	ShardRouter shardRouter;
+	JdbcIdempotencyStore jdbcIdempotencyStore;
+	Map<String, String> messages;
+	List<String> applied;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		shardRouter = ShardRouter.single();
+		jdbcIdempotencyStore = new JdbcIdempotencyStore(
+			jdbcTemplate,
+			namedParameterJdbcTemplate,
+			new TransactionTemplate(transactionManager),
+			shardRouter
+		);
+		messages = new LinkedHashMap<>();
+		messages.put("first-message", "first-product");
+		messages.put("second-message", "second-product");
+		messages.put("third-message", "third-product");
+		applied = new ArrayList<>();
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardRouter.close();
+	}
+
+	@Test
+	void shouldApplyOnlyMessagesThisTransactionClaimed() {
+		when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+			.thenReturn(List.of("first-message"));
+		when(jdbcTemplate.update(INSERT_SQL, "second-message")).thenReturn(0);
+		when(jdbcTemplate.update(INSERT_SQL, "third-message")).thenReturn(1);
+
+		Set<String> newMessageIds = jdbcIdempotencyStore.processNew(messages, productId -> productId, applied::add);
+
+		Assertions.assertEquals(Set.of("third-message"), newMessageIds);
+		Assertions.assertEquals(List.of("third-product"), applied);
+		verify(jdbcTemplate, never()).update(INSERT_SQL, "first-message");
+		verify(transactionManager).commit(any(TransactionStatus.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldPublishOnlyAfterTheShardTransactionCommits() {
+		when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+			.thenReturn(List.of());
+		when(jdbcTemplate.update(eq(INSERT_SQL), anyString())).thenReturn(1);
+		BiConsumer<String, String> onApplied = mock(BiConsumer.class);
+
+		jdbcIdempotencyStore.processNew(messages, productId -> productId, applied::add, onApplied);
+
+		InOrder inOrder = inOrder(transactionManager, onApplied);
+		inOrder.verify(transactionManager).commit(any(TransactionStatus.class));
+		inOrder.verify(onApplied).accept("first-message", "first-product");
+		inOrder.verify(onApplied).accept("second-message", "second-product");
+		inOrder.verify(onApplied).accept("third-message", "third-product");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldNotPublishRolledBackMessages() {
+		when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+			.thenReturn(List.of());
+		when(jdbcTemplate.update(eq(INSERT_SQL), anyString())).thenReturn(1);
+		BiConsumer<String, String> onApplied = mock(BiConsumer.class);
+
+		Assertions.assertThrows(IllegalStateException.class, () -> jdbcIdempotencyStore.processNew(
+			messages,
+			productId -> productId,
+			productId -> {
+				if (productId.equals("third-product")) {
+					throw new IllegalStateException("Stock update failed");
+				}
+			},
+			onApplied
+		));
+
+		verifyNoInteractions(onApplied);
+	}
+
+	@Test
+	void shouldRollBackClaimsAndStockUpdatesWhenHandlerFails() {
+		when(namedParameterJdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class)))
+			.thenReturn(List.of());
+		when(jdbcTemplate.update(eq(INSERT_SQL), anyString())).thenReturn(1);
+
+		Assertions.assertThrows(IllegalStateException.class, () -> jdbcIdempotencyStore.processNew(
+			messages,
+			productId -> productId,
+			productId -> {
+				if (productId.equals("second-product")) {
+					throw new IllegalStateException("Stock update failed");
+				}
+
+				applied.add(productId);
+			}
+		));
+
+		Assertions.assertEquals(List.of("first-product"), applied);
+		verify(jdbcTemplate, never()).update(INSERT_SQL, "third-message");
+		verify(transactionManager).rollback(any(TransactionStatus.class));
+		verify(transactionManager, never()).commit(any(TransactionStatus.class));
+	}
+}
@@ -0,0 +1,86 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProcessedMessageCleanerTests {
+	JdbcTemplate jdbcTemplate;
+	Connection connection;
+	PreparedStatement getLock;
+	PreparedStatement releaseLock;
+	PreparedStatement delete;
+	ResultSet getLockResult;
+	ShardRouter shardRouter;
+	ProcessedMessageCleaner processedMessageCleaner;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws SQLException {
+		connection = mock(Connection.class);
+		getLock = mock(PreparedStatement.class);
+		releaseLock = mock(PreparedStatement.class);
+		delete = mock(PreparedStatement.class);
+		getLockResult = mock(ResultSet.class);
+		when(getLock.executeQuery()).thenReturn(getLockResult);
+		when(releaseLock.executeQuery()).thenReturn(mock(ResultSet.class));
+		when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+			String sql = invocation.getArgument(0);
+
+			if (sql.contains("GET_LOCK")) {
+				return getLock;
+			}
+
+			return sql.contains("RELEASE_LOCK") ? releaseLock : delete;
+		});
+		jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+			.thenAnswer(invocation -> invocation.<ConnectionCallback<Long>>getArgument(0).doInConnection(connection));
+		shardRouter = ShardRouter.single();
+		processedMessageCleaner = new ProcessedMessageCleaner(jdbcTemplate, shardRouter);
+		ReflectionTestUtils.setField(processedMessageCleaner, "retentionDays", 2);
+		ReflectionTestUtils.setField(processedMessageCleaner, "batchSize", 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardRouter.close();
+	}
+
+	@Test
+	void shouldDeleteInBatchesWhileHoldingTheLock() throws SQLException {
+		when(getLockResult.next()).thenReturn(true);
+		when(getLockResult.getInt(1)).thenReturn(1);
+		when(delete.executeUpdate()).thenReturn(100, 100, 7);
+
+		processedMessageCleaner.deleteExpired();
+
+		verify(delete, times(3)).executeUpdate();
+		verify(delete).setInt(1, 2);
+		verify(delete).setInt(2, 100);
+		verify(releaseLock).executeQuery();
+	}
+
+	@Test
+	void shouldSkipWhenAnotherInstanceHoldsTheLock() throws SQLException {
+		when(getLockResult.next()).thenReturn(true);
+		when(getLockResult.getInt(1)).thenReturn(0);
+
+		processedMessageCleaner.deleteExpired();
+
+		verify(delete, never()).executeUpdate();
+		verify(releaseLock, never()).executeQuery();
+	}
+}
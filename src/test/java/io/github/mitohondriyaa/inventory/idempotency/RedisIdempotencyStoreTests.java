@@ -0,0 +1,226 @@
+package io.github.mitohondriyaa.inventory.idempotency;
+
+import io.github.mitohondriyaa.inventory.service.RedisService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisIdempotencyStoreTests {
+	static final Map<String, String> MESSAGES = new LinkedHashMap<>();
+
+	static {
+		MESSAGES.put("first-message", "first-product");
+		MESSAGES.put("second-message", "second-product");
+		MESSAGES.put("third-message", "third-product");
+	}
+
+	@TempDir
+	Path directory;
+	Path journalPath;
+	RedisService redisService;
+	CircuitBreaker redisCircuitBreaker;
+	IdempotencyJournal idempotencyJournal;
+	RedisIdempotencyStore redisIdempotencyStore;
+	SimpleMeterRegistry meterRegistry;
+	List<String> applied;
+
+	@BeforeEach
+	void setUp() {
+		journalPath = directory.resolve("idempotency.journal");
+		redisService = mock(RedisService.class);
+		redisCircuitBreaker = CircuitBreaker.ofDefaults("redis");
+		idempotencyJournal = new IdempotencyJournal();
+		ReflectionTestUtils.setField(idempotencyJournal, "journalPath", journalPath);
+		ReflectionTestUtils.setField(idempotencyJournal, "windowSize", 100);
+		meterRegistry = new SimpleMeterRegistry();
+		redisIdempotencyStore = new RedisIdempotencyStore(
+			redisService,
+			redisCircuitBreaker,
+			idempotencyJournal,
+			meterRegistry
+		);
+		applied = new ArrayList<>();
+	}
+
+	@AfterEach
+	void tearDown() {
+		idempotencyJournal.stop();
+	}
+
+	@Test
+	void shouldReleaseUnappliedRedisClaimsWhenHandlerFails() {
+		when(redisService.setValues(anyCollection())).thenReturn(MESSAGES.keySet());
+
+		Assertions.assertThrows(
+			IllegalStateException.class,
+			() -> redisIdempotencyStore.processNew(MESSAGES, productId -> productId, failingOn("second-product"))
+		);
+
+		Assertions.assertEquals(List.of("first-product"), applied);
+		verify(redisService).removeValues(Set.of("second-message", "third-message"));
+	}
+
+	@Test
+	void shouldReleaseClaimsWhoseEventWasNotPublished() {
+		when(redisService.setValues(anyCollection())).thenReturn(MESSAGES.keySet());
+		List<String> published = new ArrayList<>();
+
+		Assertions.assertThrows(
+			IllegalStateException.class,
+			() -> redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add, (messageId, productId) -> {
+				if (messageId.equals("second-message")) {
+					throw new IllegalStateException("Send failed");
+				}
+
+				published.add(messageId);
+			})
+		);
+
+		Assertions.assertEquals(List.of("first-product", "second-product"), applied);
+		Assertions.assertEquals(List.of("first-message"), published);
+		verify(redisService).removeValues(Set.of("second-message", "third-message"));
+	}
+
+	@Test
+	void shouldReleaseUnappliedJournalClaimsWhenHandlerFails() throws IOException {
+		redisCircuitBreaker.transitionToForcedOpenState();
+
+		Assertions.assertThrows(
+			IllegalStateException.class,
+			() -> redisIdempotencyStore.processNew(MESSAGES, productId -> productId, failingOn("second-product"))
+		);
+
+		Assertions.assertEquals(List.of("first-product"), applied);
+		Assertions.assertEquals(List.of("first-message"), Files.readAllLines(journalPath, StandardCharsets.UTF_8));
+		Assertions.assertEquals(1, idempotencyJournal.getBacklog());
+		verify(redisService, never()).removeValues(anyCollection());
+
+		applied.clear();
+		Set<String> redelivered = redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+
+		Assertions.assertEquals(Set.of("second-message", "third-message"), redelivered);
+		Assertions.assertEquals(List.of("second-product", "third-product"), applied);
+	}
+
+	@Test
+	void shouldFallBackToJournalWhileBreakerIsOpen() throws IOException {
+		redisCircuitBreaker.transitionToForcedOpenState();
+
+		Set<String> first = redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+		Set<String> second = redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+
+		Assertions.assertEquals(MESSAGES.keySet(), first);
+		Assertions.assertEquals(Set.of(), second);
+		Assertions.assertEquals(List.of("first-product", "second-product", "third-product"), applied);
+		Assertions.assertEquals(
+			List.copyOf(MESSAGES.keySet()),
+			Files.readAllLines(journalPath, StandardCharsets.UTF_8)
+		);
+		Assertions.assertEquals(2.0, meterRegistry.get("inventory.idempotency.redis.fallback").counter().count());
+		Assertions.assertEquals(
+			3.0,
+			meterRegistry.get("inventory.idempotency.redis.fallback.duplicates").counter().count()
+		);
+		Assertions.assertEquals(
+			3.0,
+			meterRegistry.get("inventory.idempotency.redis.reconcile.backlog").gauge().value()
+		);
+		verifyNoInteractions(redisService);
+	}
+
+	@Test
+	void shouldFallBackToJournalWhenRedisFails() {
+		when(redisService.setValues(anyCollection()))
+			.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		Set<String> newMessageIds = redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+
+		Assertions.assertEquals(MESSAGES.keySet(), newMessageIds);
+		Assertions.assertEquals(3, idempotencyJournal.getBacklog());
+		Assertions.assertEquals(1.0, meterRegistry.get("inventory.idempotency.redis.fallback").counter().count());
+	}
+
+	@Test
+	void shouldSkipIdsJournaledDuringOutageOnceRedisIsBack() {
+		redisCircuitBreaker.transitionToForcedOpenState();
+		redisIdempotencyStore.processNew(Map.of("first-message", "first-product"), productId -> productId, applied::add);
+		redisCircuitBreaker.transitionToClosedState();
+		when(redisService.setValues(anyCollection())).thenReturn(MESSAGES.keySet());
+
+		Set<String> newMessageIds = redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+
+		Assertions.assertEquals(Set.of("second-message", "third-message"), newMessageIds);
+		Assertions.assertEquals(List.of("first-product", "second-product", "third-product"), applied);
+	}
+
+	@Test
+	void shouldNotReconcileWhileBreakerIsOpen() throws IOException {
+		redisCircuitBreaker.transitionToForcedOpenState();
+		redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+
+		redisIdempotencyStore.reconcile();
+
+		Assertions.assertEquals(3, idempotencyJournal.getBacklog());
+		verifyNoInteractions(redisService);
+	}
+
+	@Test
+	void shouldReconcileJournalIntoRedisOnceBreakerCloses() throws IOException {
+		redisCircuitBreaker.transitionToForcedOpenState();
+		redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+		redisCircuitBreaker.transitionToClosedState();
+
+		redisIdempotencyStore.reconcile();
+
+		verify(redisService).setValues(List.copyOf(MESSAGES.keySet()));
+		Assertions.assertEquals(0, idempotencyJournal.getBacklog());
+		Assertions.assertEquals(0, Files.size(journalPath));
+	}
+
+	@Test
+	void shouldKeepJournalWhenReconcileFails() throws IOException {
+		redisCircuitBreaker.transitionToForcedOpenState();
+		redisIdempotencyStore.processNew(MESSAGES, productId -> productId, applied::add);
+		redisCircuitBreaker.transitionToClosedState();
+		when(redisService.setValues(anyCollection()))
+			.thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+		redisIdempotencyStore.reconcile();
+
+		Assertions.assertEquals(3, idempotencyJournal.getBacklog());
+		Assertions.assertEquals(
+			List.copyOf(MESSAGES.keySet()),
+			Files.readAllLines(journalPath, StandardCharsets.UTF_8)
+		);
+	}
+
+	private Consumer<String> failingOn(String failingProductId) {
+		return productId -> {
+			if (productId.equals(failingProductId)) {
+				throw new IllegalStateException("Stock update failed");
+			}
+
+			applied.add(productId);
+		};
+	}
+}
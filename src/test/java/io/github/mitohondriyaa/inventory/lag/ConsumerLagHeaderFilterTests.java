@@ -0,0 +1,43 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.mockito.Mockito.*;
+
+class ConsumerLagHeaderFilterTests {
+	@Test
+	void shouldReportLagWhileFresh() throws Exception {
+		ConsumerLagMonitor consumerLagMonitor = mock(ConsumerLagMonitor.class);
+		when(consumerLagMonitor.getTopicLag("order-placed")).thenReturn(42L);
+
+		MockHttpServletResponse response = filter(consumerLagMonitor);
+
+		Assertions.assertEquals("42", response.getHeader(ConsumerLagHeaderFilter.CONSUMER_LAG_HEADER));
+		Assertions.assertEquals("false", response.getHeader(ConsumerLagHeaderFilter.STALE_HEADER));
+	}
+
+	@Test
+	void shouldOmitLagAndMarkStaleWhenRefreshFailed() throws Exception {
+		ConsumerLagMonitor consumerLagMonitor = mock(ConsumerLagMonitor.class);
+		when(consumerLagMonitor.isStale()).thenReturn(true);
+		when(consumerLagMonitor.isTopicStale("order-placed")).thenReturn(true);
+
+		MockHttpServletResponse response = filter(consumerLagMonitor);
+
+		Assertions.assertNull(response.getHeader(ConsumerLagHeaderFilter.CONSUMER_LAG_HEADER));
+		Assertions.assertEquals("true", response.getHeader(ConsumerLagHeaderFilter.STALE_HEADER));
+	}
+
+	private static MockHttpServletResponse filter(ConsumerLagMonitor consumerLagMonitor) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/inventory/check");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		new ConsumerLagHeaderFilter(consumerLagMonitor).doFilter(request, response, new MockFilterChain());
+
+		return response;
+	}
+}
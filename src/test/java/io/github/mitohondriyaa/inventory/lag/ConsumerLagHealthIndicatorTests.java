@@ -0,0 +1,65 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+class ConsumerLagHealthIndicatorTests {
+	ConsumerLagMonitor consumerLagMonitor;
+	ConsumerLagHealthIndicator consumerLagHealthIndicator;
+
+	@BeforeEach
+	void setUp() {
+		consumerLagMonitor = mock(ConsumerLagMonitor.class);
+		consumerLagHealthIndicator = new ConsumerLagHealthIndicator(
+			consumerLagMonitor,
+			new ConsumerLagProperties(10000, 2000, Map.of("order-placed", 1000L))
+		);
+	}
+
+	@Test
+	void shouldBeUpAtTheThreshold() {
+		when(consumerLagMonitor.getTopicLags()).thenReturn(Map.of("order-placed", 1000L, "order-cancelled", 10000L));
+
+		Assertions.assertEquals(Status.UP, consumerLagHealthIndicator.health().getStatus());
+	}
+
+	@Test
+	void shouldDegradeWhenTopicThresholdIsExceeded() {
+		when(consumerLagMonitor.getTopicLags()).thenReturn(Map.of("order-placed", 1001L));
+		when(consumerLagMonitor.getTotalLag()).thenReturn(1001L);
+
+		Health health = consumerLagHealthIndicator.health();
+
+		Assertions.assertEquals(ConsumerLagHealthIndicator.DEGRADED, health.getStatus());
+		Assertions.assertEquals(1001L, health.getDetails().get("totalLag"));
+	}
+
+	@Test
+	void shouldUseDefaultThresholdForOtherTopics() {
+		when(consumerLagMonitor.getTopicLags()).thenReturn(Map.of("order-cancelled", 5000L));
+
+		Assertions.assertEquals(Status.UP, consumerLagHealthIndicator.health().getStatus());
+
+		when(consumerLagMonitor.getTopicLags()).thenReturn(Map.of("order-cancelled", 10001L));
+
+		Assertions.assertEquals(ConsumerLagHealthIndicator.DEGRADED, consumerLagHealthIndicator.health().getStatus());
+	}
+
+	@Test
+	void shouldReportUnknownWhenLagIsStale() {
+		when(consumerLagMonitor.getTopicLags()).thenReturn(Map.of("order-placed", 5000L));
+		when(consumerLagMonitor.isStale()).thenReturn(true);
+
+		Health health = consumerLagHealthIndicator.health();
+
+		Assertions.assertEquals(Status.UNKNOWN, health.getStatus());
+		Assertions.assertEquals(true, health.getDetails().get("stale"));
+	}
+}
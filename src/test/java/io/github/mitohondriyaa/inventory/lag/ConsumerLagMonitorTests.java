@@ -0,0 +1,126 @@
+package io.github.mitohondriyaa.inventory.lag;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ConsumerLagMonitorTests {
+	static final TopicPartition ORDER_PLACED = new TopicPartition("order-placed", 0);
+	Admin admin;
+	MessageListenerContainer container;
+	SimpleMeterRegistry meterRegistry;
+	ConsumerLagMonitor consumerLagMonitor;
+
+	@BeforeEach
+	void setUp() {
+		admin = mock(Admin.class);
+		KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+		container = mock(MessageListenerContainer.class);
+		when(container.getAssignedPartitions()).thenReturn(Set.of(ORDER_PLACED));
+		when(registry.getListenerContainers()).thenReturn(List.of(container));
+		meterRegistry = new SimpleMeterRegistry();
+		consumerLagMonitor = new ConsumerLagMonitor(
+			mock(KafkaAdmin.class),
+			registry,
+			new ConsumerLagProperties(10000, 2000, Map.of("order-placed", 50L)),
+			meterRegistry
+		);
+		ReflectionTestUtils.setField(consumerLagMonitor, "groupId", "inventoryService");
+		ReflectionTestUtils.setField(consumerLagMonitor, "consumerLagAdmin", admin);
+	}
+
+	@Test
+	void shouldComputeLagFromCommittedAndEndOffsets() {
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(40))), 100);
+
+		consumerLagMonitor.refresh();
+
+		Assertions.assertFalse(consumerLagMonitor.isStale());
+		Assertions.assertEquals(Map.of("order-placed", 60L), consumerLagMonitor.getTopicLags());
+		Assertions.assertEquals(60, consumerLagMonitor.getTotalLag());
+	}
+
+	@Test
+	void shouldMarkLagStaleWhenRefreshFails() {
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(40))), 100);
+		consumerLagMonitor.refresh();
+		KafkaFutureImpl<Map<TopicPartition, OffsetAndMetadata>> failed = new KafkaFutureImpl<>();
+		failed.completeExceptionally(new TimeoutException("Broker unavailable"));
+		stubOffsets(failed, 100);
+
+		consumerLagMonitor.refresh();
+
+		Assertions.assertTrue(consumerLagMonitor.isStale());
+
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(100))), 100);
+		consumerLagMonitor.refresh();
+
+		Assertions.assertFalse(consumerLagMonitor.isStale());
+		Assertions.assertEquals(0, consumerLagMonitor.getTotalLag());
+	}
+
+	@Test
+	void shouldBeStaleBeforeFirstRefresh() {
+		Assertions.assertTrue(consumerLagMonitor.isStale());
+		Assertions.assertTrue(consumerLagMonitor.isTopicStale("order-placed"));
+	}
+
+	@Test
+	void shouldMarkTopicStaleAboveItsThreshold() {
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(80))), 100);
+		consumerLagMonitor.refresh();
+
+		Assertions.assertFalse(consumerLagMonitor.isTopicStale("order-placed"));
+
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(40))), 100);
+		consumerLagMonitor.refresh();
+
+		Assertions.assertTrue(consumerLagMonitor.isTopicStale("order-placed"));
+	}
+
+	@Test
+	void shouldRemovePartitionGaugeAfterRevocation() {
+		stubOffsets(KafkaFuture.completedFuture(Map.of(ORDER_PLACED, new OffsetAndMetadata(40))), 100);
+		consumerLagMonitor.refresh();
+
+		Assertions.assertEquals(60, meterRegistry.get("inventory.consumer.lag").tag("partition", "0").gauge().value());
+
+		when(container.getAssignedPartitions()).thenReturn(Set.of());
+		consumerLagMonitor.refresh();
+
+		Assertions.assertNull(meterRegistry.find("inventory.consumer.lag").gauge());
+		Assertions.assertEquals(0, consumerLagMonitor.getTotalLag());
+	}
+
+	private void stubOffsets(KafkaFuture<Map<TopicPartition, OffsetAndMetadata>> committedOffsets, long endOffset) {
+		ListConsumerGroupOffsetsResult groupOffsets = mock(ListConsumerGroupOffsetsResult.class);
+		when(groupOffsets.partitionsToOffsetAndMetadata()).thenReturn(committedOffsets);
+		when(admin.listConsumerGroupOffsets(anyString())).thenReturn(groupOffsets);
+		ListOffsetsResult endOffsets = new ListOffsetsResult(Map.of(
+			ORDER_PLACED,
+			KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(endOffset, 0, Optional.empty()))
+		));
+		when(admin.listOffsets(anyMap())).thenReturn(endOffsets);
+	}
+}
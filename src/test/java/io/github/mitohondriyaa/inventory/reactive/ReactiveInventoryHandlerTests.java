@@ -0,0 +1,105 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import io.github.mitohondriyaa.inventory.lag.ConsumerLagMonitor;
+import io.github.mitohondriyaa.inventory.security.CachingJwtDecoder;
+import io.github.mitohondriyaa.inventory.service.InventoryStockCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+class ReactiveInventoryHandlerTests {
+	JwtDecoder delegate;
+	ReactiveInventoryRepository reactiveInventoryRepository;
+	WebTestClient webTestClient;
+	List<String> decodingThreads;
+
+	@BeforeEach
+	void setUp() {
+		delegate = mock(JwtDecoder.class);
+		reactiveInventoryRepository = mock(ReactiveInventoryRepository.class);
+		InventoryStockCache inventoryStockCache = mock(InventoryStockCache.class);
+		decodingThreads = new ArrayList<>();
+		when(inventoryStockCache.peek(anyString())).thenReturn(Optional.empty());
+		when(reactiveInventoryRepository.findQuantityByProductId("product")).thenReturn(Mono.just(5));
+		when(delegate.decode(anyString())).thenAnswer(invocation -> {
+			decodingThreads.add(Thread.currentThread().getName());
+			String token = invocation.getArgument(0);
+
+			if ("bad-token".equals(token)) {
+				throw new BadJwtException("Signed JWT rejected");
+			}
+
+			return jwt(token, "manager-token".equals(token) ? "INVENTORY_MANAGER" : "USER");
+		});
+
+		ReactiveInventoryHandler handler = new ReactiveInventoryHandler(
+			reactiveInventoryRepository,
+			inventoryStockCache,
+			new CachingJwtDecoder(delegate, 10, Duration.ofMinutes(5), Clock.systemUTC(), new SimpleMeterRegistry()),
+			mock(ConsumerLagMonitor.class)
+		);
+		webTestClient = WebTestClient.bindToRouterFunction(handler.routes()).build();
+	}
+
+	@Test
+	void shouldVerifyTokenOffTheEventLoopOnlyOnCacheMiss() {
+		checkStock("manager-token").expectStatus().isOk().expectBody(Boolean.class).isEqualTo(true);
+		checkStock("manager-token").expectStatus().isOk();
+		checkStock("manager-token").expectStatus().isOk();
+
+		Assertions.assertEquals(1, decodingThreads.size());
+		Assertions.assertTrue(decodingThreads.getFirst().startsWith("boundedElastic"));
+	}
+
+	@Test
+	void shouldRejectMissingOrInvalidToken() {
+		webTestClient.get()
+			.uri("/api/inventory/check?productId=product&quantity=1")
+			.exchange()
+			.expectStatus().isUnauthorized();
+		checkStock("bad-token").expectStatus().isUnauthorized();
+		verifyNoInteractions(reactiveInventoryRepository);
+	}
+
+	@Test
+	void shouldRejectTokenWithoutInventoryManagerRole() {
+		checkStock("user-token").expectStatus().isForbidden();
+		checkStock("user-token").expectStatus().isForbidden();
+
+		verify(delegate, times(1)).decode("user-token");
+		verifyNoInteractions(reactiveInventoryRepository);
+	}
+
+	private WebTestClient.ResponseSpec checkStock(String token) {
+		return webTestClient.get()
+			.uri("/api/inventory/check?productId=product&quantity=1")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+			.exchange();
+	}
+
+	private static Jwt jwt(String tokenValue, String role) {
+		return Jwt.withTokenValue(tokenValue)
+			.header("alg", "none")
+			.claim("sub", "h7g3hg383837h7733hf38h37")
+			.claim("realm_access", Map.of("roles", List.of(role)))
+			.expiresAt(Instant.now().plusSeconds(60))
+			.build();
+	}
+}
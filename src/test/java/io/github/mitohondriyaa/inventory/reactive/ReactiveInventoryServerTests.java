@@ -0,0 +1,23 @@
+package io.github.mitohondriyaa.inventory.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.*;
+
+class ReactiveInventoryServerTests {
+	@Test
+	void shouldStopCleanlyAfterAFailedStart() {
+		ReactiveInventoryServer server = new ReactiveInventoryServer(
+			mock(ReactiveInventoryHandler.class),
+			new ObjectMapper()
+		);
+		ReflectionTestUtils.setField(server, "shardingEnabled", true);
+
+		Assertions.assertThrows(IllegalStateException.class, server::start);
+		Assertions.assertFalse(server.isRunning());
+		Assertions.assertDoesNotThrow(() -> server.stop());
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.github.mitohondriyaa.inventory.exception.RpcException;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+class StockRpcClientTests {
+	EventLoopGroup group;
+	Channel serverChannel;
+	LocalAddress address;
+
+	@BeforeEach
+	void setUp() {
+		group = new DefaultEventLoopGroup(1);
+		address = new LocalAddress("stock-rpc-client-" + UUID.randomUUID());
+		serverChannel = new ServerBootstrap()
+			.group(group)
+			.channel(LocalServerChannel.class)
+			.childHandler(new ChannelInitializer<>() {
+				@Override
+				protected void initChannel(Channel channel) {
+					channel.pipeline()
+						.addLast(new LengthFieldBasedFrameDecoder(
+							1024, 0, RpcProtocol.LENGTH_FIELD_BYTES, 0, RpcProtocol.LENGTH_FIELD_BYTES
+						))
+						.addLast(new LengthFieldPrepender(RpcProtocol.LENGTH_FIELD_BYTES))
+						.addLast(new ScriptedServer());
+				}
+			})
+			.bind(address)
+			.syncUninterruptibly()
+			.channel();
+	}
+
+	@AfterEach
+	void tearDown() {
+		serverChannel.close().syncUninterruptibly();
+		group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+	}
+
+	@Test
+	void shouldTimeOutWhenTheServerNeverAnswers() {
+		try (StockRpcClient client = StockRpcClient.connect(address, "token", 1024, Duration.ofMillis(200))) {
+			RpcException exception = Assertions.assertThrows(RpcException.class, () -> client.check("silent", 1));
+
+			Assertions.assertEquals(504, exception.getStatus());
+		}
+	}
+
+	@Test
+	void shouldFailTheCallWhenTheResponseCannotBeRead() {
+		try (StockRpcClient client = StockRpcClient.connect(address, "token", 1024, Duration.ofSeconds(5))) {
+			RpcException exception = Assertions.assertThrows(RpcException.class, () -> client.getStock("truncated"));
+
+			Assertions.assertEquals(500, exception.getStatus());
+		}
+	}
+
+	// Authenticates every token, never answers "silent" and answers "truncated" with an empty STOCK frame.
+	private static class ScriptedServer extends SimpleChannelInboundHandler<ByteBuf> {
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, ByteBuf frame) {
+			byte opcode = frame.readByte();
+			int requestId = frame.readInt();
+			String argument = RpcProtocol.readString(frame);
+			ByteBuf response = ctx.alloc().buffer();
+
+			if (opcode == RpcOperation.AUTHENTICATE.getCode()) {
+				RpcProtocol.writeHeader(response, RpcProtocol.AUTHENTICATED, requestId);
+			} else if ("truncated".equals(argument)) {
+				RpcProtocol.writeHeader(response, RpcProtocol.STOCK, requestId);
+			} else {
+				response.release();
+
+				return;
+			}
+
+			ctx.writeAndFlush(response);
+		}
+	}
+}
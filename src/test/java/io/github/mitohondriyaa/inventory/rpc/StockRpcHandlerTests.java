@@ -0,0 +1,183 @@
+package io.github.mitohondriyaa.inventory.rpc;
+
+import io.github.mitohondriyaa.inventory.converter.KeycloakRealmRoleConverter;
+import io.github.mitohondriyaa.inventory.service.InventoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+class StockRpcHandlerTests {
+	static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	InventoryService inventoryService;
+	JwtDecoder jwtDecoder;
+	MutableClock clock;
+	EmbeddedChannel channel;
+
+	@BeforeEach
+	void setUp() {
+		inventoryService = mock(InventoryService.class);
+		jwtDecoder = mock(JwtDecoder.class);
+		clock = new MutableClock(NOW);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		Map<RpcOperation, Timer> timers = new EnumMap<>(RpcOperation.class);
+
+		for (RpcOperation operation : RpcOperation.values()) {
+			timers.put(operation, meterRegistry.timer("inventory.rpc.requests", "operation", operation.getTagValue()));
+		}
+
+		channel = new EmbeddedChannel(new StockRpcHandler(
+			inventoryService, jwtDecoder, new KeycloakRealmRoleConverter(), timers, 100, clock
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void shouldRejectRequestsBeforeAuthentication() {
+		assertError(send(RpcOperation.CHECK, 1, this::checkPayload), 401, "User not authenticated");
+		verifyNoInteractions(inventoryService);
+	}
+
+	@Test
+	void shouldRejectInvalidToken() {
+		when(jwtDecoder.decode("bad-token")).thenThrow(new BadJwtException("Signed JWT rejected"));
+
+		assertError(authenticate("bad-token"), 401, "User not authenticated");
+		assertError(send(RpcOperation.CHECK, 2, this::checkPayload), 401, "User not authenticated");
+	}
+
+	@Test
+	void shouldRejectTokenWithoutInventoryManagerRole() {
+		when(jwtDecoder.decode("user-token")).thenReturn(jwt("user-token", NOW.plusSeconds(60), "USER"));
+
+		assertError(authenticate("user-token"), 403, "User not authorized");
+		assertError(send(RpcOperation.CHECK, 2, this::checkPayload), 401, "User not authenticated");
+		verifyNoInteractions(inventoryService);
+	}
+
+	@Test
+	void shouldRejectRequestsOnceTheTokenExpires() {
+		when(jwtDecoder.decode("manager-token")).thenReturn(jwt("manager-token", NOW.plusSeconds(60), "INVENTORY_MANAGER"));
+		when(inventoryService.isInStock("product", 1)).thenReturn(true);
+
+		ByteBuf authenticated = authenticate("manager-token");
+		Assertions.assertEquals(RpcProtocol.AUTHENTICATED, authenticated.readByte());
+		authenticated.release();
+
+		ByteBuf checked = send(RpcOperation.CHECK, 2, this::checkPayload);
+		Assertions.assertEquals(RpcProtocol.CHECK_RESULT, checked.readByte());
+		Assertions.assertEquals(2, checked.readInt());
+		Assertions.assertTrue(checked.readBoolean());
+		checked.release();
+
+		clock.instant = NOW.plusSeconds(60);
+
+		assertError(send(RpcOperation.CHECK, 3, this::checkPayload), 401, "User not authenticated");
+		verify(inventoryService, times(1)).isInStock("product", 1);
+	}
+
+	@Test
+	void shouldHideInternalErrorDetails() {
+		when(jwtDecoder.decode("manager-token")).thenReturn(jwt("manager-token", NOW.plusSeconds(60), "INVENTORY_MANAGER"));
+		when(inventoryService.isInStock("product", 1))
+			.thenThrow(new IllegalStateException("Connection to jdbc:mysql://db-primary:3306 refused"));
+		authenticate("manager-token").release();
+
+		assertError(send(RpcOperation.CHECK, 2, this::checkPayload), 500, "Internal server error");
+	}
+
+	@Test
+	void shouldAnswerFramesShorterThanTheHeaderWithBadRequest() {
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[] {RpcOperation.CHECK.getCode(), 0, 0}));
+		ByteBuf response = channel.readOutbound();
+
+		Assertions.assertTrue(channel.isActive());
+		assertError(response, 400, "Malformed request: frame of 3 bytes has no header");
+	}
+
+	private ByteBuf authenticate(String token) {
+		return send(RpcOperation.AUTHENTICATE, 1, buffer -> RpcProtocol.writeString(buffer, token));
+	}
+
+	private void checkPayload(ByteBuf buffer) {
+		RpcProtocol.writeString(buffer, "product");
+		buffer.writeInt(1);
+	}
+
+	private ByteBuf send(RpcOperation operation, int requestId, Consumer<ByteBuf> payloadWriter) {
+		ByteBuf request = Unpooled.buffer();
+		RpcProtocol.writeHeader(request, operation.getCode(), requestId);
+		payloadWriter.accept(request);
+		channel.writeInbound(request);
+
+		return channel.readOutbound();
+	}
+
+	private static void assertError(ByteBuf response, int status, String message) {
+		try {
+			Assertions.assertEquals(RpcProtocol.ERROR, response.readByte());
+			response.readInt();
+			Assertions.assertEquals(status, response.readUnsignedShort());
+			Assertions.assertEquals(message, RpcProtocol.readString(response));
+		} finally {
+			response.release();
+		}
+	}
+
+	private static Jwt jwt(String tokenValue, Instant expiresAt, String... roles) {
+		return Jwt.withTokenValue(tokenValue)
+			.header("alg", "none")
+			.claim("sub", "order-service")
+			.claim("realm_access", Map.of("roles", List.of(roles)))
+			.issuedAt(NOW)
+			.expiresAt(expiresAt)
+			.build();
+	}
+
+	static class MutableClock extends Clock {
+		Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.mitohondriyaa.inventory.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.mockito.Mockito.*;
+
+class CachingJwtDecoderTests {
+	static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+	JwtDecoder delegate;
+	Jwt jwt;
+
+	@BeforeEach
+	void setUp() {
+		jwt = Jwt.withTokenValue("service-token")
+			.header("alg", "RS256")
+			.claim("sub", "order-service")
+			.issuedAt(NOW)
+			.expiresAt(NOW.plusSeconds(60))
+			.build();
+		delegate = mock(JwtDecoder.class);
+		when(delegate.decode("service-token")).thenReturn(jwt);
+	}
+
+	@Test
+	void shouldReuseVerifiedTokenUntilItExpires() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CachingJwtDecoder beforeExpiry = new CachingJwtDecoder(
+			delegate, 10, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry
+		);
+
+		Assertions.assertSame(jwt, beforeExpiry.decode("service-token"));
+		Assertions.assertSame(jwt, beforeExpiry.decode("service-token"));
+		verify(delegate, times(1)).decode("service-token");
+		Assertions.assertEquals(1.0, meterRegistry.get("inventory.auth.token-cache").tag("result", "hit").counter().count());
+		Assertions.assertEquals(1.0, meterRegistry.get("inventory.auth.token-cache").tag("result", "miss").counter().count());
+
+		CachingJwtDecoder afterExpiry = new CachingJwtDecoder(
+			delegate, 10, Duration.ofMinutes(5), Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC), new SimpleMeterRegistry()
+		);
+
+		afterExpiry.decode("service-token");
+		afterExpiry.decode("service-token");
+		verify(delegate, times(3)).decode("service-token");
+	}
+
+	@Test
+	void shouldCapCacheLifetimeAtMaxTtl() {
+		MutableClock clock = new MutableClock(NOW);
+		CachingJwtDecoder cachingJwtDecoder = new CachingJwtDecoder(
+			delegate, 10, Duration.ofSeconds(10), clock, new SimpleMeterRegistry()
+		);
+
+		cachingJwtDecoder.decode("service-token");
+		clock.instant = NOW.plusSeconds(10);
+		cachingJwtDecoder.decode("service-token");
+
+		verify(delegate, times(2)).decode("service-token");
+	}
+
+	@Test
+	void shouldNotCacheBeyondMaxEntries() {
+		CachingJwtDecoder cachingJwtDecoder = new CachingJwtDecoder(
+			delegate, 0, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC), new SimpleMeterRegistry()
+		);
+
+		cachingJwtDecoder.decode("service-token");
+		cachingJwtDecoder.decode("service-token");
+
+		verify(delegate, times(2)).decode("service-token");
+	}
+
+	@Test
+	void shouldVerifyAgainAfterClear() {
+		CachingJwtDecoder cachingJwtDecoder = new CachingJwtDecoder(
+			delegate, 10, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC), new SimpleMeterRegistry()
+		);
+
+		cachingJwtDecoder.decode("service-token");
+		cachingJwtDecoder.clear();
+		cachingJwtDecoder.decode("service-token");
+
+		verify(delegate, times(2)).decode("service-token");
+	}
+
+	@Test
+	void shouldPeekOnlyAtVerifiedTokens() {
+		MutableClock clock = new MutableClock(NOW);
+		CachingJwtDecoder cachingJwtDecoder = new CachingJwtDecoder(
+			delegate, 10, Duration.ofMinutes(5), clock, new SimpleMeterRegistry()
+		);
+
+		Assertions.assertTrue(cachingJwtDecoder.peek("service-token").isEmpty());
+		cachingJwtDecoder.decode("service-token");
+		Assertions.assertSame(jwt, cachingJwtDecoder.peek("service-token").orElseThrow());
+
+		clock.instant = NOW.plusSeconds(60);
+
+		Assertions.assertTrue(cachingJwtDecoder.peek("service-token").isEmpty());
+		verify(delegate, times(1)).decode("service-token");
+	}
+
+	static class MutableClock extends Clock {
+		Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
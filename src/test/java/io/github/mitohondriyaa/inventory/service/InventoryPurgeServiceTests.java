@@ -0,0 +1,112 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.datasource.ReplicaMonitor;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryPurgeServiceTests {
+	InventoryRepository inventoryRepository;
+	JdbcTemplate jdbcTemplate;
+	SimpleMeterRegistry meterRegistry;
+	InventoryPurgeService inventoryPurgeService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		inventoryRepository = mock(InventoryRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		ObjectProvider<ReplicaMonitor> replicaMonitor = mock(ObjectProvider.class);
+
+		inventoryPurgeService = new InventoryPurgeService(
+			inventoryRepository,
+			jdbcTemplate,
+			replicaMonitor,
+			ShardRouter.single(),
+			meterRegistry
+		);
+		ReflectionTestUtils.setField(inventoryPurgeService, "gracePeriodMinutes", 10);
+		ReflectionTestUtils.setField(inventoryPurgeService, "chunkSize", 2);
+		ReflectionTestUtils.setField(inventoryPurgeService, "maxChunksPerRun", 10);
+		ReflectionTestUtils.setField(inventoryPurgeService, "chunkPauseMs", 0L);
+		ReflectionTestUtils.setField(inventoryPurgeService, "maxRowLockWaits", 5L);
+		ReflectionTestUtils.setField(inventoryPurgeService, "maxReplicationLagSeconds", 5L);
+
+		when(inventoryRepository.countDeleted()).thenReturn(5L);
+		when(inventoryRepository.purgeDeletedByIds(anyCollection()))
+			.thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+	}
+
+	@Test
+	void shouldPurgeBacklogInChunks() {
+		rowLockWaits(0);
+		when(inventoryRepository.findIdsDeletedBefore(any(Instant.class), eq(2)))
+			.thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+		inventoryPurgeService.purgeDeletedInventories();
+
+		InOrder inOrder = inOrder(inventoryRepository);
+		inOrder.verify(inventoryRepository).purgeDeletedByIds(List.of(1L, 2L));
+		inOrder.verify(inventoryRepository).purgeDeletedByIds(List.of(3L, 4L));
+		inOrder.verify(inventoryRepository).purgeDeletedByIds(List.of(5L));
+		verify(inventoryRepository, times(3)).findIdsDeletedBefore(any(Instant.class), eq(2));
+		Assertions.assertEquals(5.0, meterRegistry.counter("inventory.purge.rows").count());
+		Assertions.assertEquals(0.0, meterRegistry.get("inventory.purge.backlog").gauge().value());
+	}
+
+	@Test
+	void shouldStopAtMaxChunksPerRun() {
+		ReflectionTestUtils.setField(inventoryPurgeService, "maxChunksPerRun", 2);
+		rowLockWaits(0);
+		when(inventoryRepository.findIdsDeletedBefore(any(Instant.class), eq(2)))
+			.thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+		inventoryPurgeService.purgeDeletedInventories();
+
+		verify(inventoryRepository, times(2)).purgeDeletedByIds(anyCollection());
+		Assertions.assertEquals(4.0, meterRegistry.counter("inventory.purge.rows").count());
+		Assertions.assertEquals(1.0, meterRegistry.get("inventory.purge.backlog").gauge().value());
+	}
+
+	@Test
+	void shouldThrottleWhenRowLockWaitsExceedLimit() {
+		rowLockWaits(0, 6);
+		when(inventoryRepository.findIdsDeletedBefore(any(Instant.class), eq(2)))
+			.thenReturn(List.of(1L, 2L), List.of(3L, 4L));
+
+		inventoryPurgeService.purgeDeletedInventories();
+
+		verify(inventoryRepository, times(1)).purgeDeletedByIds(anyCollection());
+		verify(inventoryRepository).purgeDeletedByIds(List.of(1L, 2L));
+		Assertions.assertEquals(1.0, meterRegistry.counter("inventory.purge.throttled").count());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void rowLockWaits(long first, long... next) {
+		Map<String, Object>[] nextStatuses = Arrays.stream(next)
+			.mapToObj(this::status)
+			.toArray(Map[]::new);
+
+		when(jdbcTemplate.queryForMap(anyString())).thenReturn(status(first), nextStatuses);
+	}
+
+	private Map<String, Object> status(long rowLockWaits) {
+		return Map.of("Variable_name", "Innodb_row_lock_current_waits", "Value", Long.toString(rowLockWaits));
+	}
+}
@@ -0,0 +1,193 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.idempotency.IdempotencyStore;
+import io.github.mitohondriyaa.inventory.idempotency.IdempotencyStoreType;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.github.mitohondriyaa.order.event.OrderCancelledEvent;
+import io.github.mitohondriyaa.product.event.ProductCreatedEvent;
+import io.github.mitohondriyaa.product.event.ProductDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryServiceTests {
+	InventoryRepository inventoryRepository;
+	RecentMessageIdCache recentMessageIdCache;
+	ProductKeyDictionary productKeyDictionary;
+	SimpleMeterRegistry meterRegistry;
+	EventLatencyTracker eventLatencyTracker;
+	InventoryService inventoryService;
+
+	@BeforeEach
+	void setUp() {
+		inventoryRepository = mock(InventoryRepository.class);
+		when(inventoryRepository.findIdsByProductIdIn(any())).thenReturn(Map.of());
+		recentMessageIdCache = mock(RecentMessageIdCache.class);
+		productKeyDictionary = mock(ProductKeyDictionary.class);
+		meterRegistry = new SimpleMeterRegistry();
+		eventLatencyTracker = mock(EventLatencyTracker.class);
+		inventoryService = new InventoryService(
+			inventoryRepository,
+			List.of(new ApplyInOrderStore()),
+			recentMessageIdCache,
+			mock(InventoryStockCache.class),
+			productKeyDictionary,
+			new InventoryMetrics(meterRegistry),
+			eventLatencyTracker,
+			mock(InventoryEventMapper.class),
+			ShardRouter.single()
+		);
+		ReflectionTestUtils.setField(inventoryService, "orderCancelledStoreType", IdempotencyStoreType.REDIS);
+	}
+
+	@Test
+	void shouldPublishAppliedCancellationsAndReportTheFailingRecord() {
+		when(productKeyDictionary.testByKey(eq("bad-product"), any()))
+			.thenThrow(new IllegalStateException("lock wait timeout"));
+		when(productKeyDictionary.testByKey(eq("first-product"), any())).thenReturn(Optional.of(true));
+
+		BatchListenerFailedException exception = Assertions.assertThrows(
+			BatchListenerFailedException.class,
+			() -> inventoryService.orderCancelled(List.of(
+				orderCancelled(0, "first-message", "first-product"),
+				orderCancelled(1, null, "first-product"),
+				orderCancelled(2, "second-message", "bad-product"),
+				orderCancelled(3, "third-message", "first-product")
+			))
+		);
+
+		Assertions.assertEquals(2, exception.getIndex());
+		verify(eventLatencyTracker, times(1)).send(any(), any());
+		verify(recentMessageIdCache).addAll(Set.of("first-message"));
+		verify(recentMessageIdCache, never()).addAll(argThat(messageIds -> messageIds.contains("second-message")));
+	}
+
+	@Test
+	void shouldCountDuplicatesOnlyAmongRecordsWithMessageId() {
+		when(productKeyDictionary.testByKey(eq("first-product"), any())).thenReturn(Optional.of(true));
+
+		inventoryService.orderCancelled(List.of(
+			orderCancelled(0, "first-message", "first-product"),
+			orderCancelled(1, null, "first-product"),
+			orderCancelled(2, "first-message", "first-product")
+		));
+
+		Assertions.assertEquals(
+			1.0,
+			meterRegistry.get("inventory.cancellations").tag("outcome", "applied").counter().count()
+		);
+		Assertions.assertEquals(
+			1.0,
+			meterRegistry.get("inventory.cancellations").tag("outcome", "duplicate").counter().count()
+		);
+	}
+
+	@Test
+	void shouldReportOnlyTheFailingProductCreatedRecord() {
+		doThrow(new DataIntegrityViolationException("bad product"))
+			.when(inventoryRepository).insertIfAbsent(argThat(containsProduct("bad-product")));
+
+		BatchListenerFailedException exception = Assertions.assertThrows(
+			BatchListenerFailedException.class,
+			() -> inventoryService.createInventories(List.of(
+				productCreated("first-product"),
+				productCreated("bad-product"),
+				productCreated("third-product")
+			))
+		);
+
+		Assertions.assertEquals(1, exception.getIndex());
+		Assertions.assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+		verify(inventoryRepository).insertIfAbsent(List.of("first-product"));
+		verify(inventoryRepository, never()).insertIfAbsent(List.of("third-product"));
+	}
+
+	@Test
+	void shouldNotFailBatchWhenEveryRecordSucceedsOnItsOwn() {
+		doThrow(new IllegalStateException("lock wait timeout"))
+			.doNothing()
+			.when(inventoryRepository).markDeletedByProductIdIn(any());
+
+		Assertions.assertDoesNotThrow(() -> inventoryService.deleteInventoriesByProductID(List.of(
+			productDeleted("first-product"),
+			productDeleted("second-product")
+		)));
+
+		verify(inventoryRepository).markDeletedByProductIdIn(List.of("first-product"));
+		verify(inventoryRepository).markDeletedByProductIdIn(List.of("second-product"));
+	}
+
+	private static ArgumentMatcher<Collection<String>> containsProduct(String productId) {
+		return productIds -> productIds != null && productIds.contains(productId);
+	}
+
+	private static ProductCreatedEvent productCreated(String productId) {
+		ProductCreatedEvent productCreatedEvent = new ProductCreatedEvent();
+		productCreatedEvent.setProductId(productId);
+
+		return productCreatedEvent;
+	}
+
+	private static ConsumerRecord<String, Object> orderCancelled(long offset, String messageId, String productId) {
+		OrderCancelledEvent orderCancelledEvent = new OrderCancelledEvent();
+		orderCancelledEvent.setOrderNumber("order-" + offset);
+		orderCancelledEvent.setProductId(productId);
+		orderCancelledEvent.setQuantity(1);
+		ConsumerRecord<String, Object> record = new ConsumerRecord<>("order-cancelled", 0, offset, productId, orderCancelledEvent);
+
+		if (messageId != null) {
+			record.headers().add("messageId", messageId.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return record;
+	}
+
+	private static ProductDeletedEvent productDeleted(String productId) {
+		ProductDeletedEvent productDeletedEvent = new ProductDeletedEvent();
+		productDeletedEvent.setProductId(productId);
+
+		return productDeletedEvent;
+	}
+
+	static class ApplyInOrderStore implements IdempotencyStore {
+		@Override
+		public IdempotencyStoreType getType() {
+			return IdempotencyStoreType.REDIS;
+		}
+
+		@Override
+		public <T> Set<String> processNew(
+			Map<String, T> messages,
+			Function<T, String> productIdOf,
+			Consumer<T> handler,
+			BiConsumer<String, T> onApplied
+		) {
+			messages.forEach((messageId, message) -> {
+				handler.accept(message);
+				onApplied.accept(messageId, message);
+			});
+
+			return messages.keySet();
+		}
+	}
+}
@@ -0,0 +1,288 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventorySnapshotServiceTests {
+	static final Instant HIGH_WATERMARK = Instant.parse("2026-01-01T00:00:10Z");
+	@TempDir
+	Path directory;
+	Path snapshotPath;
+	InventoryRepository inventoryRepository;
+	InventoryStockCache inventoryStockCache;
+
+	@BeforeEach
+	void setUp() {
+		snapshotPath = directory.resolve("inventory-snapshot.avro");
+		inventoryRepository = mock(InventoryRepository.class);
+		inventoryStockCache = stockCache(inventoryRepository);
+	}
+
+	@Test
+	void shouldLoadSnapshotIntoStockCache() throws IOException {
+		writeSnapshot(
+			inventory(1L, "first-product", 20, HIGH_WATERMARK.minusSeconds(5)),
+			inventory(2L, "second-product", 0, HIGH_WATERMARK)
+		);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		snapshotService(inventoryRepository, inventoryStockCache, meterRegistry).loadSnapshot();
+
+		Assertions.assertEquals(2, inventoryStockCache.size());
+		Assertions.assertEquals(
+			Optional.of(new InventoryStockCache.CachedStock(20, InventoryStockCache.toVersion(HIGH_WATERMARK.minusSeconds(5)))),
+			inventoryStockCache.peek("first-product")
+		);
+		Assertions.assertEquals(0, inventoryStockCache.peek("second-product").orElseThrow().quantity());
+		Assertions.assertEquals(HIGH_WATERMARK, inventoryStockCache.getHighWatermark(ShardRouter.DEFAULT_SHARD));
+		Assertions.assertEquals(2.0, meterRegistry.get("inventory.snapshot.entries").gauge().value());
+		Assertions.assertEquals(
+			(double) Files.size(snapshotPath),
+			meterRegistry.get("inventory.snapshot.size").gauge().value()
+		);
+		Assertions.assertEquals(1, meterRegistry.get("inventory.snapshot.load").timer().count());
+	}
+
+	@Test
+	void shouldCatchUpFromSnapshotHighWatermark() throws IOException {
+		writeSnapshot(
+			inventory(1L, "first-product", 20, HIGH_WATERMARK.minusSeconds(5)),
+			inventory(2L, "second-product", 7, HIGH_WATERMARK)
+		);
+		Inventory changed = inventory(1L, "first-product", 12, HIGH_WATERMARK.plusSeconds(1));
+		Inventory deleted = inventory(2L, "second-product", 7, HIGH_WATERMARK.plusSeconds(2));
+		deleted.setDeletedAt(HIGH_WATERMARK.plusSeconds(2));
+		when(inventoryRepository.findAllChangedAfter(any(Instant.class), anyLong(), anyInt()))
+			.thenReturn(List.of(changed, deleted));
+
+		snapshotService(inventoryRepository, inventoryStockCache, new SimpleMeterRegistry()).run(null);
+
+		verify(inventoryRepository).findAllChangedAfter(HIGH_WATERMARK.minusMillis(5000), 0L, 100);
+		Assertions.assertEquals(12, inventoryStockCache.peek("first-product").orElseThrow().quantity());
+		Assertions.assertTrue(inventoryStockCache.peek("second-product").isEmpty());
+		Assertions.assertEquals(
+			HIGH_WATERMARK.plusSeconds(2),
+			inventoryStockCache.getHighWatermark(ShardRouter.DEFAULT_SHARD)
+		);
+	}
+
+	@Test
+	void shouldRefreshAndEvictProductKeysDuringCatchUp() {
+		ProductKeyDictionary productKeyDictionary = new ProductKeyDictionary(inventoryRepository);
+		ReflectionTestUtils.setField(productKeyDictionary, "maxEntries", 100);
+		productKeyDictionary.register("first-product", 1L);
+		productKeyDictionary.register("second-product", 2L);
+		InventoryStockCache stockCache = new InventoryStockCache(inventoryRepository, productKeyDictionary, ShardRouter.single());
+		ReflectionTestUtils.setField(stockCache, "enabled", true);
+		ReflectionTestUtils.setField(stockCache, "catchUpOverlapMs", 5000L);
+		ReflectionTestUtils.setField(stockCache, "catchUpBatchSize", 100);
+		Inventory recreated = inventory(3L, "first-product", 4, HIGH_WATERMARK);
+		Inventory deleted = inventory(2L, "second-product", 7, HIGH_WATERMARK);
+		deleted.setDeletedAt(HIGH_WATERMARK);
+		when(inventoryRepository.findAllChangedAfter(any(Instant.class), anyLong(), anyInt()))
+			.thenReturn(List.of(recreated, deleted));
+
+		stockCache.catchUp();
+
+		Assertions.assertEquals(Optional.of(3L), productKeyDictionary.resolve("first-product"));
+		Assertions.assertEquals(1, productKeyDictionary.size());
+		verify(inventoryRepository, never()).findIdByProductId("first-product");
+	}
+
+	@Test
+	void shouldDiscardTruncatedSnapshotAndStartCold() throws IOException {
+		List<Inventory> inventories = new ArrayList<>();
+
+		for (long id = 1; id <= 2000; id++) {
+			inventories.add(inventory(id, "product-" + id, (int) id, HIGH_WATERMARK));
+		}
+
+		writeSnapshot(inventories.toArray(Inventory[]::new));
+		byte[] snapshot = Files.readAllBytes(snapshotPath);
+		Files.write(snapshotPath, Arrays.copyOf(snapshot, snapshot.length / 2));
+		Inventory current = inventory(1L, "product-1", 3, HIGH_WATERMARK.plusSeconds(1));
+		when(inventoryRepository.findAllChangedAfter(any(Instant.class), anyLong(), anyInt()))
+			.thenReturn(List.of(current));
+
+		Assertions.assertDoesNotThrow(
+			() -> snapshotService(inventoryRepository, inventoryStockCache, new SimpleMeterRegistry()).run(null)
+		);
+
+		Assertions.assertFalse(Files.exists(snapshotPath));
+		verify(inventoryRepository).findAllChangedAfter(Instant.EPOCH.minusMillis(5000), 0L, 100);
+		Assertions.assertEquals(1, inventoryStockCache.size());
+		Assertions.assertEquals(3, inventoryStockCache.peek("product-1").orElseThrow().quantity());
+	}
+
+	@Test
+	void shouldDiscardCorruptSnapshotAndStartCold() throws IOException {
+		Files.writeString(snapshotPath, "not an avro container file");
+
+		Assertions.assertDoesNotThrow(
+			() -> snapshotService(inventoryRepository, inventoryStockCache, new SimpleMeterRegistry()).run(null)
+		);
+
+		Assertions.assertFalse(Files.exists(snapshotPath));
+		verify(inventoryRepository).findAllChangedAfter(Instant.EPOCH.minusMillis(5000), 0L, 100);
+	}
+
+	@Test
+	void shouldReportReadyOnlyAfterSnapshotIsLoaded() throws IOException {
+		writeSnapshot(inventory(1L, "first-product", 20, HIGH_WATERMARK));
+		ApplicationAvailabilityBean applicationAvailability = new ApplicationAvailabilityBean();
+		List<ReadinessState> readinessDuringCatchUp = new ArrayList<>();
+		when(inventoryRepository.findAllChangedAfter(any(Instant.class), anyLong(), anyInt()))
+			.thenAnswer(invocation -> {
+				readinessDuringCatchUp.add(applicationAvailability.getReadinessState());
+
+				return List.of();
+			});
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SnapshotApplication.class)
+			.web(WebApplicationType.NONE)
+			.listeners(applicationAvailability)
+			.initializers(applicationContext -> applicationContext.getBeanFactory()
+				.registerSingleton("inventoryRepository", inventoryRepository))
+			.run(
+				"--inventory.snapshot.path=" + snapshotPath,
+				"--inventory.snapshot.writer-enabled=false",
+				"--inventory.snapshot.page-size=100",
+				"--inventory.cache.enabled=true",
+				"--inventory.cache.catch-up-overlap-ms=5000",
+				"--inventory.cache.catch-up-batch-size=100",
+				"--inventory.product-key.max-entries=100"
+			)) {
+			InventoryStockCache stockCache = context.getBean(InventoryStockCache.class);
+
+			Assertions.assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessDuringCatchUp);
+			Assertions.assertEquals(20, stockCache.peek("first-product").orElseThrow().quantity());
+			Assertions.assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+		}
+	}
+
+	private void writeSnapshot(Inventory... inventories) throws IOException {
+		InventoryRepository writerRepository = mock(InventoryRepository.class);
+		when(writerRepository.findLastUpdatedAt()).thenReturn(HIGH_WATERMARK);
+		when(writerRepository.findAllAfterId(anyLong(), anyInt())).thenAnswer(invocation -> {
+			long afterId = invocation.getArgument(0);
+			int limit = invocation.getArgument(1);
+
+			return List.of(inventories).stream()
+				.filter(inventory -> inventory.getId() > afterId)
+				.limit(limit)
+				.toList();
+		});
+
+		InventorySnapshotService writer = snapshotService(
+			writerRepository,
+			stockCache(writerRepository),
+			new SimpleMeterRegistry()
+		);
+		ReflectionTestUtils.setField(writer, "writerEnabled", true);
+		writer.writeSnapshot();
+	}
+
+	private InventorySnapshotService snapshotService(
+		InventoryRepository repository,
+		InventoryStockCache stockCache,
+		MeterRegistry meterRegistry
+	) {
+		InventorySnapshotService snapshotService = new InventorySnapshotService(
+			repository,
+			stockCache,
+			ShardRouter.single(),
+			meterRegistry
+		);
+		ReflectionTestUtils.setField(snapshotService, "snapshotPath", snapshotPath);
+		ReflectionTestUtils.setField(snapshotService, "writerEnabled", false);
+		ReflectionTestUtils.setField(snapshotService, "pageSize", 100);
+
+		return snapshotService;
+	}
+
+	private static InventoryStockCache stockCache(InventoryRepository repository) {
+		InventoryStockCache stockCache = new InventoryStockCache(
+			repository,
+			new ProductKeyDictionary(repository),
+			ShardRouter.single()
+		);
+		ReflectionTestUtils.setField(stockCache, "enabled", true);
+		ReflectionTestUtils.setField(stockCache, "catchUpOverlapMs", 5000L);
+		ReflectionTestUtils.setField(stockCache, "catchUpBatchSize", 100);
+
+		return stockCache;
+	}
+
+	private static Inventory inventory(Long id, String productId, int quantity, Instant updatedAt) {
+		return Inventory.builder()
+			.id(id)
+			.productId(productId)
+			.quantity(quantity)
+			.updatedAt(updatedAt)
+			.build();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class SnapshotApplication {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean(destroyMethod = "close")
+		ShardRouter shardRouter() {
+			return ShardRouter.single();
+		}
+
+		@Bean
+		ProductKeyDictionary productKeyDictionary(InventoryRepository inventoryRepository) {
+			return new ProductKeyDictionary(inventoryRepository);
+		}
+
+		@Bean
+		InventoryStockCache inventoryStockCache(
+			InventoryRepository inventoryRepository,
+			ProductKeyDictionary productKeyDictionary,
+			ShardRouter shardRouter
+		) {
+			return new InventoryStockCache(inventoryRepository, productKeyDictionary, shardRouter);
+		}
+
+		@Bean
+		InventorySnapshotService inventorySnapshotService(
+			InventoryRepository inventoryRepository,
+			InventoryStockCache inventoryStockCache,
+			ShardRouter shardRouter,
+			MeterRegistry meterRegistry
+		) {
+			return new InventorySnapshotService(inventoryRepository, inventoryStockCache, shardRouter, meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductKeyDictionaryTests {
+	static final String PRODUCT_ID = "a876af73h3uf3hj";
+	InventoryRepository inventoryRepository;
+	ProductKeyDictionary productKeyDictionary;
+
+	@BeforeEach
+	void setUp() {
+		inventoryRepository = mock(InventoryRepository.class);
+		productKeyDictionary = new ProductKeyDictionary(inventoryRepository);
+		ReflectionTestUtils.setField(productKeyDictionary, "maxEntries", 100);
+		ReflectionTestUtils.setField(productKeyDictionary, "keysTrackedByCatchUp", false);
+	}
+
+	@Test
+	void shouldReloadStaleKeyAndRetryOnce() {
+		productKeyDictionary.register(PRODUCT_ID, 2L);
+		when(inventoryRepository.existsByIdAndProductId(2L, PRODUCT_ID)).thenReturn(false);
+		when(inventoryRepository.findIdByProductId(PRODUCT_ID)).thenReturn(Optional.of(1L));
+		List<Long> attemptedKeys = new ArrayList<>();
+
+		Optional<Boolean> applied = productKeyDictionary.testByKey(PRODUCT_ID, key -> {
+			attemptedKeys.add(key);
+
+			return key == 1L;
+		});
+
+		Assertions.assertEquals(Optional.of(true), applied);
+		Assertions.assertEquals(List.of(2L, 1L), attemptedKeys);
+		Assertions.assertEquals(Optional.of(1L), productKeyDictionary.resolve(PRODUCT_ID));
+	}
+
+	@Test
+	void shouldKeepKeyWhenOperationIsRejectedForAnExistingRow() {
+		productKeyDictionary.register(PRODUCT_ID, 1L);
+		when(inventoryRepository.existsByIdAndProductId(1L, PRODUCT_ID)).thenReturn(true);
+		List<Long> attemptedKeys = new ArrayList<>();
+
+		Optional<Boolean> applied = productKeyDictionary.testByKey(PRODUCT_ID, key -> {
+			attemptedKeys.add(key);
+
+			return false;
+		});
+
+		Assertions.assertEquals(Optional.of(false), applied);
+		Assertions.assertEquals(List.of(1L), attemptedKeys);
+		Assertions.assertEquals(Optional.of(1L), productKeyDictionary.resolve(PRODUCT_ID));
+		verify(inventoryRepository, never()).findIdByProductId(PRODUCT_ID);
+	}
+
+	@Test
+	void shouldRejectWithoutExtraQueryWhenCatchUpTracksKeys() {
+		ReflectionTestUtils.setField(productKeyDictionary, "keysTrackedByCatchUp", true);
+		productKeyDictionary.register(PRODUCT_ID, 1L);
+
+		Assertions.assertEquals(Optional.of(false), productKeyDictionary.testByKey(PRODUCT_ID, key -> false));
+		verify(inventoryRepository, never()).existsByIdAndProductId(anyLong(), anyString());
+		verify(inventoryRepository, never()).findIdByProductId(PRODUCT_ID);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedKeyWhenFull() {
+		ReflectionTestUtils.setField(productKeyDictionary, "maxEntries", 2);
+		productKeyDictionary.register("first-product", 1L);
+		productKeyDictionary.register("second-product", 2L);
+		productKeyDictionary.resolve("first-product");
+
+		productKeyDictionary.register("third-product", 3L);
+
+		Assertions.assertEquals(2, productKeyDictionary.size());
+		Assertions.assertEquals(Optional.of(1L), productKeyDictionary.resolve("first-product"));
+		Assertions.assertEquals(Optional.of(3L), productKeyDictionary.resolve("third-product"));
+		verify(inventoryRepository, never()).findIdByProductId("first-product");
+		verify(inventoryRepository, never()).findIdByProductId("third-product");
+		Assertions.assertEquals(Optional.empty(), productKeyDictionary.resolve("second-product"));
+		verify(inventoryRepository).findIdByProductId("second-product");
+	}
+
+	@Test
+	void shouldRefreshOnlyKeysAlreadyCached() {
+		productKeyDictionary.register(PRODUCT_ID, 1L);
+
+		productKeyDictionary.refresh(PRODUCT_ID, 5L);
+		productKeyDictionary.refresh("uncached-product", 6L);
+
+		Assertions.assertEquals(Optional.of(5L), productKeyDictionary.resolve(PRODUCT_ID));
+		Assertions.assertEquals(1, productKeyDictionary.size());
+	}
+
+	@Test
+	void shouldRejectWhenProductNoLongerExists() {
+		productKeyDictionary.register(PRODUCT_ID, 2L);
+		when(inventoryRepository.existsByIdAndProductId(2L, PRODUCT_ID)).thenReturn(false);
+		when(inventoryRepository.findIdByProductId(PRODUCT_ID)).thenReturn(Optional.empty());
+
+		Assertions.assertEquals(Optional.empty(), productKeyDictionary.testByKey(PRODUCT_ID, key -> false));
+		Assertions.assertEquals(0, productKeyDictionary.size());
+	}
+
+	@Test
+	void shouldNotReuseKeyRegisteredOnAnotherShard() {
+		ShardContext.setShard("shard-0");
+		productKeyDictionary.register(PRODUCT_ID, 1L);
+		ShardContext.setShard("shard-1");
+		when(inventoryRepository.findIdByProductId(PRODUCT_ID)).thenReturn(Optional.of(7L));
+
+		try {
+			Assertions.assertEquals(Optional.of(7L), productKeyDictionary.resolve(PRODUCT_ID));
+		} finally {
+			ShardContext.setShard(null);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisServiceTests {
+	static final int TTL_MINUTES = 40;
+	static final int BUCKET_MINUTES = 5;
+	StringRedisTemplate stringRedisTemplate;
+	RedisService redisService;
+	List<String> bucketKeys;
+	Object[] scriptArgs;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		redisService = new RedisService(stringRedisTemplate, new InventoryMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(redisService, "messageIdTtlMinutes", TTL_MINUTES);
+		ReflectionTestUtils.setField(redisService, "layout", MessageIdStoreLayout.BUCKETS);
+		ReflectionTestUtils.setField(redisService, "bucketMinutes", BUCKET_MINUTES);
+
+		when(stringRedisTemplate.execute(
+			any(RedisScript.class),
+			any(RedisSerializer.class),
+			any(RedisSerializer.class),
+			anyList(),
+			any(Object[].class)
+		)).thenAnswer(invocation -> {
+			bucketKeys = invocation.getArgument(3);
+			scriptArgs = Arrays.copyOfRange(invocation.getArguments(), 4, invocation.getArguments().length);
+			StringBuilder claimed = new StringBuilder();
+
+			for (int i = 1; i < scriptArgs.length; i++) {
+				claimed.append(i % 2);
+			}
+
+			return claimed.toString();
+		});
+	}
+
+	@Test
+	void shouldPackUuidIntoSixteenBytesAndBack() {
+		for (int i = 0; i < 1000; i++) {
+			UUID messageId = UUID.randomUUID();
+
+			byte[] packed = RedisService.pack(messageId.toString());
+			ByteBuffer buffer = ByteBuffer.wrap(packed);
+
+			Assertions.assertEquals(16, packed.length);
+			Assertions.assertEquals(messageId, new UUID(buffer.getLong(), buffer.getLong()));
+		}
+	}
+
+	@Test
+	void shouldKeepNonUuidMessageIdsAsUtf8() {
+		Assertions.assertArrayEquals(
+			"748f7f87ff78893983k".getBytes(StandardCharsets.UTF_8),
+			RedisService.pack("748f7f87ff78893983k")
+		);
+		Assertions.assertArrayEquals(
+			"заказ-1".getBytes(StandardCharsets.UTF_8),
+			RedisService.pack("заказ-1")
+		);
+	}
+
+	@Test
+	void shouldPackDistinctUuidsToDistinctMembers() {
+		Set<ByteBuffer> members = new HashSet<>();
+
+		for (int i = 0; i < 10_000; i++) {
+			members.add(ByteBuffer.wrap(RedisService.pack(UUID.randomUUID().toString())));
+		}
+
+		Assertions.assertEquals(10_000, members.size());
+	}
+
+	@Test
+	void shouldClaimIntoCurrentBucketAndCheckTheWholeTtlWindow() {
+		long bucketSeconds = BUCKET_MINUTES * 60L;
+		long before = Instant.now().getEpochSecond() / bucketSeconds;
+
+		redisService.setValues(List.of(UUID.randomUUID().toString()));
+
+		long after = Instant.now().getEpochSecond() / bucketSeconds;
+		long currentBucket = Long.parseLong(bucketKeys.getFirst().substring("message-ids:".length()));
+		List<String> expectedBucketKeys = new ArrayList<>();
+
+		for (long bucket = currentBucket; bucket > currentBucket - bucketKeys.size(); bucket--) {
+			expectedBucketKeys.add("message-ids:" + bucket);
+		}
+
+		Assertions.assertTrue(currentBucket >= before && currentBucket <= after);
+		Assertions.assertEquals(expectedBucketKeys, bucketKeys);
+		Assertions.assertEquals(TTL_MINUTES / BUCKET_MINUTES + 1, bucketKeys.size());
+		Assertions.assertTrue((bucketKeys.size() - 1) * bucketSeconds >= TTL_MINUTES * 60L);
+		Assertions.assertEquals(
+			Long.toString(TTL_MINUTES * 60L + bucketSeconds),
+			new String((byte[]) scriptArgs[0], StandardCharsets.US_ASCII)
+		);
+	}
+
+	@Test
+	void shouldMapScriptResultBackToMessageIds() {
+		Set<String> messageIds = new LinkedHashSet<>();
+
+		for (int i = 0; i < 6; i++) {
+			messageIds.add(UUID.randomUUID().toString());
+		}
+
+		Set<String> claimed = redisService.setValues(messageIds);
+		List<String> orderedIds = List.copyOf(messageIds);
+
+		Assertions.assertEquals(Set.of(orderedIds.get(0), orderedIds.get(2), orderedIds.get(4)), claimed);
+
+		for (int i = 0; i < orderedIds.size(); i++) {
+			Assertions.assertArrayEquals(RedisService.pack(orderedIds.get(i)), (byte[]) scriptArgs[i + 1]);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package io.github.mitohondriyaa.inventory.service;
+
+import io.github.mitohondriyaa.inventory.dto.ReshardResponse;
+import io.github.mitohondriyaa.inventory.exception.ShardingNotEnabledException;
+import io.github.mitohondriyaa.inventory.model.Inventory;
+import io.github.mitohondriyaa.inventory.repository.InventoryRepository;
+import io.github.mitohondriyaa.inventory.sharding.ShardContext;
+import io.github.mitohondriyaa.inventory.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReshardingServiceTests {
+	static final Instant UPDATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+	ShardRouter shardRouter;
+	InventoryRepository inventoryRepository;
+	InventoryStockCache inventoryStockCache;
+	ProductKeyDictionary productKeyDictionary;
+	TransactionTemplate transactionTemplate;
+	Map<String, List<Inventory>> rowsByShard;
+	List<String> lockedOnShards;
+	Map<String, List<Inventory>> copiedByShard;
+
+	@BeforeEach
+	void setUp() {
+		shardRouter = ShardRouter.sharded(List.of("shard-0", "shard-1"), 64);
+		inventoryRepository = mock(InventoryRepository.class);
+		inventoryStockCache = mock(InventoryStockCache.class);
+		productKeyDictionary = mock(ProductKeyDictionary.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		rowsByShard = new ConcurrentHashMap<>();
+		lockedOnShards = new CopyOnWriteArrayList<>();
+		copiedByShard = new ConcurrentHashMap<>();
+
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(inventoryRepository.findAllIncludingDeletedAfterId(anyLong(), anyInt())).thenAnswer(invocation -> {
+			long afterId = invocation.getArgument(0);
+			int limit = invocation.getArgument(1);
+
+			return rowsByShard.getOrDefault(ShardContext.getShard(), List.of()).stream()
+				.filter(inventory -> inventory.getId() > afterId)
+				.limit(limit)
+				.toList();
+		});
+		when(inventoryRepository.findAllByIdInForUpdate(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			lockedOnShards.add(ShardContext.getShard());
+
+			return rowsByShard.get(ShardContext.getShard()).stream()
+				.filter(inventory -> ids.contains(inventory.getId()))
+				.toList();
+		});
+		doAnswer(invocation -> {
+			copiedByShard.put(ShardContext.getShard(), List.copyOf(invocation.<Collection<Inventory>>getArgument(0)));
+			return null;
+		}).when(inventoryRepository).copyIfNewer(anyCollection());
+		when(inventoryRepository.deleteIfUnchanged(anyCollection()))
+			.thenAnswer(invocation -> invocation.<Collection<Inventory>>getArgument(0).size());
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardRouter.close();
+	}
+
+	@Test
+	void shouldMoveMisplacedRowsUnderRowLocks() {
+		List<Inventory> inventories = IntStream.range(0, 20)
+			.mapToObj(id -> inventory((long) id + 1, "product-" + id))
+			.toList();
+		rowsByShard.put("shard-0", inventories);
+		List<Inventory> misplaced = inventories.stream()
+			.filter(inventory -> shardRouter.shardFor(inventory.getProductId()).equals("shard-1"))
+			.toList();
+
+		ReshardResponse response = reshardingService(7).reshard();
+
+		Assertions.assertEquals(
+			new ReshardResponse(20L, (long) misplaced.size(), 0L),
+			response
+		);
+		Assertions.assertTrue(lockedOnShards.stream().allMatch("shard-0"::equals));
+		Assertions.assertFalse(copiedByShard.containsKey("shard-0"));
+		verify(inventoryRepository, times(lockedOnShards.size())).copyIfNewer(anyCollection());
+		verify(inventoryRepository, never()).deleteIfUnchanged(argThat(batch -> batch.stream()
+			.anyMatch(inventory -> shardRouter.shardFor(inventory.getProductId()).equals("shard-0"))));
+		misplaced.forEach(inventory -> {
+			verify(inventoryStockCache).evict(inventory.getProductId());
+			verify(productKeyDictionary).evict(inventory.getProductId());
+		});
+	}
+
+	@Test
+	void shouldCountRowsThatChangedBeforeTheyWereLocked() {
+		String productId = IntStream.range(0, 100)
+			.mapToObj(id -> "product-" + id)
+			.filter(id -> shardRouter.shardFor(id).equals("shard-1"))
+			.findFirst()
+			.orElseThrow();
+		rowsByShard.put("shard-0", List.of(inventory(1L, productId)));
+		when(inventoryRepository.deleteIfUnchanged(anyCollection())).thenReturn(0);
+
+		ReshardResponse response = reshardingService(10).reshard();
+
+		Assertions.assertEquals(new ReshardResponse(1L, 0L, 1L), response);
+		Assertions.assertEquals(
+			List.of(1L),
+			copiedByShard.get("shard-1").stream().map(Inventory::getId).toList()
+		);
+	}
+
+	@Test
+	void shouldRejectReshardingWhenShardingIsDisabled() {
+		try (ShardRouter singleShardRouter = ShardRouter.single()) {
+			ReshardingService reshardingService = new ReshardingService(
+				inventoryRepository,
+				inventoryStockCache,
+				productKeyDictionary,
+				singleShardRouter,
+				transactionTemplate
+			);
+
+			Assertions.assertThrows(ShardingNotEnabledException.class, reshardingService::reshard);
+		}
+	}
+
+	private ReshardingService reshardingService(int batchSize) {
+		ReshardingService reshardingService = new ReshardingService(
+			inventoryRepository,
+			inventoryStockCache,
+			productKeyDictionary,
+			shardRouter,
+			transactionTemplate
+		);
+		ReflectionTestUtils.setField(reshardingService, "batchSize", batchSize);
+
+		return reshardingService;
+	}
+
+	private static Inventory inventory(Long id, String productId) {
+		return Inventory.builder()
+			.id(id)
+			.productId(productId)
+			.quantity(id.intValue())
+			.updatedAt(UPDATED_AT)
+			.build();
+	}
+}
@@ -0,0 +1,73 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ConsistentHashRingTests {
+	static final int KEYS = 10_000;
+
+	@Test
+	void shouldRouteKeysDeterministically() {
+		ConsistentHashRing first = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 64);
+		ConsistentHashRing second = new ConsistentHashRing(List.of("shard-2", "shard-0", "shard-1"), 64);
+
+		for (int key = 0; key < KEYS; key++) {
+			Assertions.assertEquals(first.nodeFor("product-" + key), second.nodeFor("product-" + key));
+		}
+	}
+
+	@Test
+	void shouldSpreadKeysAcrossNodes() {
+		ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 128);
+		Map<String, Integer> counts = new HashMap<>();
+
+		for (int key = 0; key < KEYS; key++) {
+			counts.merge(ring.nodeFor("product-" + key), 1, Integer::sum);
+		}
+
+		Assertions.assertEquals(3, counts.size());
+		counts.values().forEach(count -> Assertions.assertTrue(
+			count > KEYS / 3 * 0.7 && count < KEYS / 3 * 1.3,
+			"Unbalanced ring: " + counts
+		));
+	}
+
+	@Test
+	void shouldOnlyMoveKeysToAddedNode() {
+		ConsistentHashRing before = new ConsistentHashRing(List.of("shard-0", "shard-1"), 128);
+		ConsistentHashRing after = new ConsistentHashRing(List.of("shard-0", "shard-1", "shard-2"), 128);
+		int moved = 0;
+
+		for (int key = 0; key < KEYS; key++) {
+			String previousNode = before.nodeFor("product-" + key);
+			String node = after.nodeFor("product-" + key);
+
+			if (!previousNode.equals(node)) {
+				Assertions.assertEquals("shard-2", node);
+				moved++;
+			}
+		}
+
+		Assertions.assertTrue(moved > 0 && moved < KEYS / 2, "Moved " + moved + " keys");
+	}
+
+	@Test
+	void shouldRejectRingWithoutVirtualNodes() {
+		Assertions.assertThrows(
+			IllegalArgumentException.class,
+			() -> new ConsistentHashRing(List.of("shard-0"), 0)
+		);
+	}
+
+	@Test
+	void shouldRejectRingWithoutNodes() {
+		Assertions.assertThrows(
+			IllegalArgumentException.class,
+			() -> new ConsistentHashRing(List.of(), 64)
+		);
+	}
+}
@@ -0,0 +1,122 @@
+package io.github.mitohondriyaa.inventory.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class ShardRouterTests {
+	static final List<String> PREVIOUS_SHARDS = List.of("shard-0", "shard-1");
+	static final List<String> SHARDS = List.of("shard-0", "shard-1", "shard-2");
+	ShardRouter shardRouter;
+	String movedProductId;
+
+	@BeforeEach
+	void setUp() {
+		shardRouter = ShardRouter.sharded(SHARDS, PREVIOUS_SHARDS, 64);
+		movedProductId = IntStream.range(0, 1000)
+			.mapToObj(key -> "product-" + key)
+			.filter(productId -> shardRouter.previousShardFor(productId).isPresent())
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardRouter.close();
+	}
+
+	@Test
+	void shouldReportPreviousShardOnlyForMovedKeys() {
+		ConsistentHashRing previousRing = new ConsistentHashRing(PREVIOUS_SHARDS, 64);
+
+		for (int key = 0; key < 1000; key++) {
+			String productId = "product-" + key;
+			String previousShard = previousRing.nodeFor(productId);
+			Optional<String> expected = previousShard.equals(shardRouter.shardFor(productId))
+				? Optional.empty()
+				: Optional.of(previousShard);
+
+			Assertions.assertEquals(expected, shardRouter.previousShardFor(productId));
+		}
+
+		Assertions.assertTrue(shardRouter.isResharding());
+	}
+
+	@Test
+	void shouldNotReshardWhenPreviousShardsMatch() {
+		try (ShardRouter router = ShardRouter.sharded(SHARDS, List.of("shard-2", "shard-1", "shard-0"), 64)) {
+			Assertions.assertFalse(router.isResharding());
+			Assertions.assertEquals(Optional.empty(), router.previousShardFor(movedProductId));
+		}
+	}
+
+	@Test
+	void shouldRejectPreviousShardsThatAreNotConfigured() {
+		Assertions.assertThrows(
+			IllegalArgumentException.class,
+			() -> ShardRouter.sharded(PREVIOUS_SHARDS, SHARDS, 64)
+		);
+	}
+
+	@Test
+	void shouldFallBackToPreviousShardThenRetryCurrentShard() {
+		String currentShard = shardRouter.shardFor(movedProductId);
+		String previousShard = shardRouter.previousShardFor(movedProductId).orElseThrow();
+		List<String> visitedShards = new ArrayList<>();
+
+		Optional<String> result = shardRouter.findOnShardOf(movedProductId, () -> {
+			visitedShards.add(ShardContext.getShard());
+			return Optional.empty();
+		});
+
+		Assertions.assertEquals(Optional.empty(), result);
+		Assertions.assertEquals(List.of(currentShard, previousShard, currentShard), visitedShards);
+	}
+
+	@Test
+	void shouldStopAtFirstShardThatHasTheRow() {
+		String previousShard = shardRouter.previousShardFor(movedProductId).orElseThrow();
+		List<String> visitedShards = new ArrayList<>();
+
+		Optional<String> result = shardRouter.findOnShardOf(movedProductId, () -> {
+			visitedShards.add(ShardContext.getShard());
+			return Optional.of(ShardContext.getShard()).filter(previousShard::equals);
+		});
+
+		Assertions.assertEquals(Optional.of(previousShard), result);
+		Assertions.assertEquals(2, visitedShards.size());
+	}
+
+	@Test
+	void shouldPartitionOnlyMovedKeysByPreviousShard() {
+		List<String> productIds = IntStream.range(0, 200)
+			.mapToObj(key -> "product-" + key)
+			.toList();
+		Map<String, List<String>> partitions = new ConcurrentHashMap<>();
+
+		shardRouter.forEachPreviousShardPartition(
+			productIds,
+			productId -> productId,
+			(shard, shardProductIds) -> {
+				Assertions.assertEquals(shard, ShardContext.getShard());
+				partitions.put(shard, shardProductIds);
+			}
+		);
+
+		partitions.forEach((shard, shardProductIds) -> shardProductIds.forEach(productId ->
+			Assertions.assertEquals(Optional.of(shard), shardRouter.previousShardFor(productId))
+		));
+		Assertions.assertEquals(
+			productIds.stream().filter(productId -> shardRouter.previousShardFor(productId).isPresent()).count(),
+			partitions.values().stream().mapToLong(List::size).sum()
+		);
+	}
+}
@@ -0,0 +1,128 @@
+package io.github.mitohondriyaa.inventory.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class TracingDeserializerTests {
+	static final String PRODUCER_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+	static final String PRODUCER_SPAN_ID = "00f067aa0ba902b7";
+	InMemorySpanExporter spanExporter;
+	SdkTracerProvider tracerProvider;
+	Tracer tracer;
+	TracingDeserializer tracingDeserializer;
+
+	@BeforeEach
+	void setUp() {
+		spanExporter = InMemorySpanExporter.create();
+		tracerProvider = SdkTracerProvider.builder()
+			.addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+			.build();
+		io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+		tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {});
+		tracingDeserializer = new TracingDeserializer(
+			(topic, data) -> new String(data, StandardCharsets.UTF_8),
+			new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer),
+			tracer
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		tracerProvider.close();
+	}
+
+	@Test
+	void shouldParentDecodeSpanOnProducerContextOnly() {
+		RecordHeaders headers = new RecordHeaders();
+		headers.add("traceparent", ("00-" + PRODUCER_TRACE_ID + "-" + PRODUCER_SPAN_ID + "-01")
+			.getBytes(StandardCharsets.UTF_8));
+		Span pollSpan = tracer.nextSpan().name("poll").start();
+
+		try (Tracer.SpanInScope ignored = tracer.withSpan(pollSpan)) {
+			tracingDeserializer.deserialize("order-placed", headers, "value".getBytes(StandardCharsets.UTF_8));
+
+			Assertions.assertEquals(pollSpan.context().spanId(), tracer.currentSpan().context().spanId());
+		} finally {
+			pollSpan.end();
+		}
+
+		SpanData decodeSpan = decodeSpan();
+
+		Assertions.assertEquals(SpanKind.CONSUMER, decodeSpan.getKind());
+		Assertions.assertEquals(PRODUCER_TRACE_ID, decodeSpan.getTraceId());
+		Assertions.assertEquals(PRODUCER_SPAN_ID, decodeSpan.getParentSpanId());
+	}
+
+	@Test
+	void shouldNotAttachDecodeSpanToCurrentThreadContext() {
+		Span pollSpan = tracer.nextSpan().name("poll").start();
+
+		try (Tracer.SpanInScope ignored = tracer.withSpan(pollSpan)) {
+			tracingDeserializer.deserialize(
+				"order-placed",
+				new RecordHeaders(),
+				"value".getBytes(StandardCharsets.UTF_8)
+			);
+
+			Assertions.assertEquals(pollSpan.context().spanId(), tracer.currentSpan().context().spanId());
+		} finally {
+			pollSpan.end();
+		}
+
+		SpanData decodeSpan = decodeSpan();
+
+		Assertions.assertEquals(SpanKind.CONSUMER, decodeSpan.getKind());
+		Assertions.assertFalse(decodeSpan.getParentSpanContext().isValid());
+		Assertions.assertNotEquals(pollSpan.context().traceId(), decodeSpan.getTraceId());
+	}
+
+	@Test
+	void shouldEndDecodeSpanWithErrorWhenDeserializationFails() {
+		TracingDeserializer failingDeserializer = new TracingDeserializer(
+			(topic, data) -> {
+				throw new IllegalStateException("Unknown schema id");
+			},
+			new OtelPropagator(
+				ContextPropagators.create(W3CTraceContextPropagator.getInstance()),
+				tracerProvider.get("test")
+			),
+			tracer
+		);
+
+		Assertions.assertThrows(
+			IllegalStateException.class,
+			() -> failingDeserializer.deserialize("order-placed", new RecordHeaders(), new byte[0])
+		);
+
+		Assertions.assertEquals(
+			StatusCode.ERROR,
+			decodeSpan().getStatus().getStatusCode()
+		);
+	}
+
+	private SpanData decodeSpan() {
+		return spanExporter.getFinishedSpanItems()
+			.stream()
+			.filter(span -> span.getName().equals(TracingDeserializer.DECODE_SPAN_NAME))
+			.findFirst()
+			.orElseThrow();
+	}
+}